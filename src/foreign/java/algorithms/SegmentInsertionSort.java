@@ -0,0 +1,391 @@
+package algorithms;
+
+import jdk.incubator.foreign.MemoryAccess;
+import jdk.incubator.foreign.MemorySegment;
+
+import java.nio.ByteOrder;
+
+/**
+ * In-place insertion sorts for foreign memory segments (native, mapped or heap)
+ *
+ * Compiled only by the foreign profile (incubator module jdk.incubator.foreign,
+ * JDK 17 API). The whole segment is read as 32-bit ints or 64-bit longs in an
+ * explicit byte order; sort a slice with segment.asSlice(offset, length).
+ *
+ * Same algorithms and metrics as {@link BufferInsertionSort}; the binary
+ * variant moves each block with one overlapping copyFrom (a memmove).
+ * A single instance must not be used by two threads at the same time.
+ */
+public class SegmentInsertionSort {
+
+    private final InsertionVariant variant;
+    private final boolean metricsEnabled;
+    private final SortMetrics metrics;
+
+    private long comparisons;
+    private long shifts;
+
+    /**
+     * Adaptive insertion sort with metrics enabled
+     */
+    public SegmentInsertionSort() {
+        this(InsertionVariant.ADAPTIVE, true);
+    }
+
+    /**
+     * @param variant        insertion sort variant used for every call
+     * @param metricsEnabled false skips the timer and the metrics update
+     */
+    public SegmentInsertionSort(InsertionVariant variant, boolean metricsEnabled) {
+        this.variant = variant;
+        this.metricsEnabled = metricsEnabled;
+        this.metrics = new SortMetrics();
+    }
+
+    /**
+     * Sorts the segment as 32-bit ints of the given byte order
+     *
+     * @throws IllegalArgumentException if the segment is read-only or its size
+     *                                  is not a multiple of 4 bytes
+     */
+    public void sortInts(MemorySegment segment, ByteOrder order) {
+        if (segment == null) {
+            return;
+        }
+        long n = elementCount(segment, Integer.BYTES);
+        if (n <= 1) {
+            return;
+        }
+
+        begin();
+        switch (variant) {
+            case STANDARD:
+                sortInts(segment, order, n);
+                break;
+            case BINARY:
+                binaryInsertionSortInts(segment, order, n);
+                break;
+            case SENTINEL:
+                sentinelInsertionSortInts(segment, order, n);
+                break;
+            default:
+                adaptiveInsertionSortInts(segment, order, n);
+                break;
+        }
+        end();
+    }
+
+    /**
+     * Sorts the segment as 64-bit longs of the given byte order
+     *
+     * @throws IllegalArgumentException if the segment is read-only or its size
+     *                                  is not a multiple of 8 bytes
+     */
+    public void sortLongs(MemorySegment segment, ByteOrder order) {
+        if (segment == null) {
+            return;
+        }
+        long n = elementCount(segment, Long.BYTES);
+        if (n <= 1) {
+            return;
+        }
+
+        begin();
+        switch (variant) {
+            case STANDARD:
+                sortLongs(segment, order, n);
+                break;
+            case BINARY:
+                binaryInsertionSortLongs(segment, order, n);
+                break;
+            case SENTINEL:
+                sentinelInsertionSortLongs(segment, order, n);
+                break;
+            default:
+                adaptiveInsertionSortLongs(segment, order, n);
+                break;
+        }
+        end();
+    }
+
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void begin() {
+        comparisons = 0;
+        shifts = 0;
+        if (metricsEnabled) {
+            metrics.reset();
+            metrics.startTimer();
+        }
+    }
+
+    private void end() {
+        if (metricsEnabled) {
+            metrics.stopTimer();
+            metrics.addComparisons(comparisons);
+            metrics.addShifts(shifts);
+            metrics.addArrayAccesses(comparisons + 2 * shifts);
+        }
+    }
+
+    private static long elementCount(MemorySegment segment, int elementSize) {
+        if (segment.isReadOnly()) {
+            throw new IllegalArgumentException("segment is read-only");
+        }
+        long bytes = segment.byteSize();
+        if (bytes % elementSize != 0) {
+            throw new IllegalArgumentException(bytes + " bytes is not a whole number of "
+                    + elementSize + "-byte elements");
+        }
+        return bytes / elementSize;
+    }
+
+    /**
+     * Moves elements [pos, pos + count) one slot up with a single overlapping copy
+     */
+    private static void shiftUp(MemorySegment segment, long pos, long count, int elementSize) {
+        long offset = pos * elementSize;
+        long length = count * elementSize;
+        segment.asSlice(offset + elementSize, length).copyFrom(segment.asSlice(offset, length));
+    }
+
+    // int kernels
+
+    private static int getInt(MemorySegment segment, ByteOrder order, long index) {
+        return MemoryAccess.getIntAtOffset(segment, index * Integer.BYTES, order);
+    }
+
+    private static void setInt(MemorySegment segment, ByteOrder order, long index, int value) {
+        MemoryAccess.setIntAtOffset(segment, index * Integer.BYTES, order, value);
+    }
+
+    private void sortInts(MemorySegment seg, ByteOrder order, long n) {
+        for (long i = 1; i < n; i++) {
+            int key = getInt(seg, order, i);
+            long j = i - 1;
+
+            while (j >= 0) {
+                comparisons++;
+                int value = getInt(seg, order, j);
+                if (value <= key) {
+                    break;
+                }
+                setInt(seg, order, j + 1, value);
+                shifts++;
+                j--;
+            }
+
+            setInt(seg, order, j + 1, key);
+        }
+    }
+
+    private void binaryInsertionSortInts(MemorySegment seg, ByteOrder order, long n) {
+        for (long i = 1; i < n; i++) {
+            int key = getInt(seg, order, i);
+
+            // Upper bound keeps equal elements in their original order
+            long left = 0;
+            long right = i;
+            while (left < right) {
+                long mid = (left + right) >>> 1;
+                comparisons++;
+                if (key < getInt(seg, order, mid)) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            long moved = i - left;
+            if (moved > 0) {
+                shiftUp(seg, left, moved, Integer.BYTES);
+                setInt(seg, order, left, key);
+                shifts += moved;
+            }
+        }
+    }
+
+    private void sentinelInsertionSortInts(MemorySegment seg, ByteOrder order, long n) {
+        long minIndex = 0;
+        int min = getInt(seg, order, 0);
+        for (long i = 1; i < n; i++) {
+            comparisons++;
+            int value = getInt(seg, order, i);
+            if (value < min) {
+                min = value;
+                minIndex = i;
+            }
+        }
+
+        if (minIndex != 0) {
+            setInt(seg, order, minIndex, getInt(seg, order, 0));
+            setInt(seg, order, 0, min);
+        }
+
+        for (long i = 2; i < n; i++) {
+            int key = getInt(seg, order, i);
+            long j = i - 1;
+
+            while (true) {
+                comparisons++;
+                int value = getInt(seg, order, j);
+                if (value <= key) {
+                    break;
+                }
+                setInt(seg, order, j + 1, value);
+                shifts++;
+                j--;
+            }
+
+            setInt(seg, order, j + 1, key);
+        }
+    }
+
+    private void adaptiveInsertionSortInts(MemorySegment seg, ByteOrder order, long n) {
+        for (long i = 1; i < n; i++) {
+            int key = getInt(seg, order, i);
+            int previous = getInt(seg, order, i - 1);
+            comparisons++;
+            if (key >= previous) {
+                continue;
+            }
+
+            setInt(seg, order, i, previous);
+            shifts++;
+            long j = i - 2;
+            while (j >= 0) {
+                comparisons++;
+                int value = getInt(seg, order, j);
+                if (value <= key) {
+                    break;
+                }
+                setInt(seg, order, j + 1, value);
+                shifts++;
+                j--;
+            }
+
+            setInt(seg, order, j + 1, key);
+        }
+    }
+
+    // long kernels
+
+    private static long getLong(MemorySegment segment, ByteOrder order, long index) {
+        return MemoryAccess.getLongAtOffset(segment, index * Long.BYTES, order);
+    }
+
+    private static void setLong(MemorySegment segment, ByteOrder order, long index, long value) {
+        MemoryAccess.setLongAtOffset(segment, index * Long.BYTES, order, value);
+    }
+
+    private void sortLongs(MemorySegment seg, ByteOrder order, long n) {
+        for (long i = 1; i < n; i++) {
+            long key = getLong(seg, order, i);
+            long j = i - 1;
+
+            while (j >= 0) {
+                comparisons++;
+                long value = getLong(seg, order, j);
+                if (value <= key) {
+                    break;
+                }
+                setLong(seg, order, j + 1, value);
+                shifts++;
+                j--;
+            }
+
+            setLong(seg, order, j + 1, key);
+        }
+    }
+
+    private void binaryInsertionSortLongs(MemorySegment seg, ByteOrder order, long n) {
+        for (long i = 1; i < n; i++) {
+            long key = getLong(seg, order, i);
+
+            // Upper bound keeps equal elements in their original order
+            long left = 0;
+            long right = i;
+            while (left < right) {
+                long mid = (left + right) >>> 1;
+                comparisons++;
+                if (key < getLong(seg, order, mid)) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            long moved = i - left;
+            if (moved > 0) {
+                shiftUp(seg, left, moved, Long.BYTES);
+                setLong(seg, order, left, key);
+                shifts += moved;
+            }
+        }
+    }
+
+    private void sentinelInsertionSortLongs(MemorySegment seg, ByteOrder order, long n) {
+        long minIndex = 0;
+        long min = getLong(seg, order, 0);
+        for (long i = 1; i < n; i++) {
+            comparisons++;
+            long value = getLong(seg, order, i);
+            if (value < min) {
+                min = value;
+                minIndex = i;
+            }
+        }
+
+        if (minIndex != 0) {
+            setLong(seg, order, minIndex, getLong(seg, order, 0));
+            setLong(seg, order, 0, min);
+        }
+
+        for (long i = 2; i < n; i++) {
+            long key = getLong(seg, order, i);
+            long j = i - 1;
+
+            while (true) {
+                comparisons++;
+                long value = getLong(seg, order, j);
+                if (value <= key) {
+                    break;
+                }
+                setLong(seg, order, j + 1, value);
+                shifts++;
+                j--;
+            }
+
+            setLong(seg, order, j + 1, key);
+        }
+    }
+
+    private void adaptiveInsertionSortLongs(MemorySegment seg, ByteOrder order, long n) {
+        for (long i = 1; i < n; i++) {
+            long key = getLong(seg, order, i);
+            long previous = getLong(seg, order, i - 1);
+            comparisons++;
+            if (key >= previous) {
+                continue;
+            }
+
+            setLong(seg, order, i, previous);
+            shifts++;
+            long j = i - 2;
+            while (j >= 0) {
+                comparisons++;
+                long value = getLong(seg, order, j);
+                if (value <= key) {
+                    break;
+                }
+                setLong(seg, order, j + 1, value);
+                shifts++;
+                j--;
+            }
+
+            setLong(seg, order, j + 1, key);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package algorithms;
+
+import jdk.incubator.foreign.MemoryAccess;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SegmentInsertionSort (foreign profile only)
+ */
+class SegmentInsertionSortTest {
+
+    // Correctness Tests
+
+    @ParameterizedTest
+    @EnumSource(InsertionVariant.class)
+    @DisplayName("Test native int segments in both byte orders")
+    void testNativeInts(InsertionVariant variant) {
+        Random rand = new Random(21);
+        SegmentInsertionSort sorter = new SegmentInsertionSort(variant, true);
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            for (int n : new int[]{2, 3, 31, 500}) {
+                int[] values = rand.ints(n, -50, 50).toArray();
+                int[] expected = values.clone();
+                Arrays.sort(expected);
+
+                try (ResourceScope scope = ResourceScope.newConfinedScope()) {
+                    MemorySegment segment = MemorySegment.allocateNative(4L * n, scope);
+                    for (int i = 0; i < n; i++) {
+                        MemoryAccess.setIntAtOffset(segment, 4L * i, order, values[i]);
+                    }
+                    sorter.sortInts(segment, order);
+
+                    for (int i = 0; i < n; i++) {
+                        assertEquals(expected[i], MemoryAccess.getIntAtOffset(segment, 4L * i, order),
+                                variant + ", " + order + ", n=" + n);
+                    }
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(InsertionVariant.class)
+    @DisplayName("Test long segments and slices")
+    void testLongSlices(InsertionVariant variant) {
+        long[] values = {9, 8, 5, Long.MAX_VALUE, Long.MIN_VALUE, 5, 1, 0};
+        MemorySegment segment = MemorySegment.ofArray(values);
+        new SegmentInsertionSort(variant, false).sortLongs(segment.asSlice(16, 32), ByteOrder.nativeOrder());
+
+        assertArrayEquals(new long[]{9, 8, Long.MIN_VALUE, 5, 5, Long.MAX_VALUE, 1, 0}, values);
+    }
+
+    // Argument Tests
+
+    @Test
+    @DisplayName("Test read-only and misaligned segments")
+    void testArguments() {
+        SegmentInsertionSort sorter = new SegmentInsertionSort();
+        assertDoesNotThrow(() -> sorter.sortInts(null, ByteOrder.BIG_ENDIAN));
+        assertThrows(IllegalArgumentException.class,
+                () -> sorter.sortInts(MemorySegment.ofArray(new int[]{2, 1}).asReadOnly(), ByteOrder.BIG_ENDIAN));
+        assertThrows(IllegalArgumentException.class,
+                () -> sorter.sortLongs(MemorySegment.ofArray(new int[3]), ByteOrder.BIG_ENDIAN));
+    }
+}
@@ -0,0 +1,109 @@
+package benchmarks;
+
+import algorithms.BatchInsertionSort;
+import algorithms.InsertionSort;
+import algorithms.InsertionVariant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many tiny arrays: one InsertionSort per array vs the batch API
+ * (int[][] sequential and parallel, flat buffer + offsets)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BatchSortBenchmark {
+
+    @Param({"100000"})
+    public int arrays;
+
+    @Param({"8", "64"})
+    public int maxLength;
+
+    private int[][] source;
+    private int[][] work;
+    private int[] flatSource;
+    private int[] flatWork;
+    private int[] offsets;
+    private BatchInsertionSort sequential;
+    private BatchInsertionSort parallel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom rand = new SplittableRandom(42L);
+        source = new int[arrays][];
+        work = new int[arrays][];
+        offsets = new int[arrays + 1];
+        for (int i = 0; i < arrays; i++) {
+            int length = 1 + rand.nextInt(maxLength);
+            source[i] = rand.ints(length, 0, 1_000_000).toArray();
+            work[i] = new int[length];
+            offsets[i + 1] = offsets[i] + length;
+        }
+        flatSource = new int[offsets[arrays]];
+        for (int i = 0; i < arrays; i++) {
+            System.arraycopy(source[i], 0, flatSource, offsets[i], source[i].length);
+        }
+        flatWork = new int[flatSource.length];
+
+        sequential = new BatchInsertionSort(null, InsertionVariant.ADAPTIVE, false);
+        parallel = new BatchInsertionSort(ForkJoinPool.commonPool(), InsertionVariant.ADAPTIVE, false);
+    }
+
+    private void copyArrays() {
+        for (int i = 0; i < arrays; i++) {
+            System.arraycopy(source[i], 0, work[i], 0, source[i].length);
+        }
+    }
+
+    @Benchmark
+    public void perArraySorter(Blackhole bh) {
+        copyArrays();
+        for (int[] arr : work) {
+            InsertionSort sorter = new InsertionSort();
+            sorter.adaptiveInsertionSort(arr);
+            bh.consume(sorter.getMetrics());
+        }
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void batchSequential(Blackhole bh) {
+        copyArrays();
+        sequential.sortAll(work);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void batchParallel(Blackhole bh) {
+        copyArrays();
+        parallel.sortAll(work);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void batchFlat(Blackhole bh) {
+        System.arraycopy(flatSource, 0, flatWork, 0, flatSource.length);
+        sequential.sortAll(flatWork, offsets);
+        bh.consume(flatWork);
+    }
+}
@@ -0,0 +1,39 @@
+package benchmarks;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+/**
+ * Entry point of benchmarks.jar
+ * Accepts the usual JMH command line and writes results as both
+ * jmh-results.json and jmh-results.csv
+ */
+public class BenchmarkMain {
+
+    private static final String JSON_FILE = "jmh-results.json";
+    private static final String CSV_FILE = "jmh-results.csv";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+
+        Options options = new OptionsBuilder()
+                .parent(cmdOptions)
+                .resultFormat(ResultFormatType.JSON)
+                .result(JSON_FILE)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        ResultFormatFactory.getInstance(ResultFormatType.CSV, CSV_FILE).writeOut(results);
+        System.out.println("\n✓ Results exported to " + JSON_FILE + " and " + CSV_FILE);
+    }
+}
@@ -0,0 +1,86 @@
+package benchmarks;
+
+import algorithms.BufferInsertionSort;
+import algorithms.FastInsertionSort;
+import algorithms.InsertionVariant;
+import data.Distribution;
+import data.InputGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-place sort of a direct buffer vs copying it to an int[], sorting and copying back
+ * Run with -prof gc to compare allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BufferSortBenchmark {
+
+    @Param({"RANDOM", "NEARLY_SORTED"})
+    public Distribution dataType;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private int[] source;
+    private IntBuffer direct;
+    private BufferInsertionSort binary;
+    private BufferInsertionSort adaptive;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = new InputGenerator(42L).generate(dataType, size);
+        direct = ByteBuffer.allocateDirect(4 * size).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        binary = new BufferInsertionSort(InsertionVariant.BINARY, false);
+        adaptive = new BufferInsertionSort(InsertionVariant.ADAPTIVE, false);
+    }
+
+    private void reset() {
+        direct.clear();
+        direct.put(source).flip();
+    }
+
+    @Benchmark
+    public void inPlaceBinary(Blackhole bh) {
+        reset();
+        binary.sort(direct);
+        bh.consume(direct);
+    }
+
+    @Benchmark
+    public void inPlaceAdaptive(Blackhole bh) {
+        reset();
+        adaptive.sort(direct);
+        bh.consume(direct);
+    }
+
+    @Benchmark
+    public void copySortCopyBack(Blackhole bh) {
+        reset();
+        int[] heap = new int[size];
+        direct.get(0, heap);
+        FastInsertionSort.blockBinaryInsertionSort(heap);
+        direct.put(0, heap);
+        bh.consume(direct);
+    }
+}
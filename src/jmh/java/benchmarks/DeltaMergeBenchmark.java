@@ -0,0 +1,82 @@
+package benchmarks;
+
+import algorithms.FastInsertionSort;
+import algorithms.SortedMerge;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appending an unsorted delta to a sorted base, swept over delta/base ratios:
+ * galloping backwards merge vs concatenating and re-sorting
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DeltaMergeBenchmark {
+
+    @Param({"100000"})
+    public int baseSize;
+
+    @Param({"0.0001", "0.001", "0.01", "0.1"})
+    public double ratio;
+
+    private int[] base;
+    private int[] delta;
+    private int[] work;
+    private int[] deltaWork;
+    private final SortedMerge merger = new SortedMerge(false);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rand = new Random(42L);
+        int deltaSize = Math.max(1, (int) (baseSize * ratio));
+        base = rand.ints(baseSize).sorted().toArray();
+        delta = rand.ints(deltaSize).toArray();
+        work = new int[baseSize + deltaSize];
+        deltaWork = new int[deltaSize];
+    }
+
+    @Benchmark
+    public void gallopingMerge(Blackhole bh) {
+        System.arraycopy(base, 0, work, 0, baseSize);
+        System.arraycopy(delta, 0, deltaWork, 0, delta.length);
+        bh.consume(merger.merge(work, baseSize, deltaWork));
+    }
+
+    @Benchmark
+    public void concatArraysSort(Blackhole bh) {
+        concat();
+        Arrays.sort(work);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void concatAdaptiveInsertionSort(Blackhole bh) {
+        concat();
+        FastInsertionSort.adaptiveInsertionSort(work);
+        bh.consume(work);
+    }
+
+    private void concat() {
+        System.arraycopy(base, 0, work, 0, baseSize);
+        System.arraycopy(delta, 0, work, baseSize, delta.length);
+    }
+}
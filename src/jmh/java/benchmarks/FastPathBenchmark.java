@@ -0,0 +1,79 @@
+package benchmarks;
+
+import algorithms.InsertionSort;
+import data.Distribution;
+import data.InputGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instrumented vs metrics-off InsertionSort.sort vs a hand-written loop
+ * The metrics-off score should be indistinguishable from handWritten
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FastPathBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private int[] source;
+    private int[] work;
+    private InsertionSort instrumented;
+    private InsertionSort uninstrumented;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = new InputGenerator(42L).generate(Distribution.RANDOM, size);
+        work = new int[size];
+        instrumented = new InsertionSort();
+        uninstrumented = new InsertionSort(false);
+    }
+
+    @Benchmark
+    public void instrumented(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        instrumented.sort(work);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void metricsOff(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        uninstrumented.sort(work);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void handWritten(Blackhole bh) {
+        int[] a = work;
+        System.arraycopy(source, 0, a, 0, size);
+        for (int i = 1; i < a.length; i++) {
+            int key = a[i];
+            int j = i - 1;
+            while (j >= 0 && a[j] > key) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = key;
+        }
+        bh.consume(a);
+    }
+}
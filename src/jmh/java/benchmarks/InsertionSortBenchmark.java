@@ -0,0 +1,103 @@
+package benchmarks;
+
+import algorithms.InsertionSort;
+import data.Distribution;
+import data.InputGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for the InsertionSort variants (plus the hybrid sort)
+ * across every data distribution and the BenchmarkRunner test sizes
+ *
+ * Input is generated once per trial with a fixed seed; each invocation
+ * only copies it into a work buffer (measured separately by copyOnly).
+ * Reverse/Adversarial at n=100000 are quadratic and slow - narrow with -p size=... if needed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class InsertionSortBenchmark {
+
+    @Param({"RANDOM", "SORTED", "REVERSE", "NEARLY_SORTED", "FEW_UNIQUE", "SAWTOOTH", "ORGAN_PIPE",
+            "K_SORTED", "ZIPF", "SORTED_RANDOM_TAIL", "ADVERSARIAL"})
+    public Distribution dataType;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    private int[] source;
+    private int[] work;
+    private InsertionSort sorter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = new InputGenerator(42L).generate(dataType, size);
+        work = new int[size];
+        sorter = new InsertionSort(false);
+    }
+
+    @Benchmark
+    public void copyOnly(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void sort(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        sorter.sort(work);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void binaryInsertionSort(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        sorter.binaryInsertionSort(work);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void blockBinaryInsertionSort(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        sorter.blockBinaryInsertionSort(work);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void sentinelInsertionSort(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        sorter.sentinelInsertionSort(work);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void adaptiveInsertionSort(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        sorter.adaptiveInsertionSort(work);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void hybridSort(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        sorter.hybridSort(work);
+        bh.consume(work);
+    }
+}
@@ -0,0 +1,118 @@
+package benchmarks;
+
+import algorithms.InsertionSort;
+import data.Distribution;
+import data.InputGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stable key/payload sorts vs sorting the keys alone
+ * The payload is the original index; keysOnly* shows the cost of moving it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class KeyPayloadBenchmark {
+
+    @Param({"RANDOM", "NEARLY_SORTED", "FEW_UNIQUE"})
+    public Distribution dataType;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private int[] source;
+    private int[] keys;
+    private int[] payload;
+    private long[] longPayload;
+    private InsertionSort sorter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = new InputGenerator(42L).generate(dataType, size);
+        keys = new int[size];
+        payload = new int[size];
+        longPayload = new long[size];
+        sorter = new InsertionSort(false);
+    }
+
+    private void reset() {
+        System.arraycopy(source, 0, keys, 0, size);
+        for (int i = 0; i < size; i++) {
+            payload[i] = i;
+            longPayload[i] = i;
+        }
+    }
+
+    @Benchmark
+    public void keysOnlyBinary(Blackhole bh) {
+        reset();
+        sorter.blockBinaryInsertionSort(keys);
+        bh.consume(keys);
+    }
+
+    @Benchmark
+    public void keysOnlyAdaptive(Blackhole bh) {
+        reset();
+        sorter.adaptiveInsertionSort(keys);
+        bh.consume(keys);
+    }
+
+    @Benchmark
+    public void pairsStandard(Blackhole bh) {
+        reset();
+        sorter.sort(keys, payload);
+        bh.consume(payload);
+    }
+
+    @Benchmark
+    public void pairsBinary(Blackhole bh) {
+        reset();
+        sorter.binaryInsertionSort(keys, payload);
+        bh.consume(payload);
+    }
+
+    @Benchmark
+    public void pairsSentinel(Blackhole bh) {
+        reset();
+        sorter.sentinelInsertionSort(keys, payload);
+        bh.consume(payload);
+    }
+
+    @Benchmark
+    public void pairsAdaptive(Blackhole bh) {
+        reset();
+        sorter.adaptiveInsertionSort(keys, payload);
+        bh.consume(payload);
+    }
+
+    @Benchmark
+    public void longPairsBinary(Blackhole bh) {
+        reset();
+        sorter.binaryInsertionSort(keys, longPayload);
+        bh.consume(longPayload);
+    }
+
+    @Benchmark
+    public void longPairsAdaptive(Blackhole bh) {
+        reset();
+        sorter.adaptiveInsertionSort(keys, longPayload);
+        bh.consume(longPayload);
+    }
+}
@@ -0,0 +1,73 @@
+package benchmarks;
+
+import algorithms.InsertionVariant;
+import algorithms.ParallelInsertionSort;
+import data.Distribution;
+import data.InputGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ParallelInsertionSort thread scaling
+ * Speedup for t threads = score(threads=1) / score(threads=t)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ParallelSortBenchmark {
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    @Param({"256", "512", "2048"})
+    public int granularity;
+
+    @Param({"RANDOM", "NEARLY_SORTED"})
+    public Distribution dataType;
+
+    @Param({"1000000"})
+    public int size;
+
+    private int[] source;
+    private int[] work;
+    private ForkJoinPool pool;
+    private ParallelInsertionSort sorter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = new InputGenerator(42L).generate(dataType, size);
+        work = new int[size];
+        pool = new ForkJoinPool(threads);
+        sorter = new ParallelInsertionSort(pool, granularity, InsertionVariant.ADAPTIVE, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void parallelSort(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        sorter.sort(work);
+        bh.consume(work);
+    }
+}
@@ -0,0 +1,72 @@
+package benchmarks;
+
+import algorithms.FastInsertionSort;
+import algorithms.InsertionSort;
+import data.Distribution;
+import data.InputGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Range-detecting counting/radix sort vs adaptive insertion sort and Arrays.sort
+ * (FEW_UNIQUE takes the counting path, RANDOM the radix path)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RadixSortBenchmark {
+
+    @Param({"FEW_UNIQUE", "RANDOM", "NEARLY_SORTED"})
+    public Distribution dataType;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private int[] source;
+    private int[] work;
+    private final InsertionSort sorter = new InsertionSort(false);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = new InputGenerator(42L).generate(dataType, size);
+        work = new int[size];
+    }
+
+    @Benchmark
+    public void radixSort(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        sorter.radixSort(work);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void adaptiveInsertionSort(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        FastInsertionSort.adaptiveInsertionSort(work);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void arraysSort(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        Arrays.sort(work);
+        bh.consume(work);
+    }
+}
@@ -0,0 +1,61 @@
+package benchmarks;
+
+import algorithms.GapSequence;
+import algorithms.ShellSort;
+import data.Distribution;
+import data.InputGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shell sort gap sequences on mid-sized arrays
+ * (InsertionSortBenchmark has the insertion sort variants on the same inputs)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ShellSortBenchmark {
+
+    @Param({"RANDOM", "REVERSE", "NEARLY_SORTED"})
+    public Distribution dataType;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    @Param({"CIURA", "TOKUDA", "SEDGEWICK", "PRATT"})
+    public GapSequence sequence;
+
+    private int[] source;
+    private int[] work;
+    private ShellSort sorter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = new InputGenerator(42L).generate(dataType, size);
+        work = new int[size];
+        sorter = new ShellSort(sequence, false);
+    }
+
+    @Benchmark
+    public void shellSort(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        sorter.sort(work);
+        bh.consume(work);
+    }
+}
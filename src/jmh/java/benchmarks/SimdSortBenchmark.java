@@ -0,0 +1,79 @@
+package benchmarks;
+
+import algorithms.FastInsertionSort;
+import algorithms.SimdInsertionSort;
+import data.Distribution;
+import data.InputGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vector API engine vs the scalar binary and sentinel insertion sorts
+ * Build with -Pjmh,vector; without the vector profile the simd* methods
+ * measure the scalar fallback. The engine in use is printed once per fork.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class SimdSortBenchmark {
+
+    @Param({"RANDOM", "NEARLY_SORTED", "FEW_UNIQUE"})
+    public Distribution dataType;
+
+    @Param({"256", "1024", "4096"})
+    public int size;
+
+    private int[] source;
+    private int[] work;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = new InputGenerator(42L).generate(dataType, size);
+        work = new int[size];
+        System.out.println("SimdInsertionSort engine: " + SimdInsertionSort.getEngineName());
+    }
+
+    @Benchmark
+    public void scalarBinary(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        FastInsertionSort.binaryInsertionSort(work);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void simdBinary(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        SimdInsertionSort.binaryInsertionSort(work);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void scalarSentinel(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        FastInsertionSort.sentinelInsertionSort(work);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void simdSentinel(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        SimdInsertionSort.sentinelInsertionSort(work);
+        bh.consume(work);
+    }
+}
@@ -0,0 +1,122 @@
+package benchmarks;
+
+import algorithms.FastInsertionSort;
+import algorithms.SortingNetworks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorting networks vs the uninstrumented insertion sorts on tiny random arrays
+ * Each invocation sorts ARRAYS different arrays so branch history cannot
+ * learn a single input; scores are per array.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+@OperationsPerInvocation(SmallSortBenchmark.ARRAYS)
+public class SmallSortBenchmark {
+
+    static final int ARRAYS = 1024;
+
+    @Param({"4", "8", "12", "16"})
+    public int size;
+
+    private int[][] source;
+    private int[][] work;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom rand = new SplittableRandom(42L);
+        source = new int[ARRAYS][];
+        work = new int[ARRAYS][];
+        for (int i = 0; i < ARRAYS; i++) {
+            source[i] = rand.ints(size).toArray();
+            work[i] = new int[size];
+        }
+    }
+
+    private void copy() {
+        for (int i = 0; i < ARRAYS; i++) {
+            System.arraycopy(source[i], 0, work[i], 0, size);
+        }
+    }
+
+    @Benchmark
+    public void copyOnly(Blackhole bh) {
+        copy();
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void network(Blackhole bh) {
+        copy();
+        for (int[] arr : work) {
+            SortingNetworks.sort(arr);
+        }
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void standard(Blackhole bh) {
+        copy();
+        for (int[] arr : work) {
+            FastInsertionSort.sort(arr);
+        }
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void binary(Blackhole bh) {
+        copy();
+        for (int[] arr : work) {
+            FastInsertionSort.binaryInsertionSort(arr);
+        }
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void sentinel(Blackhole bh) {
+        copy();
+        for (int[] arr : work) {
+            FastInsertionSort.sentinelInsertionSort(arr);
+        }
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void adaptive(Blackhole bh) {
+        copy();
+        for (int[] arr : work) {
+            FastInsertionSort.adaptiveInsertionSort(arr);
+        }
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void arraysSort(Blackhole bh) {
+        copy();
+        for (int[] arr : work) {
+            Arrays.sort(arr);
+        }
+        bh.consume(work);
+    }
+}
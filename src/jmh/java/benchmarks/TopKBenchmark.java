@@ -0,0 +1,73 @@
+package benchmarks;
+
+import algorithms.FastInsertionSort;
+import algorithms.TopK;
+import data.Distribution;
+import data.InputGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * k smallest of a large array: bounded insertion (partialSort, TopK) vs a full Arrays.sort
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class TopKBenchmark {
+
+    @Param({"RANDOM", "NEARLY_SORTED"})
+    public Distribution dataType;
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"10", "100", "1000"})
+    public int k;
+
+    private int[] source;
+    private int[] work;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = new InputGenerator(42L).generate(dataType, size);
+        work = new int[size];
+    }
+
+    @Benchmark
+    public void partialSort(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        FastInsertionSort.partialSort(work, k);
+        bh.consume(work);
+    }
+
+    @Benchmark
+    public void topKCollector(Blackhole bh) {
+        TopK top = TopK.smallest(k);
+        top.addAll(source);
+        bh.consume(top.toArray());
+    }
+
+    @Benchmark
+    public void fullArraysSort(Blackhole bh) {
+        System.arraycopy(source, 0, work, 0, size);
+        Arrays.sort(work);
+        bh.consume(Arrays.copyOf(work, k));
+    }
+}
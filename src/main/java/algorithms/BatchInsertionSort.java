@@ -0,0 +1,188 @@
+package algorithms;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Sorts many small independent arrays in one call
+ *
+ * Input is either an int[][] or one flat buffer where array i occupies
+ * data[offsets[i], offsets[i + 1]). Each array is sorted in place with the
+ * chosen insertion sort variant; nothing is allocated per array and metrics
+ * are reset and timed once per batch instead of once per array.
+ *
+ * With a pool, the arrays are split into tasks of ARRAYS_PER_TASK arrays
+ * that run in parallel; per-task metrics are summed on join.
+ * A single instance must not be used by two threads at the same time.
+ */
+public class BatchInsertionSort {
+
+    /** Arrays handled by one fork-join task */
+    static final int ARRAYS_PER_TASK = 1024;
+
+    private final ForkJoinPool pool;
+    private final InsertionVariant variant;
+    private final boolean metricsEnabled;
+    private final InsertionSort sequential;
+    private SortMetrics metrics;
+
+    /**
+     * Sequential batches with adaptive insertion sort and metrics enabled
+     */
+    public BatchInsertionSort() {
+        this(null, InsertionVariant.ADAPTIVE, true);
+    }
+
+    /**
+     * @param pool           pool for parallel batches, or null to sort on the calling thread
+     * @param variant        insertion sort variant used for every array
+     * @param metricsEnabled false uses the uninstrumented kernels
+     */
+    public BatchInsertionSort(ForkJoinPool pool, InsertionVariant variant,
+                              boolean metricsEnabled) {
+        this.pool = pool;
+        this.variant = variant;
+        this.metricsEnabled = metricsEnabled;
+        this.sequential = new InsertionSort(true);
+        this.metrics = new SortMetrics();
+    }
+
+    /**
+     * Sorts every array of the batch in place; null entries are skipped
+     */
+    public void sortAll(int[][] arrays) {
+        if (arrays == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        if (pool == null || arrays.length <= ARRAYS_PER_TASK) {
+            metrics = sortArrays(arrays, 0, arrays.length, sequential);
+        } else {
+            metrics = pool.invoke(new ArraysTask(arrays, 0, arrays.length));
+        }
+        metrics.setExecutionTimeNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Sorts data[offsets[i], offsets[i + 1]) in place for every i
+     *
+     * @param offsets non-decreasing start offsets followed by the end of the last array
+     *                (offsets.length - 1 arrays)
+     */
+    public void sortAll(int[] data, int[] offsets) {
+        if (data == null || offsets == null || offsets.length < 2) {
+            return;
+        }
+        checkOffsets(data.length, offsets);
+
+        long start = System.nanoTime();
+        int count = offsets.length - 1;
+        if (pool == null || count <= ARRAYS_PER_TASK) {
+            metrics = sortSlices(data, offsets, 0, count, sequential);
+        } else {
+            metrics = pool.invoke(new SlicesTask(data, offsets, 0, count));
+        }
+        metrics.setExecutionTimeNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Aggregated metrics of the last batch (all arrays, all threads)
+     */
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+
+    private SortMetrics sortArrays(int[][] arrays, int lo, int hi, InsertionSort leaf) {
+        SortMetrics counts = beginLeaf(leaf);
+        for (int i = lo; i < hi; i++) {
+            int[] arr = arrays[i];
+            if (arr != null) {
+                sortRange(leaf, arr, 0, arr.length);
+            }
+        }
+        return counts;
+    }
+
+    private SortMetrics sortSlices(int[] data, int[] offsets, int lo, int hi, InsertionSort leaf) {
+        SortMetrics counts = beginLeaf(leaf);
+        for (int i = lo; i < hi; i++) {
+            sortRange(leaf, data, offsets[i], offsets[i + 1]);
+        }
+        return counts;
+    }
+
+    /**
+     * Clears the leaf sorter's counters; the range kernels count straight into them
+     */
+    private SortMetrics beginLeaf(InsertionSort leaf) {
+        leaf.getMetrics().reset();
+        return leaf.getMetrics();
+    }
+
+    private void sortRange(InsertionSort leaf, int[] arr, int from, int to) {
+        variant.sortRange(arr, from, to, metricsEnabled ? leaf : null);
+    }
+
+    private static void checkOffsets(int length, int[] offsets) {
+        if (offsets[0] < 0 || offsets[offsets.length - 1] > length) {
+            throw new IllegalArgumentException("offsets out of range [0, " + length + "]");
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            if (offsets[i] < offsets[i - 1]) {
+                throw new IllegalArgumentException("offsets must be non-decreasing at index " + i);
+            }
+        }
+    }
+
+    private class ArraysTask extends RecursiveTask<SortMetrics> {
+        private final int[][] arrays;
+        private final int lo;
+        private final int hi;
+
+        ArraysTask(int[][] arrays, int lo, int hi) {
+            this.arrays = arrays;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected SortMetrics compute() {
+            if (hi - lo <= ARRAYS_PER_TASK) {
+                return sortArrays(arrays, lo, hi, new InsertionSort(true));
+            }
+            int mid = (lo + hi) >>> 1;
+            ArraysTask left = new ArraysTask(arrays, lo, mid);
+            left.fork();
+            SortMetrics result = new ArraysTask(arrays, mid, hi).compute();
+            result.add(left.join());
+            return result;
+        }
+    }
+
+    private class SlicesTask extends RecursiveTask<SortMetrics> {
+        private final int[] data;
+        private final int[] offsets;
+        private final int lo;
+        private final int hi;
+
+        SlicesTask(int[] data, int[] offsets, int lo, int hi) {
+            this.data = data;
+            this.offsets = offsets;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected SortMetrics compute() {
+            if (hi - lo <= ARRAYS_PER_TASK) {
+                return sortSlices(data, offsets, lo, hi, new InsertionSort(true));
+            }
+            int mid = (lo + hi) >>> 1;
+            SlicesTask left = new SlicesTask(data, offsets, lo, mid);
+            left.fork();
+            SortMetrics result = new SlicesTask(data, offsets, mid, hi).compute();
+            result.add(left.join());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package algorithms;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * In-place insertion sorts for NIO buffers (heap, direct or memory-mapped)
+ *
+ * Elements in [position, limit) are sorted with absolute get/put, so the
+ * buffer's position and limit are unchanged and no data is copied to the
+ * heap. IntBuffer/LongBuffer use the buffer's own byte order; the ByteBuffer
+ * overloads read the bytes as ints or longs in an explicit byte order,
+ * independent of the order the buffer is currently set to.
+ *
+ * Same algorithms as {@link InsertionSort}; the binary variant finds the
+ * upper bound and moves the block with one bulk put (a memmove for direct
+ * buffers). Counters are kept in fields and added to the metrics once per sort.
+ * A single instance must not be used by two threads at the same time.
+ */
+public class BufferInsertionSort {
+
+    private final InsertionVariant variant;
+    private final boolean metricsEnabled;
+    private final SortMetrics metrics;
+
+    private long comparisons;
+    private long shifts;
+
+    /**
+     * Adaptive insertion sort with metrics enabled
+     */
+    public BufferInsertionSort() {
+        this(InsertionVariant.ADAPTIVE, true);
+    }
+
+    /**
+     * @param variant        insertion sort variant used for every call
+     * @param metricsEnabled false skips the timer and the metrics update
+     */
+    public BufferInsertionSort(InsertionVariant variant, boolean metricsEnabled) {
+        this.variant = variant;
+        this.metricsEnabled = metricsEnabled;
+        this.metrics = new SortMetrics();
+    }
+
+    /**
+     * Sorts buffer[position, limit) in place
+     *
+     * @throws IllegalArgumentException if the buffer is read-only
+     */
+    public void sort(IntBuffer buffer) {
+        if (buffer == null) {
+            return;
+        }
+        checkWritable(buffer.isReadOnly());
+        int from = buffer.position();
+        int to = buffer.limit();
+        if (to - from <= 1) {
+            return;
+        }
+
+        begin();
+        switch (variant) {
+            case STANDARD:
+                sortRange(buffer, from, to);
+                break;
+            case BINARY:
+                binaryInsertionSortRange(buffer, from, to);
+                break;
+            case SENTINEL:
+                sentinelInsertionSortRange(buffer, from, to);
+                break;
+            default:
+                adaptiveInsertionSortRange(buffer, from, to);
+                break;
+        }
+        end();
+    }
+
+    /**
+     * Sorts buffer[position, limit) in place
+     *
+     * @throws IllegalArgumentException if the buffer is read-only
+     */
+    public void sort(LongBuffer buffer) {
+        if (buffer == null) {
+            return;
+        }
+        checkWritable(buffer.isReadOnly());
+        int from = buffer.position();
+        int to = buffer.limit();
+        if (to - from <= 1) {
+            return;
+        }
+
+        begin();
+        switch (variant) {
+            case STANDARD:
+                sortRange(buffer, from, to);
+                break;
+            case BINARY:
+                binaryInsertionSortRange(buffer, from, to);
+                break;
+            case SENTINEL:
+                sentinelInsertionSortRange(buffer, from, to);
+                break;
+            default:
+                adaptiveInsertionSortRange(buffer, from, to);
+                break;
+        }
+        end();
+    }
+
+    /**
+     * Sorts the bytes in [position, limit) as 32-bit ints of the given byte order
+     *
+     * @throws IllegalArgumentException if the buffer is read-only or the byte
+     *                                  count is not a multiple of 4
+     */
+    public void sortInts(ByteBuffer buffer, ByteOrder order) {
+        if (buffer == null) {
+            return;
+        }
+        checkElementSize(buffer.remaining(), Integer.BYTES);
+        sort(buffer.duplicate().order(order).asIntBuffer());
+    }
+
+    /**
+     * Sorts the bytes in [position, limit) as 64-bit longs of the given byte order
+     *
+     * @throws IllegalArgumentException if the buffer is read-only or the byte
+     *                                  count is not a multiple of 8
+     */
+    public void sortLongs(ByteBuffer buffer, ByteOrder order) {
+        if (buffer == null) {
+            return;
+        }
+        checkElementSize(buffer.remaining(), Long.BYTES);
+        sort(buffer.duplicate().order(order).asLongBuffer());
+    }
+
+    /**
+     * Metrics of the last sort (comparisons, shifts and element accesses)
+     */
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void begin() {
+        comparisons = 0;
+        shifts = 0;
+        if (metricsEnabled) {
+            metrics.reset();
+            metrics.startTimer();
+        }
+    }
+
+    private void end() {
+        if (metricsEnabled) {
+            metrics.stopTimer();
+            metrics.addComparisons(comparisons);
+            metrics.addShifts(shifts);
+            metrics.addArrayAccesses(comparisons + 2 * shifts);
+        }
+    }
+
+    private static void checkWritable(boolean readOnly) {
+        if (readOnly) {
+            throw new IllegalArgumentException("buffer is read-only");
+        }
+    }
+
+    private static void checkElementSize(int bytes, int elementSize) {
+        if (bytes % elementSize != 0) {
+            throw new IllegalArgumentException(bytes + " bytes is not a whole number of "
+                    + elementSize + "-byte elements");
+        }
+    }
+
+    // IntBuffer kernels
+
+    private void sortRange(IntBuffer buf, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = buf.get(i);
+            int j = i - 1;
+
+            while (j >= from) {
+                comparisons++;
+                int value = buf.get(j);
+                if (value <= key) {
+                    break;
+                }
+                buf.put(j + 1, value);
+                shifts++;
+                j--;
+            }
+
+            buf.put(j + 1, key);
+        }
+    }
+
+    private void binaryInsertionSortRange(IntBuffer buf, int from, int to) {
+        IntBuffer source = buf.duplicate();
+        for (int i = from + 1; i < to; i++) {
+            int key = buf.get(i);
+
+            // Upper bound keeps equal elements in their original order
+            int left = from;
+            int right = i;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                comparisons++;
+                if (key < buf.get(mid)) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            int moved = i - left;
+            if (moved > 0) {
+                buf.put(left + 1, source, left, moved);
+                buf.put(left, key);
+                shifts += moved;
+            }
+        }
+    }
+
+    private void sentinelInsertionSortRange(IntBuffer buf, int from, int to) {
+        int minIndex = from;
+        int min = buf.get(from);
+        for (int i = from + 1; i < to; i++) {
+            comparisons++;
+            int value = buf.get(i);
+            if (value < min) {
+                min = value;
+                minIndex = i;
+            }
+        }
+
+        if (minIndex != from) {
+            buf.put(minIndex, buf.get(from));
+            buf.put(from, min);
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            int key = buf.get(i);
+            int j = i - 1;
+
+            while (true) {
+                comparisons++;
+                int value = buf.get(j);
+                if (value <= key) {
+                    break;
+                }
+                buf.put(j + 1, value);
+                shifts++;
+                j--;
+            }
+
+            buf.put(j + 1, key);
+        }
+    }
+
+    private void adaptiveInsertionSortRange(IntBuffer buf, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = buf.get(i);
+            comparisons++;
+            if (key >= buf.get(i - 1)) {
+                continue;
+            }
+
+            buf.put(i, buf.get(i - 1));
+            shifts++;
+            int j = i - 2;
+            while (j >= from) {
+                comparisons++;
+                int value = buf.get(j);
+                if (value <= key) {
+                    break;
+                }
+                buf.put(j + 1, value);
+                shifts++;
+                j--;
+            }
+
+            buf.put(j + 1, key);
+        }
+    }
+
+    // LongBuffer kernels
+
+    private void sortRange(LongBuffer buf, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long key = buf.get(i);
+            int j = i - 1;
+
+            while (j >= from) {
+                comparisons++;
+                long value = buf.get(j);
+                if (value <= key) {
+                    break;
+                }
+                buf.put(j + 1, value);
+                shifts++;
+                j--;
+            }
+
+            buf.put(j + 1, key);
+        }
+    }
+
+    private void binaryInsertionSortRange(LongBuffer buf, int from, int to) {
+        LongBuffer source = buf.duplicate();
+        for (int i = from + 1; i < to; i++) {
+            long key = buf.get(i);
+
+            // Upper bound keeps equal elements in their original order
+            int left = from;
+            int right = i;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                comparisons++;
+                if (key < buf.get(mid)) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            int moved = i - left;
+            if (moved > 0) {
+                buf.put(left + 1, source, left, moved);
+                buf.put(left, key);
+                shifts += moved;
+            }
+        }
+    }
+
+    private void sentinelInsertionSortRange(LongBuffer buf, int from, int to) {
+        int minIndex = from;
+        long min = buf.get(from);
+        for (int i = from + 1; i < to; i++) {
+            comparisons++;
+            long value = buf.get(i);
+            if (value < min) {
+                min = value;
+                minIndex = i;
+            }
+        }
+
+        if (minIndex != from) {
+            buf.put(minIndex, buf.get(from));
+            buf.put(from, min);
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            long key = buf.get(i);
+            int j = i - 1;
+
+            while (true) {
+                comparisons++;
+                long value = buf.get(j);
+                if (value <= key) {
+                    break;
+                }
+                buf.put(j + 1, value);
+                shifts++;
+                j--;
+            }
+
+            buf.put(j + 1, key);
+        }
+    }
+
+    private void adaptiveInsertionSortRange(LongBuffer buf, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long key = buf.get(i);
+            comparisons++;
+            if (key >= buf.get(i - 1)) {
+                continue;
+            }
+
+            buf.put(i, buf.get(i - 1));
+            shifts++;
+            int j = i - 2;
+            while (j >= from) {
+                comparisons++;
+                long value = buf.get(j);
+                if (value <= key) {
+                    break;
+                }
+                buf.put(j + 1, value);
+                shifts++;
+                j--;
+            }
+
+            buf.put(j + 1, key);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package algorithms;
+
+import java.util.Comparator;
+
+/**
+ * InsertionSort that can be shared by many threads (e.g. a request-handling pool)
+ *
+ * Each thread sorts with its own InsertionSort instance, so instrumented
+ * kernels count into thread-confined SortMetrics with plain long increments.
+ * After every sort the per-thread counts are flushed once into a shared
+ * {@link ConcurrentSortMetrics}, which keeps cumulative totals.
+ *
+ * getLastMetrics() returns the calling thread's metrics of its last sort;
+ * getMetrics() returns the totals over all threads and sorts.
+ */
+public class ConcurrentInsertionSort {
+
+    private final ConcurrentSortMetrics totals = new ConcurrentSortMetrics();
+    private final ThreadLocal<InsertionSort> sorters = ThreadLocal.withInitial(InsertionSort::new);
+
+    public void sort(int[] arr) {
+        InsertionSort sorter = begin();
+        sorter.sort(arr);
+        totals.record(sorter.getMetrics());
+    }
+
+    public void binaryInsertionSort(int[] arr) {
+        InsertionSort sorter = begin();
+        sorter.binaryInsertionSort(arr);
+        totals.record(sorter.getMetrics());
+    }
+
+    public void sentinelInsertionSort(int[] arr) {
+        InsertionSort sorter = begin();
+        sorter.sentinelInsertionSort(arr);
+        totals.record(sorter.getMetrics());
+    }
+
+    public void adaptiveInsertionSort(int[] arr) {
+        InsertionSort sorter = begin();
+        sorter.adaptiveInsertionSort(arr);
+        totals.record(sorter.getMetrics());
+    }
+
+    public void hybridSort(int[] arr) {
+        InsertionSort sorter = begin();
+        sorter.hybridSort(arr);
+        totals.record(sorter.getMetrics());
+    }
+
+    public <T> void binaryInsertionSort(T[] arr, Comparator<? super T> c) {
+        InsertionSort sorter = begin();
+        sorter.binaryInsertionSort(arr, c);
+        totals.record(sorter.getMetrics());
+    }
+
+    public <T> void adaptiveInsertionSort(T[] arr, Comparator<? super T> c) {
+        InsertionSort sorter = begin();
+        sorter.adaptiveInsertionSort(arr, c);
+        totals.record(sorter.getMetrics());
+    }
+
+    /**
+     * Cumulative metrics of all sorts on all threads
+     */
+    public ConcurrentSortMetrics getMetrics() {
+        return totals;
+    }
+
+    /**
+     * Metrics of the calling thread's last sort
+     */
+    public SortMetrics getLastMetrics() {
+        return sorters.get().getMetrics();
+    }
+
+    /**
+     * Thread-confined sorter with cleared metrics (trivial inputs skip the reset)
+     */
+    private InsertionSort begin() {
+        InsertionSort sorter = sorters.get();
+        sorter.getMetrics().reset();
+        return sorter;
+    }
+}
@@ -0,0 +1,158 @@
+package algorithms;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative sort metrics that many threads can record into at once
+ *
+ * Every counter is a LongAdder (striped per CPU), so concurrent record()
+ * calls do not contend on a single cache line. Threads sort with their own
+ * SortMetrics and flush them here once per sort with record(); reads
+ * (getters, snapshot) sum the stripes and never block writers.
+ *
+ * A snapshot taken while sorts are being recorded is not atomic across
+ * counters: it may include one sort's comparisons but not yet its shifts.
+ */
+public class ConcurrentSortMetrics {
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+    private final LongAdder arrayAccesses = new LongAdder();
+    private final LongAdder shifts = new LongAdder();
+    private final LongAdder comparatorInvocations = new LongAdder();
+    private final LongAdder executionTimeNanos = new LongAdder();
+    private final LongAdder sortCount = new LongAdder();
+
+    /**
+     * Adds the counts and time of one finished sort
+     */
+    public void record(SortMetrics metrics) {
+        comparisons.add(metrics.getComparisons());
+        swaps.add(metrics.getSwaps());
+        arrayAccesses.add(metrics.getArrayAccesses());
+        shifts.add(metrics.getShifts());
+        comparatorInvocations.add(metrics.getComparatorInvocations());
+        executionTimeNanos.add(metrics.getExecutionTimeNanos());
+        sortCount.increment();
+    }
+
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    public long getSwaps() {
+        return swaps.sum();
+    }
+
+    public long getArrayAccesses() {
+        return arrayAccesses.sum();
+    }
+
+    public long getShifts() {
+        return shifts.sum();
+    }
+
+    public long getComparatorInvocations() {
+        return comparatorInvocations.sum();
+    }
+
+    /**
+     * Sum of the execution times of all recorded sorts (CPU-side, not wall clock)
+     */
+    public long getTotalExecutionTimeNanos() {
+        return executionTimeNanos.sum();
+    }
+
+    public long getSortCount() {
+        return sortCount.sum();
+    }
+
+    /**
+     * Totals so far as a plain SortMetrics; its execution time is the summed time
+     */
+    public SortMetrics snapshot() {
+        SortMetrics snapshot = new SortMetrics();
+        snapshot.addComparisons(comparisons.sum());
+        snapshot.addSwaps(swaps.sum());
+        snapshot.addArrayAccesses(arrayAccesses.sum());
+        snapshot.addShifts(shifts.sum());
+        snapshot.addComparatorInvocations(comparatorInvocations.sum());
+        snapshot.setExecutionTimeNanos(executionTimeNanos.sum());
+        return snapshot;
+    }
+
+    /**
+     * Takes a snapshot and resets the totals, e.g. once per reporting interval
+     *
+     * Every counter is read and reset on its own (LongAdder.sumThenReset), so
+     * this is not atomic either: a sort recorded during the call can be split
+     * between this interval and the next (e.g. its comparisons here, its shifts
+     * and its count there). No increment is lost; summed over all intervals
+     * the totals are exact.
+     */
+    public IntervalSnapshot snapshotAndReset() {
+        SortMetrics snapshot = new SortMetrics();
+        snapshot.addComparisons(comparisons.sumThenReset());
+        snapshot.addSwaps(swaps.sumThenReset());
+        snapshot.addArrayAccesses(arrayAccesses.sumThenReset());
+        snapshot.addShifts(shifts.sumThenReset());
+        snapshot.addComparatorInvocations(comparatorInvocations.sumThenReset());
+        snapshot.setExecutionTimeNanos(executionTimeNanos.sumThenReset());
+        return new IntervalSnapshot(snapshot, sortCount.sumThenReset());
+    }
+
+    public void reset() {
+        comparisons.reset();
+        swaps.reset();
+        arrayAccesses.reset();
+        shifts.reset();
+        comparatorInvocations.reset();
+        executionTimeNanos.reset();
+        sortCount.reset();
+    }
+
+    /**
+     * Totals of one reporting interval and the number of sorts they cover
+     */
+    public static final class IntervalSnapshot {
+        private final SortMetrics totals;
+        private final long sortCount;
+
+        IntervalSnapshot(SortMetrics totals, long sortCount) {
+            this.totals = totals;
+            this.sortCount = sortCount;
+        }
+
+        /**
+         * Summed counters; the execution time is the summed time
+         */
+        public SortMetrics getTotals() {
+            return totals;
+        }
+
+        public long getSortCount() {
+            return sortCount;
+        }
+
+        /**
+         * Per-sort average of the interval (all zero if no sort was recorded)
+         */
+        public SortMetrics getAverage() {
+            if (sortCount == 0) {
+                return new SortMetrics();
+            }
+            SortMetrics average = SortMetrics.merge(totals);
+            average.divide(sortCount);
+            return average;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "ConcurrentMetrics{sorts=%d, comparisons=%d, swaps=%d, shifts=%d, arrayAccesses=%d, "
+                        + "comparatorInvocations=%d, time=%.2fms}",
+                getSortCount(), getComparisons(), getSwaps(), getShifts(), getArrayAccesses(),
+                getComparatorInvocations(), getTotalExecutionTimeNanos() / 1_000_000.0
+        );
+    }
+}
@@ -0,0 +1,161 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Range-detecting integer sort: counting sort for small key ranges, LSD radix otherwise
+ *
+ * 1. One O(n) scan finds min and max (as the sentinel scan does for the minimum)
+ * 2. range = max - min + 1 <= min(2n, MAX_COUNTING_RANGE): counting sort,
+ *    Θ(n + range), rewritten in place from the histogram
+ * 3. Otherwise LSD radix sort on the unsigned offsets v - min, so only the
+ *    significant bits of the range are processed and negative values need no
+ *    special case. 8-bit digits, 11-bit digits from LARGE_DIGIT_THRESHOLD
+ *    elements on (3 passes cover any int range); a pass whose digit is the
+ *    same for every element is skipped.
+ *
+ * TIME COMPLEXITY: Θ(n + range) counting, Θ(n · ceil(bits / digitBits)) radix
+ * SPACE COMPLEXITY: histogram of up to MAX_COUNTING_RANGE counts and an
+ * n-element scatter buffer (radix only), both reused across calls
+ *
+ * Counters are kept in local fields and flushed into SortMetrics in bulk:
+ * comparisons are the min/max scan, shifts are elements written.
+ */
+final class CountingRadixSort {
+
+    /** Largest key range sorted by counting (a 256 KiB histogram) */
+    static final int MAX_COUNTING_RANGE = 1 << 16;
+
+    /** Inputs of at least this many elements use 11-bit digits */
+    static final int LARGE_DIGIT_THRESHOLD = 1 << 16;
+
+    private static final int SMALL_DIGIT_BITS = 8;
+    private static final int LARGE_DIGIT_BITS = 11;
+
+    private int[] counts = new int[1 << LARGE_DIGIT_BITS];
+    private int[] buffer = new int[0];
+
+    private long comparisons;
+    private long moves;
+    private long accesses;
+
+    /**
+     * Sorts arr[lo, hi) and adds the operation counts to metrics (if not null)
+     */
+    void sort(int[] arr, int lo, int hi, SortMetrics metrics) {
+        int n = hi - lo;
+        if (n < 2) {
+            return;
+        }
+        comparisons = 0;
+        moves = 0;
+        accesses = 0;
+
+        int min = arr[lo];
+        int max = min;
+        for (int i = lo + 1; i < hi; i++) {
+            int v = arr[i];
+            comparisons++;
+            if (v < min) {
+                min = v;
+            } else {
+                comparisons++;
+                if (v > max) {
+                    max = v;
+                }
+            }
+        }
+        accesses += n;
+
+        long range = (long) max - min + 1;
+        if (range <= Math.min(2L * n, MAX_COUNTING_RANGE)) {
+            countingSort(arr, lo, hi, min, (int) range);
+        } else {
+            radixSort(arr, lo, hi, min, 32 - Integer.numberOfLeadingZeros(max - min));
+        }
+
+        if (metrics != null) {
+            metrics.addComparisons(comparisons);
+            metrics.addShifts(moves);
+            metrics.addArrayAccesses(accesses);
+        }
+    }
+
+    private void countingSort(int[] arr, int lo, int hi, int min, int range) {
+        if (range == 1) {
+            return;
+        }
+        if (counts.length < range) {
+            counts = new int[Math.max(range, 2 * counts.length)];
+        }
+        int[] c = counts;
+        Arrays.fill(c, 0, range, 0);
+        for (int i = lo; i < hi; i++) {
+            c[arr[i] - min]++;
+        }
+
+        int k = lo;
+        for (int offset = 0; offset < range; offset++) {
+            int count = c[offset];
+            if (count > 0) {
+                Arrays.fill(arr, k, k + count, min + offset);
+                k += count;
+            }
+        }
+        moves += hi - lo;
+        accesses += 2L * (hi - lo);
+    }
+
+    private void radixSort(int[] arr, int lo, int hi, int min, int bits) {
+        int n = hi - lo;
+        if (buffer.length < n) {
+            buffer = new int[n];
+        }
+        int digitBits = n >= LARGE_DIGIT_THRESHOLD ? LARGE_DIGIT_BITS : SMALL_DIGIT_BITS;
+        int radix = 1 << digitBits;
+        int mask = radix - 1;
+        int[] c = counts;
+
+        int[] src = arr;
+        int srcOff = lo;
+        int[] dst = buffer;
+        int dstOff = 0;
+
+        for (int shift = 0; shift < bits; shift += digitBits) {
+            Arrays.fill(c, 0, radix, 0);
+            for (int i = srcOff, end = srcOff + n; i < end; i++) {
+                c[((src[i] - min) >>> shift) & mask]++;
+            }
+            accesses += n;
+            if (c[((src[srcOff] - min) >>> shift) & mask] == n) {
+                continue; // every element has the same digit
+            }
+
+            int sum = dstOff;
+            for (int d = 0; d < radix; d++) {
+                int count = c[d];
+                c[d] = sum;
+                sum += count;
+            }
+            for (int i = srcOff, end = srcOff + n; i < end; i++) {
+                int v = src[i];
+                dst[c[((v - min) >>> shift) & mask]++] = v;
+            }
+            moves += n;
+            accesses += 2L * n;
+
+            int[] t = src;
+            src = dst;
+            dst = t;
+            int tOff = srcOff;
+            srcOff = dstOff;
+            dstOff = tOff;
+        }
+
+        if (src != arr) {
+            System.arraycopy(src, srcOff, arr, lo, n);
+            moves += n;
+            accesses += 2L * n;
+        }
+    }
+}
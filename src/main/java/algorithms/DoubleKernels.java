@@ -0,0 +1,230 @@
+package algorithms;
+
+/**
+ * Insertion sort kernels for double[] ranges, ordered by Double.compare
+ * (-0.0 before 0.0, NaN last)
+ */
+final class DoubleKernels {
+
+    private DoubleKernels() {
+    }
+
+    // Uninstrumented
+
+    static void sortRange(double[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            double key = arr[i];
+            int j = i - 1;
+
+            while (j >= from && Double.compare(arr[j], key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+
+    static void binaryInsertionSortRange(double[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            double key = arr[i];
+            int pos = binarySearch(arr, from, i - 1, key);
+
+            for (int j = i - 1; j >= pos; j--) {
+                arr[j + 1] = arr[j];
+            }
+
+            arr[pos] = key;
+        }
+    }
+
+    static int binarySearch(double[] arr, int left, int right, double key) {
+        while (left <= right) {
+            int mid = (left + right) >>> 1;
+
+            int cmp = Double.compare(arr[mid], key);
+            if (cmp <= 0) {
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+
+        return left;
+    }
+
+    static void sentinelInsertionSortRange(double[] arr, int from, int to) {
+        int minIndex = from;
+        for (int i = from + 1; i < to; i++) {
+            if (Double.compare(arr[i], arr[minIndex]) < 0) {
+                minIndex = i;
+            }
+        }
+
+        if (minIndex != from) {
+            double temp = arr[from];
+            arr[from] = arr[minIndex];
+            arr[minIndex] = temp;
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            double key = arr[i];
+            int j = i - 1;
+
+            while (Double.compare(arr[j], key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+
+    static void adaptiveInsertionSortRange(double[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            double key = arr[i];
+            if (Double.compare(key, arr[i - 1]) >= 0) {
+                continue;
+            }
+
+            int j = i - 1;
+            while (j >= from && Double.compare(arr[j], key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+
+    // Counting
+
+    static void sortRange(double[] arr, int from, int to, SortMetrics metrics) {
+        for (int i = from + 1; i < to; i++) {
+            double key = arr[i];
+            metrics.incrementArrayAccesses();
+            int j = i - 1;
+
+            while (j >= from) {
+                metrics.incrementComparisons();
+                if (Double.compare(arr[j], key) > 0) {
+                    metrics.incrementArrayAccesses();
+                    arr[j + 1] = arr[j];
+                    metrics.incrementArrayAccesses();
+                    metrics.incrementShifts();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+
+            arr[j + 1] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+
+    static void binaryInsertionSortRange(double[] arr, int from, int to, SortMetrics metrics) {
+        for (int i = from + 1; i < to; i++) {
+            double key = arr[i];
+            metrics.incrementArrayAccesses();
+
+            int pos = binarySearch(arr, from, i - 1, key, metrics);
+
+            for (int j = i - 1; j >= pos; j--) {
+                arr[j + 1] = arr[j];
+                metrics.incrementArrayAccesses();
+                metrics.incrementArrayAccesses();
+                metrics.incrementShifts();
+            }
+
+            arr[pos] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+
+    private static int binarySearch(double[] arr, int left, int right, double key, SortMetrics metrics) {
+        while (left <= right) {
+            int mid = left + (right - left) / 2;
+
+            metrics.incrementComparisons();
+            metrics.incrementArrayAccesses();
+
+            int cmp = Double.compare(arr[mid], key);
+            if (cmp <= 0) {
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+
+        return left;
+    }
+
+    static void sentinelInsertionSortRange(double[] arr, int from, int to, SortMetrics metrics) {
+        int minIndex = from;
+        for (int i = from + 1; i < to; i++) {
+            metrics.incrementComparisons();
+            metrics.incrementArrayAccesses();
+            if (Double.compare(arr[i], arr[minIndex]) < 0) {
+                minIndex = i;
+            }
+        }
+
+        if (minIndex != from) {
+            double temp = arr[from];
+            arr[from] = arr[minIndex];
+            arr[minIndex] = temp;
+            metrics.incrementSwaps();
+            metrics.addArrayAccesses(3);
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            double key = arr[i];
+            metrics.incrementArrayAccesses();
+            int j = i - 1;
+
+            while (Double.compare(arr[j], key) > 0) {
+                metrics.incrementComparisons();
+                metrics.incrementArrayAccesses();
+                arr[j + 1] = arr[j];
+                metrics.incrementArrayAccesses();
+                metrics.incrementShifts();
+                j--;
+            }
+
+            metrics.incrementComparisons();
+            arr[j + 1] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+
+    static void adaptiveInsertionSortRange(double[] arr, int from, int to, SortMetrics metrics) {
+        for (int i = from + 1; i < to; i++) {
+            double key = arr[i];
+            metrics.incrementArrayAccesses();
+
+            metrics.incrementComparisons();
+            metrics.incrementArrayAccesses();
+            if (Double.compare(key, arr[i - 1]) >= 0) {
+                continue;
+            }
+
+            int j = i - 1;
+            while (j >= from) {
+                metrics.incrementComparisons();
+                metrics.incrementArrayAccesses();
+                if (Double.compare(arr[j], key) > 0) {
+                    arr[j + 1] = arr[j];
+                    metrics.incrementArrayAccesses();
+                    metrics.incrementShifts();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+
+            arr[j + 1] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package algorithms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * External merge sort for binary files of ints larger than the heap
+ *
+ * STAGES:
+ * 1. Run generation: the input is memory-mapped chunk by chunk, each chunk is
+ *    sorted in memory (the hybridSort engine) and spilled to a temp file
+ * 2. Merge passes: while there are more runs than the fan-in, groups of
+ *    fanIn runs are merged into longer runs
+ * 3. Final merge: the remaining runs are merged with a loser tree and written
+ *    through a buffered FileChannel to the output
+ *
+ * I/O COMPLEXITY: Θ(n) per pass, 1 + ceil(log_fanIn(runs)) passes
+ * MEMORY: one chunk (chunkSize ints) + (fanIn + 1) I/O buffers
+ *
+ * Files are raw 32-bit ints in the configured byte order (big-endian by default).
+ * Progress is published through {@link ExternalSortMetrics} and an optional listener
+ * that is called after every spilled run and every merge pass.
+ */
+public class ExternalIntSort {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 22; // 4M ints = 16 MB
+    public static final int DEFAULT_FAN_IN = 64;
+    public static final int DEFAULT_IO_BUFFER_BYTES = 1 << 16;
+
+    private final int chunkSize;
+    private final int fanIn;
+    private Path tempDirectory;
+    private ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
+    private int ioBufferBytes = DEFAULT_IO_BUFFER_BYTES;
+    private Consumer<ExternalSortMetrics> progressListener;
+    private final ExternalSortMetrics metrics = new ExternalSortMetrics();
+
+    public ExternalIntSort() {
+        this(DEFAULT_CHUNK_SIZE, DEFAULT_FAN_IN);
+    }
+
+    /**
+     * @param chunkSize ints sorted in memory per run (1 .. 2^29)
+     * @param fanIn     maximum number of runs merged at once (at least 2)
+     */
+    public ExternalIntSort(int chunkSize, int fanIn) {
+        if (chunkSize < 1 || chunkSize > (Integer.MAX_VALUE >> 2)) {
+            throw new IllegalArgumentException("chunkSize out of range: " + chunkSize);
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("fanIn must be at least 2: " + fanIn);
+        }
+        this.chunkSize = chunkSize;
+        this.fanIn = fanIn;
+    }
+
+    /**
+     * Directory for temporary run files (default: the output file's directory)
+     */
+    public void setTempDirectory(Path tempDirectory) {
+        this.tempDirectory = tempDirectory;
+    }
+
+    public void setByteOrder(ByteOrder byteOrder) {
+        this.byteOrder = byteOrder;
+    }
+
+    /**
+     * Size of each read/write buffer in bytes (rounded down to whole ints)
+     */
+    public void setIoBufferBytes(int ioBufferBytes) {
+        if (ioBufferBytes < Integer.BYTES) {
+            throw new IllegalArgumentException("ioBufferBytes too small: " + ioBufferBytes);
+        }
+        this.ioBufferBytes = ioBufferBytes & ~(Integer.BYTES - 1);
+    }
+
+    public void setProgressListener(Consumer<ExternalSortMetrics> progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public ExternalSortMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sorts the ints in input into output (input and output must differ)
+     */
+    public ExternalSortMetrics sort(Path input, Path output) throws IOException {
+        metrics.reset();
+        metrics.startTimer();
+
+        Path tempDir = tempDirectory != null ? tempDirectory : output.toAbsolutePath().getParent();
+        List<Path> tempFiles = new ArrayList<>();
+        List<Path> runs = new ArrayList<>();
+
+        try {
+            metrics.setStage(ExternalSortMetrics.Stage.RUN_GENERATION);
+            long total = createRuns(input, output, tempDir, tempFiles, runs);
+            metrics.setTotalElements(total);
+
+            metrics.setStage(ExternalSortMetrics.Stage.MERGING);
+            if (total == 0) {
+                Files.newByteChannel(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING).close();
+            }
+
+            // Intermediate passes until one final merge is enough
+            while (runs.size() > fanIn) {
+                List<Path> next = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+                    Path merged = newRunFile(tempDir, tempFiles);
+                    next.add(merged);
+                    merge(group, merged);
+                    deleteAll(group);
+                }
+                runs = next;
+                metrics.incrementMergePasses();
+                reportProgress();
+            }
+
+            if (!runs.isEmpty()) {
+                merge(runs, output);
+                metrics.incrementMergePasses();
+            }
+
+            metrics.setStage(ExternalSortMetrics.Stage.DONE);
+            metrics.stopTimer();
+            reportProgress();
+            return metrics;
+        } finally {
+            deleteAll(tempFiles);
+        }
+    }
+
+    /**
+     * Stage 1: sorts the input chunk by chunk into runs; a single-chunk input
+     * is written straight to output. Returns the number of ints in input.
+     */
+    private long createRuns(Path input, Path output, Path tempDir,
+                            List<Path> tempFiles, List<Path> runs) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long bytes = in.size();
+            if (bytes % Integer.BYTES != 0) {
+                throw new IOException("Input length " + bytes + " is not a multiple of " + Integer.BYTES);
+            }
+
+            long total = bytes / Integer.BYTES;
+            if (total == 0) {
+                return 0;
+            }
+
+            int[] chunk = new int[(int) Math.min(chunkSize, total)];
+            RunAwareMergeSort sorter = new RunAwareMergeSort();
+
+            for (long start = 0; start < total; start += chunk.length) {
+                int length = (int) Math.min(chunk.length, total - start);
+
+                MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY,
+                        start * Integer.BYTES, (long) length * Integer.BYTES);
+                IntBuffer ints = mapped.order(byteOrder).asIntBuffer();
+                ints.get(chunk, 0, length);
+                metrics.addBytesRead((long) length * Integer.BYTES);
+
+                sorter.sort(chunk, 0, length, metrics);
+
+                Path run;
+                if (start == 0 && length == total) {
+                    run = output;
+                } else {
+                    run = newRunFile(tempDir, tempFiles);
+                    runs.add(run);
+                }
+                writeRun(chunk, length, run);
+
+                metrics.addElementsSorted(length);
+                metrics.incrementRunsCreated();
+                reportProgress();
+            }
+            return total;
+        }
+    }
+
+    private static Path newRunFile(Path tempDir, List<Path> tempFiles) throws IOException {
+        Path run = Files.createTempFile(tempDir, "run-", ".bin");
+        tempFiles.add(run);
+        return run;
+    }
+
+    private void writeRun(int[] chunk, int length, Path run) throws IOException {
+        try (RunWriter writer = new RunWriter(run)) {
+            for (int i = 0; i < length; i++) {
+                writer.write(chunk[i]);
+            }
+        }
+    }
+
+    /**
+     * k-way merge of sorted run files into target using a loser tree
+     */
+    private void merge(List<Path> sources, Path target) throws IOException {
+        int k = sources.size();
+        RunReader[] readers = new RunReader[k];
+        long[] heads = new long[k];
+
+        try (RunWriter writer = new RunWriter(target)) {
+            for (int i = 0; i < k; i++) {
+                readers[i] = new RunReader(sources.get(i));
+                heads[i] = readers[i].next();
+            }
+
+            LoserTree tree = new LoserTree(heads);
+            long written = 0;
+            while (tree.winnerKey() != LoserTree.EXHAUSTED) {
+                writer.write((int) tree.winnerKey());
+                tree.replaceWinner(readers[tree.winner()].next());
+                written++;
+            }
+
+            metrics.addComparisons(tree.getComparisons());
+            metrics.addElementsMerged(written);
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+
+    private void reportProgress() {
+        if (progressListener != null) {
+            progressListener.accept(metrics);
+        }
+    }
+
+    private static void deleteAll(List<Path> files) throws IOException {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Buffered sequential int reader over a FileChannel
+     */
+    private final class RunReader implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private boolean eof;
+
+        RunReader(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(ioBufferBytes).order(byteOrder);
+            this.buffer.limit(0);
+        }
+
+        /**
+         * Next int as a long, or LoserTree.EXHAUSTED at the end of the run
+         */
+        long next() throws IOException {
+            if (buffer.remaining() < Integer.BYTES && !fill()) {
+                return LoserTree.EXHAUSTED;
+            }
+            return buffer.getInt();
+        }
+
+        private boolean fill() throws IOException {
+            if (eof) {
+                return false;
+            }
+            buffer.compact();
+            while (buffer.position() < Integer.BYTES) {
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    eof = true;
+                    break;
+                }
+                metrics.addBytesRead(read);
+            }
+            buffer.flip();
+            return buffer.remaining() >= Integer.BYTES;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Buffered sequential int writer over a FileChannel
+     */
+    private final class RunWriter implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        RunWriter(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            this.buffer = ByteBuffer.allocateDirect(ioBufferBytes).order(byteOrder);
+        }
+
+        void write(int value) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.putInt(value);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                metrics.addBytesWritten(channel.write(buffer));
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package algorithms;
+
+/**
+ * SortMetrics for external sorting: adds run, pass and I/O progress counters
+ * The in-memory counters (comparisons, shifts, ...) cover chunk sorting
+ * plus the loser-tree comparisons of every merge
+ */
+public class ExternalSortMetrics extends SortMetrics {
+
+    /**
+     * Current stage of the external sort
+     */
+    public enum Stage {
+        IDLE, RUN_GENERATION, MERGING, DONE
+    }
+
+    private Stage stage = Stage.IDLE;
+    private long totalElements;
+    private long elementsSorted;
+    private long elementsMerged;
+    private long runsCreated;
+    private long mergePasses;
+    private long bytesRead;
+    private long bytesWritten;
+
+    void setStage(Stage stage) {
+        this.stage = stage;
+    }
+
+    void setTotalElements(long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    void addElementsSorted(long count) {
+        this.elementsSorted += count;
+    }
+
+    void addElementsMerged(long count) {
+        this.elementsMerged += count;
+    }
+
+    void incrementRunsCreated() {
+        this.runsCreated++;
+    }
+
+    void incrementMergePasses() {
+        this.mergePasses++;
+    }
+
+    void addBytesRead(long count) {
+        this.bytesRead += count;
+    }
+
+    void addBytesWritten(long count) {
+        this.bytesWritten += count;
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    /**
+     * Elements sorted into initial runs so far
+     */
+    public long getElementsSorted() {
+        return elementsSorted;
+    }
+
+    /**
+     * Elements written by merges so far (intermediate passes included)
+     */
+    public long getElementsMerged() {
+        return elementsMerged;
+    }
+
+    public long getRunsCreated() {
+        return runsCreated;
+    }
+
+    public long getMergePasses() {
+        return mergePasses;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        stage = Stage.IDLE;
+        totalElements = 0;
+        elementsSorted = 0;
+        elementsMerged = 0;
+        runsCreated = 0;
+        mergePasses = 0;
+        bytesRead = 0;
+        bytesWritten = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "ExternalMetrics{stage=%s, elements=%d, sorted=%d, merged=%d, runs=%d, mergePasses=%d, "
+                        + "bytesRead=%d, bytesWritten=%d, comparisons=%d, time=%.2fms}",
+                stage, totalElements, elementsSorted, elementsMerged, runsCreated, mergePasses,
+                bytesRead, bytesWritten, getComparisons(), getExecutionTimeMillis()
+        );
+    }
+}
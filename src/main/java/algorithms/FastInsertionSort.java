@@ -0,0 +1,759 @@
+package algorithms;
+
+import java.util.Comparator;
+
+/**
+ * Uninstrumented insertion sort kernels
+ *
+ * Same algorithms as {@link InsertionSort}, but without any metrics calls,
+ * so the inner loops stay as bare as a hand-written loop and the JIT is free
+ * to unroll and keep values in registers.
+ *
+ * Use these static methods directly for a metrics-off call, or construct
+ * {@code new InsertionSort(false)} to select the fast path per instance.
+ */
+public final class FastInsertionSort {
+
+    private FastInsertionSort() {
+    }
+
+    /**
+     * Standard insertion sort without metrics
+     */
+    public static void sort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        sortRange(arr, 0, arr.length);
+    }
+
+    static void sortRange(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = arr[i];
+            int j = i - 1;
+
+            while (j >= from && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+
+    /**
+     * Binary insertion sort without metrics
+     */
+    public static void binaryInsertionSort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        binaryInsertionSortRange(arr, 0, arr.length);
+    }
+
+    static void binaryInsertionSortRange(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = arr[i];
+            int pos = binarySearch(arr, from, i - 1, key);
+
+            for (int j = i - 1; j >= pos; j--) {
+                arr[j + 1] = arr[j];
+            }
+
+            arr[pos] = key;
+        }
+    }
+
+    /**
+     * Binary search to find insertion position (same contract as the
+     * instrumented version in {@link InsertionSort})
+     */
+    static int binarySearch(int[] arr, int left, int right, int key) {
+        while (left <= right) {
+            int mid = (left + right) >>> 1;
+
+            if (arr[mid] <= key) {
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+
+        return left;
+    }
+
+    /**
+     * Block-shift binary insertion sort without metrics
+     */
+    public static void blockBinaryInsertionSort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        blockBinaryInsertionSortRange(arr, 0, arr.length);
+    }
+
+    static void blockBinaryInsertionSortRange(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = arr[i];
+            int pos = binarySearch(arr, from, i - 1, key);
+
+            if (pos < i) {
+                System.arraycopy(arr, pos, arr, pos + 1, i - pos);
+                arr[pos] = key;
+            }
+        }
+    }
+
+    /**
+     * Sentinel insertion sort without metrics
+     */
+    public static void sentinelInsertionSort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        sentinelInsertionSortRange(arr, 0, arr.length);
+    }
+
+    static void sentinelInsertionSortRange(int[] arr, int from, int to) {
+        int minIndex = from;
+        for (int i = from + 1; i < to; i++) {
+            if (arr[i] < arr[minIndex]) {
+                minIndex = i;
+            }
+        }
+
+        if (minIndex != from) {
+            int temp = arr[from];
+            arr[from] = arr[minIndex];
+            arr[minIndex] = temp;
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            int key = arr[i];
+            int j = i - 1;
+
+            while (arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+
+    /**
+     * Adaptive insertion sort without metrics
+     */
+    public static void adaptiveInsertionSort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        adaptiveInsertionSortRange(arr, 0, arr.length);
+    }
+
+    static void adaptiveInsertionSortRange(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = arr[i];
+            if (key >= arr[i - 1]) {
+                continue;
+            }
+
+            int j = i - 1;
+            while (j >= from && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+
+    /**
+     * Partial sort without metrics (see {@link InsertionSort#partialSort(int[], int)})
+     */
+    public static void partialSort(int[] arr, int k) {
+        if (arr == null) {
+            return;
+        }
+        if (k < 0 || k > arr.length) {
+            throw new IllegalArgumentException("k must be in [0, " + arr.length + "], got " + k);
+        }
+        if (k > 0) {
+            partialSortRange(arr, 0, arr.length, k);
+        }
+    }
+
+    static void partialSortRange(int[] arr, int from, int to, int k) {
+        int end = from + k;
+        blockBinaryInsertionSortRange(arr, from, end);
+
+        int max = arr[end - 1];
+        for (int i = end; i < to; i++) {
+            int value = arr[i];
+            if (value >= max) {
+                continue;
+            }
+
+            int pos = binarySearch(arr, from, end - 2, value);
+            System.arraycopy(arr, pos, arr, pos + 1, end - 1 - pos);
+            arr[pos] = value;
+            arr[i] = max;
+            max = arr[end - 1];
+        }
+    }
+
+    // long[] overloads
+
+    /**
+     * Standard insertion sort for long[] without metrics
+     */
+    public static void sort(long[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        LongKernels.sortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Binary insertion sort for long[] without metrics
+     */
+    public static void binaryInsertionSort(long[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        LongKernels.binaryInsertionSortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Sentinel insertion sort for long[] without metrics
+     */
+    public static void sentinelInsertionSort(long[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        LongKernels.sentinelInsertionSortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Adaptive insertion sort for long[] without metrics
+     */
+    public static void adaptiveInsertionSort(long[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        LongKernels.adaptiveInsertionSortRange(arr, 0, arr.length);
+    }
+
+    // double[] overloads
+
+    /**
+     * Standard insertion sort for double[] without metrics
+     * Ordered by Double.compare: -0.0 before 0.0, NaN last
+     */
+    public static void sort(double[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        DoubleKernels.sortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Binary insertion sort for double[] without metrics
+     * Ordered by Double.compare: -0.0 before 0.0, NaN last
+     */
+    public static void binaryInsertionSort(double[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        DoubleKernels.binaryInsertionSortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Sentinel insertion sort for double[] without metrics
+     * Ordered by Double.compare: -0.0 before 0.0, NaN last
+     */
+    public static void sentinelInsertionSort(double[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        DoubleKernels.sentinelInsertionSortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Adaptive insertion sort for double[] without metrics
+     * Ordered by Double.compare: -0.0 before 0.0, NaN last
+     */
+    public static void adaptiveInsertionSort(double[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        DoubleKernels.adaptiveInsertionSortRange(arr, 0, arr.length);
+    }
+
+    // float[] overloads
+
+    /**
+     * Standard insertion sort for float[] without metrics
+     * Ordered by Float.compare: -0.0 before 0.0, NaN last
+     */
+    public static void sort(float[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        FloatKernels.sortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Binary insertion sort for float[] without metrics
+     * Ordered by Float.compare: -0.0 before 0.0, NaN last
+     */
+    public static void binaryInsertionSort(float[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        FloatKernels.binaryInsertionSortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Sentinel insertion sort for float[] without metrics
+     * Ordered by Float.compare: -0.0 before 0.0, NaN last
+     */
+    public static void sentinelInsertionSort(float[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        FloatKernels.sentinelInsertionSortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Adaptive insertion sort for float[] without metrics
+     * Ordered by Float.compare: -0.0 before 0.0, NaN last
+     */
+    public static void adaptiveInsertionSort(float[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        FloatKernels.adaptiveInsertionSortRange(arr, 0, arr.length);
+    }
+
+    // short[] overloads
+
+    /**
+     * Standard insertion sort for short[] without metrics
+     */
+    public static void sort(short[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        ShortKernels.sortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Binary insertion sort for short[] without metrics
+     */
+    public static void binaryInsertionSort(short[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        ShortKernels.binaryInsertionSortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Sentinel insertion sort for short[] without metrics
+     */
+    public static void sentinelInsertionSort(short[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        ShortKernels.sentinelInsertionSortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Adaptive insertion sort for short[] without metrics
+     */
+    public static void adaptiveInsertionSort(short[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        ShortKernels.adaptiveInsertionSortRange(arr, 0, arr.length);
+    }
+
+    // char[] overloads
+
+    /**
+     * Standard insertion sort for char[] without metrics
+     */
+    public static void sort(char[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        CharKernels.sortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Binary insertion sort for char[] without metrics
+     */
+    public static void binaryInsertionSort(char[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        CharKernels.binaryInsertionSortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Sentinel insertion sort for char[] without metrics
+     */
+    public static void sentinelInsertionSort(char[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        CharKernels.sentinelInsertionSortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Adaptive insertion sort for char[] without metrics
+     */
+    public static void adaptiveInsertionSort(char[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        CharKernels.adaptiveInsertionSortRange(arr, 0, arr.length);
+    }
+
+    // byte[] overloads
+
+    /**
+     * Standard insertion sort for byte[] without metrics
+     */
+    public static void sort(byte[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        ByteKernels.sortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Binary insertion sort for byte[] without metrics
+     */
+    public static void binaryInsertionSort(byte[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        ByteKernels.binaryInsertionSortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Sentinel insertion sort for byte[] without metrics
+     */
+    public static void sentinelInsertionSort(byte[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        ByteKernels.sentinelInsertionSortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Adaptive insertion sort for byte[] without metrics
+     */
+    public static void adaptiveInsertionSort(byte[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        ByteKernels.adaptiveInsertionSortRange(arr, 0, arr.length);
+    }
+
+    // Key/payload overloads (stable; see InsertionSort.sort(int[], int[]))
+
+    static void sortRange(int[] keys, int[] payload, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            int value = payload[i];
+            int j = i - 1;
+
+            while (j >= from && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                payload[j + 1] = payload[j];
+                j--;
+            }
+
+            keys[j + 1] = key;
+            payload[j + 1] = value;
+        }
+    }
+
+    static void binaryInsertionSortRange(int[] keys, int[] payload, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            int pos = binarySearch(keys, from, i - 1, key);
+            int moved = i - pos;
+            if (moved > 0) {
+                int value = payload[i];
+                System.arraycopy(keys, pos, keys, pos + 1, moved);
+                System.arraycopy(payload, pos, payload, pos + 1, moved);
+                keys[pos] = key;
+                payload[pos] = value;
+            }
+        }
+    }
+
+    static void sentinelInsertionSortRange(int[] keys, int[] payload, int from, int to) {
+        int minIndex = from;
+        for (int i = from + 1; i < to; i++) {
+            if (keys[i] < keys[minIndex]) {
+                minIndex = i;
+            }
+        }
+
+        // Rotate the first minimum to the front so equal keys keep their order
+        if (minIndex != from) {
+            int min = keys[minIndex];
+            int value = payload[minIndex];
+            int moved = minIndex - from;
+            System.arraycopy(keys, from, keys, from + 1, moved);
+            System.arraycopy(payload, from, payload, from + 1, moved);
+            keys[from] = min;
+            payload[from] = value;
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            int key = keys[i];
+            int value = payload[i];
+            int j = i - 1;
+
+            while (keys[j] > key) {
+                keys[j + 1] = keys[j];
+                payload[j + 1] = payload[j];
+                j--;
+            }
+
+            keys[j + 1] = key;
+            payload[j + 1] = value;
+        }
+    }
+
+    static void adaptiveInsertionSortRange(int[] keys, int[] payload, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            if (key >= keys[i - 1]) {
+                continue;
+            }
+
+            int value = payload[i];
+            int j = i - 1;
+            while (j >= from && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                payload[j + 1] = payload[j];
+                j--;
+            }
+
+            keys[j + 1] = key;
+            payload[j + 1] = value;
+        }
+    }
+
+    static void sortRange(int[] keys, long[] payload, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            long value = payload[i];
+            int j = i - 1;
+
+            while (j >= from && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                payload[j + 1] = payload[j];
+                j--;
+            }
+
+            keys[j + 1] = key;
+            payload[j + 1] = value;
+        }
+    }
+
+    static void binaryInsertionSortRange(int[] keys, long[] payload, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            int pos = binarySearch(keys, from, i - 1, key);
+            int moved = i - pos;
+            if (moved > 0) {
+                long value = payload[i];
+                System.arraycopy(keys, pos, keys, pos + 1, moved);
+                System.arraycopy(payload, pos, payload, pos + 1, moved);
+                keys[pos] = key;
+                payload[pos] = value;
+            }
+        }
+    }
+
+    static void sentinelInsertionSortRange(int[] keys, long[] payload, int from, int to) {
+        int minIndex = from;
+        for (int i = from + 1; i < to; i++) {
+            if (keys[i] < keys[minIndex]) {
+                minIndex = i;
+            }
+        }
+
+        // Rotate the first minimum to the front so equal keys keep their order
+        if (minIndex != from) {
+            int min = keys[minIndex];
+            long value = payload[minIndex];
+            int moved = minIndex - from;
+            System.arraycopy(keys, from, keys, from + 1, moved);
+            System.arraycopy(payload, from, payload, from + 1, moved);
+            keys[from] = min;
+            payload[from] = value;
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            int key = keys[i];
+            long value = payload[i];
+            int j = i - 1;
+
+            while (keys[j] > key) {
+                keys[j + 1] = keys[j];
+                payload[j + 1] = payload[j];
+                j--;
+            }
+
+            keys[j + 1] = key;
+            payload[j + 1] = value;
+        }
+    }
+
+    static void adaptiveInsertionSortRange(int[] keys, long[] payload, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            if (key >= keys[i - 1]) {
+                continue;
+            }
+
+            long value = payload[i];
+            int j = i - 1;
+            while (j >= from && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                payload[j + 1] = payload[j];
+                j--;
+            }
+
+            keys[j + 1] = key;
+            payload[j + 1] = value;
+        }
+    }
+
+    // Object overloads (Comparator)
+
+    /**
+     * Standard insertion sort of objects without metrics; stable
+     */
+    public static <T> void sort(T[] arr, Comparator<? super T> c) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        sortRange(arr, 0, arr.length, c);
+    }
+
+    static <T> void sortRange(T[] arr, int from, int to, Comparator<? super T> c) {
+        for (int i = from + 1; i < to; i++) {
+            T key = arr[i];
+            int j = i - 1;
+
+            while (j >= from && c.compare(arr[j], key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+
+    /**
+     * Binary insertion sort of objects without metrics; stable
+     */
+    public static <T> void binaryInsertionSort(T[] arr, Comparator<? super T> c) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        binaryInsertionSortRange(arr, 0, arr.length, c);
+    }
+
+    static <T> void binaryInsertionSortRange(T[] arr, int from, int to, Comparator<? super T> c) {
+        for (int i = from + 1; i < to; i++) {
+            T key = arr[i];
+            int left = from;
+            int right = i;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (c.compare(key, arr[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            System.arraycopy(arr, left, arr, left + 1, i - left);
+            arr[left] = key;
+        }
+    }
+
+    /**
+     * Sentinel insertion sort of objects without metrics; stable
+     */
+    public static <T> void sentinelInsertionSort(T[] arr, Comparator<? super T> c) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        sentinelInsertionSortRange(arr, 0, arr.length, c);
+    }
+
+    static <T> void sentinelInsertionSortRange(T[] arr, int from, int to, Comparator<? super T> c) {
+        int minIndex = from;
+        for (int i = from + 1; i < to; i++) {
+            if (c.compare(arr[i], arr[minIndex]) < 0) {
+                minIndex = i;
+            }
+        }
+
+        if (minIndex != from) {
+            T min = arr[minIndex];
+            System.arraycopy(arr, from, arr, from + 1, minIndex - from);
+            arr[from] = min;
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            T key = arr[i];
+            int j = i - 1;
+
+            while (c.compare(arr[j], key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+
+    /**
+     * Adaptive insertion sort of objects without metrics; stable
+     */
+    public static <T> void adaptiveInsertionSort(T[] arr, Comparator<? super T> c) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        adaptiveInsertionSortRange(arr, 0, arr.length, c);
+    }
+
+    static <T> void adaptiveInsertionSortRange(T[] arr, int from, int to, Comparator<? super T> c) {
+        for (int i = from + 1; i < to; i++) {
+            T key = arr[i];
+            if (c.compare(key, arr[i - 1]) >= 0) {
+                continue;
+            }
+
+            int j = i - 1;
+            while (j >= from && c.compare(arr[j], key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+}
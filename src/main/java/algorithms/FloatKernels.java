@@ -0,0 +1,230 @@
+package algorithms;
+
+/**
+ * Insertion sort kernels for float[] ranges, ordered by Float.compare
+ * (-0.0f before 0.0f, NaN last)
+ */
+final class FloatKernels {
+
+    private FloatKernels() {
+    }
+
+    // Uninstrumented
+
+    static void sortRange(float[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            float key = arr[i];
+            int j = i - 1;
+
+            while (j >= from && Float.compare(arr[j], key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+
+    static void binaryInsertionSortRange(float[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            float key = arr[i];
+            int pos = binarySearch(arr, from, i - 1, key);
+
+            for (int j = i - 1; j >= pos; j--) {
+                arr[j + 1] = arr[j];
+            }
+
+            arr[pos] = key;
+        }
+    }
+
+    static int binarySearch(float[] arr, int left, int right, float key) {
+        while (left <= right) {
+            int mid = (left + right) >>> 1;
+
+            int cmp = Float.compare(arr[mid], key);
+            if (cmp <= 0) {
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+
+        return left;
+    }
+
+    static void sentinelInsertionSortRange(float[] arr, int from, int to) {
+        int minIndex = from;
+        for (int i = from + 1; i < to; i++) {
+            if (Float.compare(arr[i], arr[minIndex]) < 0) {
+                minIndex = i;
+            }
+        }
+
+        if (minIndex != from) {
+            float temp = arr[from];
+            arr[from] = arr[minIndex];
+            arr[minIndex] = temp;
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            float key = arr[i];
+            int j = i - 1;
+
+            while (Float.compare(arr[j], key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+
+    static void adaptiveInsertionSortRange(float[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            float key = arr[i];
+            if (Float.compare(key, arr[i - 1]) >= 0) {
+                continue;
+            }
+
+            int j = i - 1;
+            while (j >= from && Float.compare(arr[j], key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+
+    // Counting
+
+    static void sortRange(float[] arr, int from, int to, SortMetrics metrics) {
+        for (int i = from + 1; i < to; i++) {
+            float key = arr[i];
+            metrics.incrementArrayAccesses();
+            int j = i - 1;
+
+            while (j >= from) {
+                metrics.incrementComparisons();
+                if (Float.compare(arr[j], key) > 0) {
+                    metrics.incrementArrayAccesses();
+                    arr[j + 1] = arr[j];
+                    metrics.incrementArrayAccesses();
+                    metrics.incrementShifts();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+
+            arr[j + 1] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+
+    static void binaryInsertionSortRange(float[] arr, int from, int to, SortMetrics metrics) {
+        for (int i = from + 1; i < to; i++) {
+            float key = arr[i];
+            metrics.incrementArrayAccesses();
+
+            int pos = binarySearch(arr, from, i - 1, key, metrics);
+
+            for (int j = i - 1; j >= pos; j--) {
+                arr[j + 1] = arr[j];
+                metrics.incrementArrayAccesses();
+                metrics.incrementArrayAccesses();
+                metrics.incrementShifts();
+            }
+
+            arr[pos] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+
+    private static int binarySearch(float[] arr, int left, int right, float key, SortMetrics metrics) {
+        while (left <= right) {
+            int mid = left + (right - left) / 2;
+
+            metrics.incrementComparisons();
+            metrics.incrementArrayAccesses();
+
+            int cmp = Float.compare(arr[mid], key);
+            if (cmp <= 0) {
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+
+        return left;
+    }
+
+    static void sentinelInsertionSortRange(float[] arr, int from, int to, SortMetrics metrics) {
+        int minIndex = from;
+        for (int i = from + 1; i < to; i++) {
+            metrics.incrementComparisons();
+            metrics.incrementArrayAccesses();
+            if (Float.compare(arr[i], arr[minIndex]) < 0) {
+                minIndex = i;
+            }
+        }
+
+        if (minIndex != from) {
+            float temp = arr[from];
+            arr[from] = arr[minIndex];
+            arr[minIndex] = temp;
+            metrics.incrementSwaps();
+            metrics.addArrayAccesses(3);
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            float key = arr[i];
+            metrics.incrementArrayAccesses();
+            int j = i - 1;
+
+            while (Float.compare(arr[j], key) > 0) {
+                metrics.incrementComparisons();
+                metrics.incrementArrayAccesses();
+                arr[j + 1] = arr[j];
+                metrics.incrementArrayAccesses();
+                metrics.incrementShifts();
+                j--;
+            }
+
+            metrics.incrementComparisons();
+            arr[j + 1] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+
+    static void adaptiveInsertionSortRange(float[] arr, int from, int to, SortMetrics metrics) {
+        for (int i = from + 1; i < to; i++) {
+            float key = arr[i];
+            metrics.incrementArrayAccesses();
+
+            metrics.incrementComparisons();
+            metrics.incrementArrayAccesses();
+            if (Float.compare(key, arr[i - 1]) >= 0) {
+                continue;
+            }
+
+            int j = i - 1;
+            while (j >= from) {
+                metrics.incrementComparisons();
+                metrics.incrementArrayAccesses();
+                if (Float.compare(arr[j], key) > 0) {
+                    arr[j + 1] = arr[j];
+                    metrics.incrementArrayAccesses();
+                    metrics.incrementShifts();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+
+            arr[j + 1] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+}
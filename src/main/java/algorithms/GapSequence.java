@@ -0,0 +1,110 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Gap sequences for {@link ShellSort}
+ *
+ * Each constant precomputes its ascending gaps up to Integer.MAX_VALUE once,
+ * so a sort only looks up where to start and allocates nothing.
+ */
+public enum GapSequence {
+    /** Ciura (2001): empirical 1, 4, 10, 23, 57, 132, 301, 701, then ×2.25 */
+    CIURA("ciura", ciuraGaps()),
+    /** Tokuda (1992): ceil((9^k - 4^k) / (5·4^(k-1))) = 1, 4, 9, 20, 46, 103, ... */
+    TOKUDA("tokuda", tokudaGaps()),
+    /** Sedgewick (1986): 1, then 4^k + 3·2^(k-1) + 1 = 8, 23, 77, 281, ...; O(n^(4/3)) worst case */
+    SEDGEWICK("sedgewick", sedgewickGaps()),
+    /** Pratt (1971): all 2^p·3^q; Θ(n log² n) in every case, but many passes */
+    PRATT("pratt", prattGaps());
+
+    private final String label;
+    private final int[] gaps;
+
+    GapSequence(String label, int[] gaps) {
+        this.label = label;
+        this.gaps = gaps;
+    }
+
+    /**
+     * Name used in reports and CSV files
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Gaps used for an array of n elements, largest first (a new array)
+     */
+    public int[] gaps(int n) {
+        int[] result = new int[startIndex(n) + 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = gaps[result.length - 1 - i];
+        }
+        return result;
+    }
+
+    /**
+     * Index of the largest gap below n, or -1 if n <= 1
+     */
+    int startIndex(int n) {
+        int index = -1;
+        while (index + 1 < gaps.length && gaps[index + 1] < n) {
+            index++;
+        }
+        return index;
+    }
+
+    int gapAt(int index) {
+        return gaps[index];
+    }
+
+    private static int[] ciuraGaps() {
+        int[] gaps = Arrays.copyOf(new int[]{1, 4, 10, 23, 57, 132, 301, 701}, 32);
+        int count = 8;
+        long next = (long) (gaps[count - 1] * 2.25);
+        while (next <= Integer.MAX_VALUE) {
+            gaps[count++] = (int) next;
+            next = (long) (next * 2.25);
+        }
+        return Arrays.copyOf(gaps, count);
+    }
+
+    private static int[] tokudaGaps() {
+        int[] gaps = new int[32];
+        int count = 0;
+        double x = 1;
+        while (Math.ceil(x) <= Integer.MAX_VALUE) {
+            gaps[count++] = (int) Math.ceil(x);
+            x = 2.25 * x + 1;
+        }
+        return Arrays.copyOf(gaps, count);
+    }
+
+    private static int[] sedgewickGaps() {
+        int[] gaps = new int[20];
+        gaps[0] = 1;
+        int count = 1;
+        for (int k = 1; ; k++) {
+            long gap = (1L << (2 * k)) + 3L * (1L << (k - 1)) + 1;
+            if (gap > Integer.MAX_VALUE) {
+                break;
+            }
+            gaps[count++] = (int) gap;
+        }
+        return Arrays.copyOf(gaps, count);
+    }
+
+    private static int[] prattGaps() {
+        int[] gaps = new int[512];
+        int count = 0;
+        for (long pow2 = 1; pow2 <= Integer.MAX_VALUE; pow2 *= 2) {
+            for (long gap = pow2; gap <= Integer.MAX_VALUE; gap *= 3) {
+                gaps[count++] = (int) gap;
+            }
+        }
+        int[] result = Arrays.copyOf(gaps, count);
+        Arrays.sort(result);
+        return result;
+    }
+}
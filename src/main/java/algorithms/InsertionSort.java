@@ -1,5 +1,11 @@
 package algorithms;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
 /**
  * Optimized Insertion Sort Implementation with enhancements for nearly-sorted data
  *
@@ -16,14 +22,31 @@ package algorithms;
  * 3. Early termination for sorted sequences
  * 4. Efficient shifting instead of swapping
  *
+ * Every variant is overloaded for int[], long[], double[], float[], short[],
+ * char[] and byte[] without boxing. double[] and float[] are ordered like
+ * Double.compare / Float.compare (-0.0 before 0.0, NaN after everything).
+ *
  * @author Nurbol
  */
 public class InsertionSort {
 
     private SortMetrics metrics;
+    private boolean metricsEnabled;
+    private RunAwareMergeSort runAwareSort;
+    private CountingRadixSort countingRadixSort;
 
     public InsertionSort() {
+        this(true);
+    }
+
+    /**
+     * @param metricsEnabled false selects the uninstrumented fast path
+     *                       ({@link FastInsertionSort}) for every variant; int[]
+     *                       inputs of at most 16 elements go to {@link SortingNetworks}
+     */
+    public InsertionSort(boolean metricsEnabled) {
         this.metrics = new SortMetrics();
+        this.metricsEnabled = metricsEnabled;
     }
 
     /**
@@ -35,16 +58,32 @@ public class InsertionSort {
             return;
         }
 
+        if (!metricsEnabled) {
+            if (arr.length <= SortingNetworks.MAX_SIZE) {
+                SortingNetworks.sort(arr);
+            } else {
+                FastInsertionSort.sort(arr);
+            }
+            return;
+        }
+
         metrics.reset();
         metrics.startTimer();
+        sortRange(arr, 0, arr.length);
+        metrics.stopTimer();
+    }
 
-        for (int i = 1; i < arr.length; i++) {
+    /**
+     * Standard insertion sort of arr[from, to), counting into the current metrics
+     */
+    void sortRange(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
             int key = arr[i];
             metrics.incrementArrayAccesses();
             int j = i - 1;
 
             // Shift elements greater than key to the right
-            while (j >= 0) {
+            while (j >= from) {
                 metrics.incrementComparisons();
                 if (arr[j] > key) {
                     metrics.incrementArrayAccesses(); // read arr[j]
@@ -60,8 +99,6 @@ public class InsertionSort {
             arr[j + 1] = key;
             metrics.incrementArrayAccesses();
         }
-
-        metrics.stopTimer();
     }
 
     /**
@@ -74,15 +111,31 @@ public class InsertionSort {
             return;
         }
 
+        if (!metricsEnabled) {
+            if (arr.length <= SortingNetworks.MAX_SIZE) {
+                SortingNetworks.sort(arr);
+            } else {
+                FastInsertionSort.binaryInsertionSort(arr);
+            }
+            return;
+        }
+
         metrics.reset();
         metrics.startTimer();
+        binaryInsertionSortRange(arr, 0, arr.length);
+        metrics.stopTimer();
+    }
 
-        for (int i = 1; i < arr.length; i++) {
+    /**
+     * Binary insertion sort of arr[from, to), counting into the current metrics
+     */
+    void binaryInsertionSortRange(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
             int key = arr[i];
             metrics.incrementArrayAccesses();
 
             // Find insertion position using binary search
-            int pos = binarySearch(arr, 0, i - 1, key);
+            int pos = binarySearch(arr, from, i - 1, key);
 
             // Shift elements to make space
             for (int j = i - 1; j >= pos; j--) {
@@ -95,13 +148,12 @@ public class InsertionSort {
             arr[pos] = key;
             metrics.incrementArrayAccesses();
         }
-
-        metrics.stopTimer();
     }
 
     /**
      * Binary search to find insertion position
-     * Returns the index where key should be inserted
+     * Returns the index where key should be inserted: the upper bound, after
+     * any elements equal to key, so equal elements keep their order
      */
     private int binarySearch(int[] arr, int left, int right, int key) {
         while (left <= right) {
@@ -110,10 +162,7 @@ public class InsertionSort {
             metrics.incrementComparisons();
             metrics.incrementArrayAccesses();
 
-            if (arr[mid] == key) {
-                return mid + 1;
-            } else if (arr[mid] < key) {
-                metrics.incrementComparisons();
+            if (arr[mid] <= key) {
                 left = mid + 1;
             } else {
                 right = mid - 1;
@@ -123,6 +172,54 @@ public class InsertionSort {
         return left;
     }
 
+    /**
+     * Binary insertion sort that moves each shifted block with one System.arraycopy
+     * Same comparisons and result as binaryInsertionSort; shifts and array
+     * accesses are counted in bulk, so the counters match it exactly
+     */
+    public void blockBinaryInsertionSort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            if (arr.length <= SortingNetworks.MAX_SIZE) {
+                SortingNetworks.sort(arr);
+            } else {
+                FastInsertionSort.blockBinaryInsertionSort(arr);
+            }
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        blockBinaryInsertionSortRange(arr, 0, arr.length);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Block-shift binary insertion sort of arr[from, to), counting into the current metrics
+     */
+    void blockBinaryInsertionSortRange(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = arr[i];
+            metrics.incrementArrayAccesses();
+
+            int pos = binarySearch(arr, from, i - 1, key);
+
+            // One memmove for the whole block: a read and a write per element
+            int moved = i - pos;
+            if (moved > 0) {
+                System.arraycopy(arr, pos, arr, pos + 1, moved);
+                metrics.addShifts(moved);
+                metrics.addArrayAccesses(2L * moved);
+            }
+
+            arr[pos] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+
     /**
      * Insertion sort with sentinel optimization
      * Eliminates boundary checking in inner loop
@@ -133,12 +230,28 @@ public class InsertionSort {
             return;
         }
 
+        if (!metricsEnabled) {
+            if (arr.length <= SortingNetworks.MAX_SIZE) {
+                SortingNetworks.sort(arr);
+            } else {
+                FastInsertionSort.sentinelInsertionSort(arr);
+            }
+            return;
+        }
+
         metrics.reset();
         metrics.startTimer();
+        sentinelInsertionSortRange(arr, 0, arr.length);
+        metrics.stopTimer();
+    }
 
-        // Find minimum element and place it at index 0 (sentinel)
-        int minIndex = 0;
-        for (int i = 1; i < arr.length; i++) {
+    /**
+     * Sentinel insertion sort of arr[from, to), counting into the current metrics
+     */
+    void sentinelInsertionSortRange(int[] arr, int from, int to) {
+        // Find minimum element and place it at index from (sentinel)
+        int minIndex = from;
+        for (int i = from + 1; i < to; i++) {
             metrics.incrementComparisons();
             metrics.incrementArrayAccesses();
             if (arr[i] < arr[minIndex]) {
@@ -147,17 +260,17 @@ public class InsertionSort {
         }
 
         // Swap minimum to front (sentinel position)
-        if (minIndex != 0) {
-            swap(arr, 0, minIndex);
+        if (minIndex != from) {
+            swap(arr, from, minIndex);
         }
 
         // Now perform insertion sort without boundary checks
-        for (int i = 2; i < arr.length; i++) {
+        for (int i = from + 2; i < to; i++) {
             int key = arr[i];
             metrics.incrementArrayAccesses();
             int j = i - 1;
 
-            // No need to check j >= 0 because sentinel guarantees termination
+            // No need to check j >= from because sentinel guarantees termination
             while (arr[j] > key) {
                 metrics.incrementComparisons();
                 metrics.incrementArrayAccesses();
@@ -171,8 +284,6 @@ public class InsertionSort {
             arr[j + 1] = key;
             metrics.incrementArrayAccesses();
         }
-
-        metrics.stopTimer();
     }
 
     /**
@@ -184,10 +295,26 @@ public class InsertionSort {
             return;
         }
 
+        if (!metricsEnabled) {
+            if (arr.length <= SortingNetworks.MAX_SIZE) {
+                SortingNetworks.sort(arr);
+            } else {
+                FastInsertionSort.adaptiveInsertionSort(arr);
+            }
+            return;
+        }
+
         metrics.reset();
         metrics.startTimer();
+        adaptiveInsertionSortRange(arr, 0, arr.length);
+        metrics.stopTimer();
+    }
 
-        for (int i = 1; i < arr.length; i++) {
+    /**
+     * Adaptive insertion sort of arr[from, to), counting into the current metrics
+     */
+    void adaptiveInsertionSortRange(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
             int key = arr[i];
             metrics.incrementArrayAccesses();
 
@@ -201,7 +328,7 @@ public class InsertionSort {
             int j = i - 1;
 
             // Find insertion position and shift
-            while (j >= 0) {
+            while (j >= from) {
                 metrics.incrementComparisons();
                 metrics.incrementArrayAccesses();
                 if (arr[j] > key) {
@@ -217,10 +344,346 @@ public class InsertionSort {
             arr[j + 1] = key;
             metrics.incrementArrayAccesses();
         }
+    }
+
+    /**
+     * Hybrid run-aware sort for large inputs
+     * Detects natural ascending/descending runs, extends short runs to
+     * 32-64 elements with binary insertion sort and merges them with galloping
+     *
+     * Worst case Θ(n log n); stays near-linear on sorted and nearly-sorted data
+     * The merge buffer is kept and reused by later calls on this instance
+     */
+    public void hybridSort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+
+        if (runAwareSort == null) {
+            runAwareSort = new RunAwareMergeSort();
+        }
+
+        if (!metricsEnabled) {
+            runAwareSort.sort(arr, 0, arr.length, null);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        runAwareSort.sort(arr, 0, arr.length, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Samples the input (O(n) worst case, see {@link PresortednessProfile}) and
+     * dispatches to the variant chosen by {@link SortSelector}
+     *
+     * With metrics enabled, the choice, the sampling comparisons and the
+     * selection time are recorded in getMetrics() next to the sort's own counts.
+     */
+    public void autoSort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            sortUninstrumented(SortSelector.choose(PresortednessProfile.of(arr)), arr);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        long selectionStart = System.nanoTime();
+        PresortednessProfile profile = PresortednessProfile.of(arr);
+        SortSelector.Choice choice = SortSelector.choose(profile);
+        metrics.recordSelection(choice.name(), profile.getComparisons(), System.nanoTime() - selectionStart);
+
+        switch (choice) {
+            case STANDARD:
+                sortRange(arr, 0, arr.length);
+                break;
+            case BINARY:
+                binaryInsertionSortRange(arr, 0, arr.length);
+                break;
+            case ADAPTIVE:
+                adaptiveInsertionSortRange(arr, 0, arr.length);
+                break;
+            default:
+                if (runAwareSort == null) {
+                    runAwareSort = new RunAwareMergeSort();
+                }
+                runAwareSort.sort(arr, 0, arr.length, metrics);
+                break;
+        }
+        metrics.stopTimer();
+    }
+
+    /**
+     * Metrics-off dispatch for autoSort; STANDARD only uses a sorting network
+     * while the input fits one, whatever SortSelector.TINY_THRESHOLD is set to
+     */
+    void sortUninstrumented(SortSelector.Choice choice, int[] arr) {
+        switch (choice) {
+            case STANDARD:
+                if (arr.length <= SortingNetworks.MAX_SIZE) {
+                    SortingNetworks.sort(arr);
+                } else {
+                    FastInsertionSort.sort(arr);
+                }
+                break;
+            case BINARY:
+                FastInsertionSort.binaryInsertionSort(arr);
+                break;
+            case ADAPTIVE:
+                FastInsertionSort.adaptiveInsertionSort(arr);
+                break;
+            default:
+                hybridSort(arr);
+                break;
+        }
+    }
+
+    /**
+     * Range-detecting integer sort: one min/max scan, then counting sort when
+     * the key range is at most about 2n (e.g. few unique values), LSD radix
+     * sort with 8- or 11-bit digits otherwise; see {@link CountingRadixSort}
+     *
+     * Θ(n + range) or Θ(n) per radix pass, independent of presortedness.
+     * Not in place for radix: the scatter buffer and histogram are kept and
+     * reused by later calls on this instance.
+     */
+    public void radixSort(int[] arr) {
+        if (arr == null) {
+            return;
+        }
+        radixSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Range-detecting counting/radix sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void radixSort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (countingRadixSort == null) {
+            countingRadixSort = new CountingRadixSort();
+        }
+
+        if (!metricsEnabled) {
+            countingRadixSort.sort(arr, fromIndex, toIndex, null);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        countingRadixSort.sort(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    // Range overloads
+
+    /**
+     * Standard insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void sort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.sortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        sortRange(arr, fromIndex, toIndex);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Binary insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void binaryInsertionSort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.binaryInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        binaryInsertionSortRange(arr, fromIndex, toIndex);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Block-shift binary insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void blockBinaryInsertionSort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.blockBinaryInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        blockBinaryInsertionSortRange(arr, fromIndex, toIndex);
+        metrics.stopTimer();
+    }
 
+    /**
+     * Sentinel insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void sentinelInsertionSort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.sentinelInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        sentinelInsertionSortRange(arr, fromIndex, toIndex);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Adaptive insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void adaptiveInsertionSort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.adaptiveInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        adaptiveInsertionSortRange(arr, fromIndex, toIndex);
+        metrics.stopTimer();
+    }
+
+    // Partial sort
+
+    /**
+     * Moves the k smallest elements to arr[0, k) in ascending order; the
+     * other elements end up in arr[k, n) in unspecified order
+     *
+     * Keeps arr[0, k) as a sorted window: every later element is rejected
+     * with one comparison against the window's maximum, or inserted with a
+     * binary search and a block shift that evicts the maximum into its slot.
+     * Cost: n comparisons plus O(log k + k) per accepted element. On random
+     * order about k·ln(n/k) elements are accepted; descending input accepts all.
+     *
+     * @throws IllegalArgumentException if k is negative or greater than arr.length
+     */
+    public void partialSort(int[] arr, int k) {
+        if (arr == null) {
+            return;
+        }
+        if (k < 0 || k > arr.length) {
+            throw new IllegalArgumentException("k must be in [0, " + arr.length + "], got " + k);
+        }
+        if (arr.length <= 1 || k == 0) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.partialSortRange(arr, 0, arr.length, k);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        partialSortRange(arr, 0, arr.length, k);
         metrics.stopTimer();
     }
 
+    /**
+     * Partial sort of arr[from, to) into the window arr[from, from + k), counting into the current metrics
+     */
+    void partialSortRange(int[] arr, int from, int to, int k) {
+        int end = from + k;
+        blockBinaryInsertionSortRange(arr, from, end);
+
+        for (int i = end; i < to; i++) {
+            int value = arr[i];
+            metrics.incrementComparisons();
+            metrics.addArrayAccesses(2);
+            if (value >= arr[end - 1]) {
+                continue;
+            }
+
+            // value < window maximum: the position is at most end - 1
+            int pos = binarySearch(arr, from, end - 2, value);
+            int evicted = arr[end - 1];
+            int moved = end - 1 - pos;
+            if (moved > 0) {
+                System.arraycopy(arr, pos, arr, pos + 1, moved);
+                metrics.addShifts(moved);
+                metrics.addArrayAccesses(2L * moved);
+            }
+            arr[pos] = value;
+            arr[i] = evicted;
+            metrics.addArrayAccesses(3);
+        }
+    }
+
+    /**
+     * Checks a [fromIndex, toIndex) range the same way java.util.Arrays does
+     */
+    static void rangeCheck(int length, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
     /**
      * Helper method to swap two elements
      */
@@ -235,10 +698,22 @@ public class InsertionSort {
     }
 
     /**
-     * Get performance metrics from last sort operation
+     * Enable or disable metrics collection for subsequent sorts
+     * When disabled, metrics from the last instrumented sort are left untouched
      */
-    public SortMetrics getMetrics() {
-        return metrics;
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    /**
+     * Get performance metrics from last sort operation
+     */
+    public SortMetrics getMetrics() {
+        return metrics;
     }
 
     /**
@@ -252,4 +727,1910 @@ public class InsertionSort {
         }
         return true;
     }
+
+    public static boolean isSorted(long[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            if (arr[i] < arr[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSorted(double[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            if (Double.compare(arr[i], arr[i - 1]) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSorted(float[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            if (Float.compare(arr[i], arr[i - 1]) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSorted(short[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            if (arr[i] < arr[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSorted(char[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            if (arr[i] < arr[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSorted(byte[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            if (arr[i] < arr[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // long[] overloads
+
+    /**
+     * Standard insertion sort for long[]
+     */
+    public void sort(long[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Binary insertion sort for long[]
+     */
+    public void binaryInsertionSort(long[] arr) {
+        if (arr == null) {
+            return;
+        }
+        binaryInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sentinel insertion sort for long[]
+     */
+    public void sentinelInsertionSort(long[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sentinelInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Adaptive insertion sort for long[]
+     */
+    public void adaptiveInsertionSort(long[] arr) {
+        if (arr == null) {
+            return;
+        }
+        adaptiveInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Standard insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void sort(long[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            LongKernels.sortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        LongKernels.sortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Binary insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void binaryInsertionSort(long[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            LongKernels.binaryInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        LongKernels.binaryInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Sentinel insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void sentinelInsertionSort(long[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            LongKernels.sentinelInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        LongKernels.sentinelInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Adaptive insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void adaptiveInsertionSort(long[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            LongKernels.adaptiveInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        LongKernels.adaptiveInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    // double[] overloads
+
+    /**
+     * Standard insertion sort for double[]
+     * Ordered by Double.compare: -0.0 before 0.0, NaN last
+     */
+    public void sort(double[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Binary insertion sort for double[]
+     * Ordered by Double.compare: -0.0 before 0.0, NaN last
+     */
+    public void binaryInsertionSort(double[] arr) {
+        if (arr == null) {
+            return;
+        }
+        binaryInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sentinel insertion sort for double[]
+     * Ordered by Double.compare: -0.0 before 0.0, NaN last
+     */
+    public void sentinelInsertionSort(double[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sentinelInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Adaptive insertion sort for double[]
+     * Ordered by Double.compare: -0.0 before 0.0, NaN last
+     */
+    public void adaptiveInsertionSort(double[] arr) {
+        if (arr == null) {
+            return;
+        }
+        adaptiveInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Standard insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void sort(double[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            DoubleKernels.sortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        DoubleKernels.sortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Binary insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void binaryInsertionSort(double[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            DoubleKernels.binaryInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        DoubleKernels.binaryInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Sentinel insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void sentinelInsertionSort(double[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            DoubleKernels.sentinelInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        DoubleKernels.sentinelInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Adaptive insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void adaptiveInsertionSort(double[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            DoubleKernels.adaptiveInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        DoubleKernels.adaptiveInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    // float[] overloads
+
+    /**
+     * Standard insertion sort for float[]
+     * Ordered by Float.compare: -0.0 before 0.0, NaN last
+     */
+    public void sort(float[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Binary insertion sort for float[]
+     * Ordered by Float.compare: -0.0 before 0.0, NaN last
+     */
+    public void binaryInsertionSort(float[] arr) {
+        if (arr == null) {
+            return;
+        }
+        binaryInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sentinel insertion sort for float[]
+     * Ordered by Float.compare: -0.0 before 0.0, NaN last
+     */
+    public void sentinelInsertionSort(float[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sentinelInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Adaptive insertion sort for float[]
+     * Ordered by Float.compare: -0.0 before 0.0, NaN last
+     */
+    public void adaptiveInsertionSort(float[] arr) {
+        if (arr == null) {
+            return;
+        }
+        adaptiveInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Standard insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void sort(float[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FloatKernels.sortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        FloatKernels.sortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Binary insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void binaryInsertionSort(float[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FloatKernels.binaryInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        FloatKernels.binaryInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Sentinel insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void sentinelInsertionSort(float[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FloatKernels.sentinelInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        FloatKernels.sentinelInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Adaptive insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void adaptiveInsertionSort(float[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FloatKernels.adaptiveInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        FloatKernels.adaptiveInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    // short[] overloads
+
+    /**
+     * Standard insertion sort for short[]
+     */
+    public void sort(short[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Binary insertion sort for short[]
+     */
+    public void binaryInsertionSort(short[] arr) {
+        if (arr == null) {
+            return;
+        }
+        binaryInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sentinel insertion sort for short[]
+     */
+    public void sentinelInsertionSort(short[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sentinelInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Adaptive insertion sort for short[]
+     */
+    public void adaptiveInsertionSort(short[] arr) {
+        if (arr == null) {
+            return;
+        }
+        adaptiveInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Standard insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void sort(short[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            ShortKernels.sortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        ShortKernels.sortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Binary insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void binaryInsertionSort(short[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            ShortKernels.binaryInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        ShortKernels.binaryInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Sentinel insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void sentinelInsertionSort(short[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            ShortKernels.sentinelInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        ShortKernels.sentinelInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Adaptive insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void adaptiveInsertionSort(short[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            ShortKernels.adaptiveInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        ShortKernels.adaptiveInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    // char[] overloads
+
+    /**
+     * Standard insertion sort for char[]
+     */
+    public void sort(char[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Binary insertion sort for char[]
+     */
+    public void binaryInsertionSort(char[] arr) {
+        if (arr == null) {
+            return;
+        }
+        binaryInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sentinel insertion sort for char[]
+     */
+    public void sentinelInsertionSort(char[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sentinelInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Adaptive insertion sort for char[]
+     */
+    public void adaptiveInsertionSort(char[] arr) {
+        if (arr == null) {
+            return;
+        }
+        adaptiveInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Standard insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void sort(char[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            CharKernels.sortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        CharKernels.sortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Binary insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void binaryInsertionSort(char[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            CharKernels.binaryInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        CharKernels.binaryInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Sentinel insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void sentinelInsertionSort(char[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            CharKernels.sentinelInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        CharKernels.sentinelInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Adaptive insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void adaptiveInsertionSort(char[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            CharKernels.adaptiveInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        CharKernels.adaptiveInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    // byte[] overloads
+
+    /**
+     * Standard insertion sort for byte[]
+     */
+    public void sort(byte[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Binary insertion sort for byte[]
+     */
+    public void binaryInsertionSort(byte[] arr) {
+        if (arr == null) {
+            return;
+        }
+        binaryInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sentinel insertion sort for byte[]
+     */
+    public void sentinelInsertionSort(byte[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sentinelInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Adaptive insertion sort for byte[]
+     */
+    public void adaptiveInsertionSort(byte[] arr) {
+        if (arr == null) {
+            return;
+        }
+        adaptiveInsertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Standard insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void sort(byte[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            ByteKernels.sortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        ByteKernels.sortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Binary insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void binaryInsertionSort(byte[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            ByteKernels.binaryInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        ByteKernels.binaryInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Sentinel insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void sentinelInsertionSort(byte[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            ByteKernels.sentinelInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        ByteKernels.sentinelInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Adaptive insertion sort of arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public void adaptiveInsertionSort(byte[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            ByteKernels.adaptiveInsertionSortRange(arr, fromIndex, toIndex);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        ByteKernels.adaptiveInsertionSortRange(arr, fromIndex, toIndex, metrics);
+        metrics.stopTimer();
+    }
+
+    // Object overloads (Comparator / Comparable)
+
+    /**
+     * Standard insertion sort of objects; stable
+     */
+    public <T> void sort(T[] arr, Comparator<? super T> c) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.sort(arr, c);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        sortRange(arr, 0, arr.length, c);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Binary insertion sort of objects; stable
+     * Needs only O(log n) comparator calls per element
+     */
+    public <T> void binaryInsertionSort(T[] arr, Comparator<? super T> c) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.binaryInsertionSort(arr, c);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        binaryInsertionSortRange(arr, 0, arr.length, c);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Sentinel insertion sort of objects; stable
+     * The first minimum is rotated to the front instead of swapped
+     */
+    public <T> void sentinelInsertionSort(T[] arr, Comparator<? super T> c) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.sentinelInsertionSort(arr, c);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        sentinelInsertionSortRange(arr, 0, arr.length, c);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Adaptive insertion sort of objects; stable
+     */
+    public <T> void adaptiveInsertionSort(T[] arr, Comparator<? super T> c) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.adaptiveInsertionSort(arr, c);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        adaptiveInsertionSortRange(arr, 0, arr.length, c);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Standard insertion sort of objects in arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public <T> void sort(T[] arr, int fromIndex, int toIndex, Comparator<? super T> c) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.sortRange(arr, fromIndex, toIndex, c);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        sortRange(arr, fromIndex, toIndex, c);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Binary insertion sort of objects in arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public <T> void binaryInsertionSort(T[] arr, int fromIndex, int toIndex, Comparator<? super T> c) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.binaryInsertionSortRange(arr, fromIndex, toIndex, c);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        binaryInsertionSortRange(arr, fromIndex, toIndex, c);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Sentinel insertion sort of objects in arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public <T> void sentinelInsertionSort(T[] arr, int fromIndex, int toIndex, Comparator<? super T> c) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.sentinelInsertionSortRange(arr, fromIndex, toIndex, c);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        sentinelInsertionSortRange(arr, fromIndex, toIndex, c);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Adaptive insertion sort of objects in arr[fromIndex, toIndex); elements outside the range are untouched
+     */
+    public <T> void adaptiveInsertionSort(T[] arr, int fromIndex, int toIndex, Comparator<? super T> c) {
+        if (arr == null) {
+            return;
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.adaptiveInsertionSortRange(arr, fromIndex, toIndex, c);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        adaptiveInsertionSortRange(arr, fromIndex, toIndex, c);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Natural-order sorts of Comparable objects
+     */
+    public <T extends Comparable<? super T>> void sort(T[] arr) {
+        sort(arr, Comparator.naturalOrder());
+    }
+
+    public <T extends Comparable<? super T>> void binaryInsertionSort(T[] arr) {
+        binaryInsertionSort(arr, Comparator.naturalOrder());
+    }
+
+    public <T extends Comparable<? super T>> void sentinelInsertionSort(T[] arr) {
+        sentinelInsertionSort(arr, Comparator.naturalOrder());
+    }
+
+    public <T extends Comparable<? super T>> void adaptiveInsertionSort(T[] arr) {
+        adaptiveInsertionSort(arr, Comparator.naturalOrder());
+    }
+
+    /**
+     * List sorts: the list is copied to an array once, sorted and written back
+     */
+    public <T> void sort(List<T> list, Comparator<? super T> c) {
+        T[] arr = toArray(list);
+        sort(arr, c);
+        writeBack(list, arr);
+    }
+
+    public <T> void binaryInsertionSort(List<T> list, Comparator<? super T> c) {
+        T[] arr = toArray(list);
+        binaryInsertionSort(arr, c);
+        writeBack(list, arr);
+    }
+
+    public <T> void sentinelInsertionSort(List<T> list, Comparator<? super T> c) {
+        T[] arr = toArray(list);
+        sentinelInsertionSort(arr, c);
+        writeBack(list, arr);
+    }
+
+    public <T> void adaptiveInsertionSort(List<T> list, Comparator<? super T> c) {
+        T[] arr = toArray(list);
+        adaptiveInsertionSort(arr, c);
+        writeBack(list, arr);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] toArray(List<T> list) {
+        return (T[]) list.toArray();
+    }
+
+    private static <T> void writeBack(List<T> list, T[] arr) {
+        ListIterator<T> it = list.listIterator();
+        for (T element : arr) {
+            it.next();
+            it.set(element);
+        }
+    }
+
+    /**
+     * Counted comparator call
+     */
+    private <T> int compare(Comparator<? super T> c, T a, T b) {
+        metrics.incrementComparisons();
+        metrics.incrementComparatorInvocations();
+        return c.compare(a, b);
+    }
+
+    <T> void sortRange(T[] arr, int from, int to, Comparator<? super T> c) {
+        for (int i = from + 1; i < to; i++) {
+            T key = arr[i];
+            metrics.incrementArrayAccesses();
+            int j = i - 1;
+
+            while (j >= from) {
+                metrics.incrementArrayAccesses();
+                if (compare(c, arr[j], key) > 0) {
+                    arr[j + 1] = arr[j];
+                    metrics.incrementArrayAccesses();
+                    metrics.incrementShifts();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+
+            arr[j + 1] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+
+    <T> void binaryInsertionSortRange(T[] arr, int from, int to, Comparator<? super T> c) {
+        for (int i = from + 1; i < to; i++) {
+            T key = arr[i];
+            metrics.incrementArrayAccesses();
+
+            // Upper bound keeps equal elements in their original order
+            int left = from;
+            int right = i;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                metrics.incrementArrayAccesses();
+                if (compare(c, key, arr[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            for (int j = i - 1; j >= left; j--) {
+                arr[j + 1] = arr[j];
+                metrics.incrementArrayAccesses();
+                metrics.incrementArrayAccesses();
+                metrics.incrementShifts();
+            }
+
+            arr[left] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+
+    <T> void sentinelInsertionSortRange(T[] arr, int from, int to, Comparator<? super T> c) {
+        int minIndex = from;
+        for (int i = from + 1; i < to; i++) {
+            metrics.incrementArrayAccesses();
+            if (compare(c, arr[i], arr[minIndex]) < 0) {
+                minIndex = i;
+            }
+        }
+
+        // Rotate the first minimum to the front so equal elements keep their order
+        if (minIndex != from) {
+            T min = arr[minIndex];
+            for (int j = minIndex; j > from; j--) {
+                arr[j] = arr[j - 1];
+                metrics.incrementShifts();
+            }
+            arr[from] = min;
+            metrics.addArrayAccesses(2L * (minIndex - from) + 2);
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            T key = arr[i];
+            metrics.incrementArrayAccesses();
+            int j = i - 1;
+
+            while (compare(c, arr[j], key) > 0) {
+                metrics.incrementArrayAccesses();
+                arr[j + 1] = arr[j];
+                metrics.incrementArrayAccesses();
+                metrics.incrementShifts();
+                j--;
+            }
+
+            arr[j + 1] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+
+    <T> void adaptiveInsertionSortRange(T[] arr, int from, int to, Comparator<? super T> c) {
+        for (int i = from + 1; i < to; i++) {
+            T key = arr[i];
+            metrics.incrementArrayAccesses();
+
+            metrics.incrementArrayAccesses();
+            if (compare(c, key, arr[i - 1]) >= 0) {
+                continue;
+            }
+
+            int j = i - 1;
+            while (j >= from) {
+                metrics.incrementArrayAccesses();
+                if (compare(c, arr[j], key) > 0) {
+                    arr[j + 1] = arr[j];
+                    metrics.incrementArrayAccesses();
+                    metrics.incrementShifts();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+
+            arr[j + 1] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+
+    // Key-extractor overloads
+
+    /**
+     * Sorts objects by an int key extracted exactly once per element
+     *
+     * Keys are copied into a primitive array and sorted together with an index
+     * permutation (adaptive check + binary search + block shifts), so no
+     * comparator is called and no object is dereferenced during the sort.
+     * The permutation is applied to arr at the end. Stable.
+     * Extra space: Θ(n) for keys, permutation and one copy of arr
+     */
+    public <T> void sortByKey(T[] arr, ToIntFunction<? super T> keyExtractor) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+
+        if (metricsEnabled) {
+            metrics.reset();
+            metrics.startTimer();
+        }
+
+        int n = arr.length;
+        int[] keys = new int[n];
+        int[] perm = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyExtractor.applyAsInt(arr[i]);
+            perm[i] = i;
+        }
+
+        sortKeysWithPermutation(keys, perm, 0, n);
+        applyPermutation(arr, perm);
+
+        if (metricsEnabled) {
+            metrics.addArrayAccesses(4L * n);
+            metrics.stopTimer();
+        }
+    }
+
+    /**
+     * Sorts objects by a long key extracted exactly once per element
+     * Same algorithm and guarantees as {@link #sortByKey(Object[], ToIntFunction)}
+     */
+    public <T> void sortByLongKey(T[] arr, ToLongFunction<? super T> keyExtractor) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+
+        if (metricsEnabled) {
+            metrics.reset();
+            metrics.startTimer();
+        }
+
+        int n = arr.length;
+        long[] keys = new long[n];
+        int[] perm = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyExtractor.applyAsLong(arr[i]);
+            perm[i] = i;
+        }
+
+        sortKeysWithPermutation(keys, perm, 0, n);
+        applyPermutation(arr, perm);
+
+        if (metricsEnabled) {
+            metrics.addArrayAccesses(4L * n);
+            metrics.stopTimer();
+        }
+    }
+
+    public <T> void sortByKey(List<T> list, ToIntFunction<? super T> keyExtractor) {
+        T[] arr = toArray(list);
+        sortByKey(arr, keyExtractor);
+        writeBack(list, arr);
+    }
+
+    public <T> void sortByLongKey(List<T> list, ToLongFunction<? super T> keyExtractor) {
+        T[] arr = toArray(list);
+        sortByLongKey(arr, keyExtractor);
+        writeBack(list, arr);
+    }
+
+    private static <T> void applyPermutation(T[] arr, int[] perm) {
+        T[] original = arr.clone();
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = original[perm[i]];
+        }
+    }
+
+    // Key/payload overloads
+
+    /**
+     * Standard insertion sort of keys, applying every move to payload as well
+     *
+     * Keys and payload are parallel arrays: payload[i] travels with keys[i],
+     * without boxing. All key/payload variants are stable - pairs with equal
+     * keys keep their input order (strict comparisons, upper-bound binary
+     * search, sentinel rotated into place instead of swapped).
+     *
+     * @throws IllegalArgumentException if payload is null or differs in length from keys
+     */
+    public void sort(int[] keys, int[] payload) {
+        if (!needsPairSort(keys, payload == null ? -1 : payload.length)) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.sortRange(keys, payload, 0, keys.length);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        sortRange(keys, payload, 0, keys.length);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Stable binary insertion sort of keys with payload (block shifts on both arrays)
+     */
+    public void binaryInsertionSort(int[] keys, int[] payload) {
+        if (!needsPairSort(keys, payload == null ? -1 : payload.length)) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.binaryInsertionSortRange(keys, payload, 0, keys.length);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        binaryInsertionSortRange(keys, payload, 0, keys.length);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Stable sentinel insertion sort of keys with payload
+     */
+    public void sentinelInsertionSort(int[] keys, int[] payload) {
+        if (!needsPairSort(keys, payload == null ? -1 : payload.length)) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.sentinelInsertionSortRange(keys, payload, 0, keys.length);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        sentinelInsertionSortRange(keys, payload, 0, keys.length);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Stable adaptive insertion sort of keys with payload
+     */
+    public void adaptiveInsertionSort(int[] keys, int[] payload) {
+        if (!needsPairSort(keys, payload == null ? -1 : payload.length)) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.adaptiveInsertionSortRange(keys, payload, 0, keys.length);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        adaptiveInsertionSortRange(keys, payload, 0, keys.length);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Standard insertion sort of keys with a long payload
+     * Same stability guarantee as {@link #sort(int[], int[])}
+     */
+    public void sort(int[] keys, long[] payload) {
+        if (!needsPairSort(keys, payload == null ? -1 : payload.length)) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.sortRange(keys, payload, 0, keys.length);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        sortRange(keys, payload, 0, keys.length);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Stable binary insertion sort of keys with payload (block shifts on both arrays)
+     */
+    public void binaryInsertionSort(int[] keys, long[] payload) {
+        if (!needsPairSort(keys, payload == null ? -1 : payload.length)) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.binaryInsertionSortRange(keys, payload, 0, keys.length);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        binaryInsertionSortRange(keys, payload, 0, keys.length);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Stable sentinel insertion sort of keys with payload
+     */
+    public void sentinelInsertionSort(int[] keys, long[] payload) {
+        if (!needsPairSort(keys, payload == null ? -1 : payload.length)) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.sentinelInsertionSortRange(keys, payload, 0, keys.length);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        sentinelInsertionSortRange(keys, payload, 0, keys.length);
+        metrics.stopTimer();
+    }
+
+    /**
+     * Stable adaptive insertion sort of keys with payload
+     */
+    public void adaptiveInsertionSort(int[] keys, long[] payload) {
+        if (!needsPairSort(keys, payload == null ? -1 : payload.length)) {
+            return;
+        }
+
+        if (!metricsEnabled) {
+            FastInsertionSort.adaptiveInsertionSortRange(keys, payload, 0, keys.length);
+            return;
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+        adaptiveInsertionSortRange(keys, payload, 0, keys.length);
+        metrics.stopTimer();
+    }
+
+    /**
+     * False if there is nothing to sort; payloadLength is -1 for a null payload
+     */
+    private static boolean needsPairSort(int[] keys, int payloadLength) {
+        if (keys == null) {
+            return false;
+        }
+        if (payloadLength != keys.length) {
+            throw new IllegalArgumentException("payload length " + payloadLength
+                    + " does not match keys length " + keys.length);
+        }
+        return keys.length > 1;
+    }
+
+    void sortRange(int[] keys, int[] payload, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            int value = payload[i];
+            metrics.addArrayAccesses(2);
+            int j = i - 1;
+
+            while (j >= from) {
+                metrics.incrementComparisons();
+                metrics.incrementArrayAccesses();
+                if (keys[j] > key) {
+                    keys[j + 1] = keys[j];
+                    payload[j + 1] = payload[j];
+                    metrics.addArrayAccesses(3);
+                    metrics.incrementShifts();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+
+            keys[j + 1] = key;
+            payload[j + 1] = value;
+            metrics.addArrayAccesses(2);
+        }
+    }
+
+    void binaryInsertionSortRange(int[] keys, int[] payload, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            metrics.incrementArrayAccesses();
+
+            int pos = binarySearch(keys, from, i - 1, key);
+            int moved = i - pos;
+            if (moved > 0) {
+                int value = payload[i];
+                System.arraycopy(keys, pos, keys, pos + 1, moved);
+                System.arraycopy(payload, pos, payload, pos + 1, moved);
+                keys[pos] = key;
+                payload[pos] = value;
+                metrics.addShifts(moved);
+                metrics.addArrayAccesses(4L * moved + 3);
+            }
+        }
+    }
+
+    void sentinelInsertionSortRange(int[] keys, int[] payload, int from, int to) {
+        int minIndex = from;
+        for (int i = from + 1; i < to; i++) {
+            metrics.incrementComparisons();
+            metrics.addArrayAccesses(2);
+            if (keys[i] < keys[minIndex]) {
+                minIndex = i;
+            }
+        }
+
+        // Rotate the first minimum to the front so equal keys keep their order
+        if (minIndex != from) {
+            int min = keys[minIndex];
+            int value = payload[minIndex];
+            int moved = minIndex - from;
+            System.arraycopy(keys, from, keys, from + 1, moved);
+            System.arraycopy(payload, from, payload, from + 1, moved);
+            keys[from] = min;
+            payload[from] = value;
+            metrics.addShifts(moved);
+            metrics.addArrayAccesses(4L * moved + 4);
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            int key = keys[i];
+            int value = payload[i];
+            metrics.addArrayAccesses(2);
+            int j = i - 1;
+
+            while (true) {
+                metrics.incrementComparisons();
+                metrics.incrementArrayAccesses();
+                if (keys[j] <= key) {
+                    break;
+                }
+                keys[j + 1] = keys[j];
+                payload[j + 1] = payload[j];
+                metrics.addArrayAccesses(3);
+                metrics.incrementShifts();
+                j--;
+            }
+
+            keys[j + 1] = key;
+            payload[j + 1] = value;
+            metrics.addArrayAccesses(2);
+        }
+    }
+
+    void adaptiveInsertionSortRange(int[] keys, int[] payload, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            metrics.incrementComparisons();
+            metrics.addArrayAccesses(2);
+            if (key >= keys[i - 1]) {
+                continue;
+            }
+
+            int value = payload[i];
+            metrics.incrementArrayAccesses();
+            int j = i - 1;
+            while (j >= from) {
+                metrics.incrementComparisons();
+                metrics.incrementArrayAccesses();
+                if (keys[j] > key) {
+                    keys[j + 1] = keys[j];
+                    payload[j + 1] = payload[j];
+                    metrics.addArrayAccesses(3);
+                    metrics.incrementShifts();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+
+            keys[j + 1] = key;
+            payload[j + 1] = value;
+            metrics.addArrayAccesses(2);
+        }
+    }
+
+    void sortRange(int[] keys, long[] payload, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            long value = payload[i];
+            metrics.addArrayAccesses(2);
+            int j = i - 1;
+
+            while (j >= from) {
+                metrics.incrementComparisons();
+                metrics.incrementArrayAccesses();
+                if (keys[j] > key) {
+                    keys[j + 1] = keys[j];
+                    payload[j + 1] = payload[j];
+                    metrics.addArrayAccesses(3);
+                    metrics.incrementShifts();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+
+            keys[j + 1] = key;
+            payload[j + 1] = value;
+            metrics.addArrayAccesses(2);
+        }
+    }
+
+    void binaryInsertionSortRange(int[] keys, long[] payload, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            metrics.incrementArrayAccesses();
+
+            int pos = binarySearch(keys, from, i - 1, key);
+            int moved = i - pos;
+            if (moved > 0) {
+                long value = payload[i];
+                System.arraycopy(keys, pos, keys, pos + 1, moved);
+                System.arraycopy(payload, pos, payload, pos + 1, moved);
+                keys[pos] = key;
+                payload[pos] = value;
+                metrics.addShifts(moved);
+                metrics.addArrayAccesses(4L * moved + 3);
+            }
+        }
+    }
+
+    void sentinelInsertionSortRange(int[] keys, long[] payload, int from, int to) {
+        int minIndex = from;
+        for (int i = from + 1; i < to; i++) {
+            metrics.incrementComparisons();
+            metrics.addArrayAccesses(2);
+            if (keys[i] < keys[minIndex]) {
+                minIndex = i;
+            }
+        }
+
+        // Rotate the first minimum to the front so equal keys keep their order
+        if (minIndex != from) {
+            int min = keys[minIndex];
+            long value = payload[minIndex];
+            int moved = minIndex - from;
+            System.arraycopy(keys, from, keys, from + 1, moved);
+            System.arraycopy(payload, from, payload, from + 1, moved);
+            keys[from] = min;
+            payload[from] = value;
+            metrics.addShifts(moved);
+            metrics.addArrayAccesses(4L * moved + 4);
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            int key = keys[i];
+            long value = payload[i];
+            metrics.addArrayAccesses(2);
+            int j = i - 1;
+
+            while (true) {
+                metrics.incrementComparisons();
+                metrics.incrementArrayAccesses();
+                if (keys[j] <= key) {
+                    break;
+                }
+                keys[j + 1] = keys[j];
+                payload[j + 1] = payload[j];
+                metrics.addArrayAccesses(3);
+                metrics.incrementShifts();
+                j--;
+            }
+
+            keys[j + 1] = key;
+            payload[j + 1] = value;
+            metrics.addArrayAccesses(2);
+        }
+    }
+
+    void adaptiveInsertionSortRange(int[] keys, long[] payload, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            metrics.incrementComparisons();
+            metrics.addArrayAccesses(2);
+            if (key >= keys[i - 1]) {
+                continue;
+            }
+
+            long value = payload[i];
+            metrics.incrementArrayAccesses();
+            int j = i - 1;
+            while (j >= from) {
+                metrics.incrementComparisons();
+                metrics.incrementArrayAccesses();
+                if (keys[j] > key) {
+                    keys[j + 1] = keys[j];
+                    payload[j + 1] = payload[j];
+                    metrics.addArrayAccesses(3);
+                    metrics.incrementShifts();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+
+            keys[j + 1] = key;
+            payload[j + 1] = value;
+            metrics.addArrayAccesses(2);
+        }
+    }
+
+    // Argsort
+
+    /**
+     * Returns the stable sorting permutation of arr without modifying it:
+     * arr[result[0]] <= arr[result[1]] <= ... and equal values keep index order
+     */
+    public int[] argsort(int[] arr) {
+        if (arr == null) {
+            return new int[0];
+        }
+        return argsort(arr, 0, arr.length);
+    }
+
+    /**
+     * Stable sorting permutation of arr[fromIndex, toIndex); arr is not modified
+     * The result holds indices into arr (not offsets into the range)
+     */
+    public int[] argsort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return new int[0];
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex;
+
+        if (metricsEnabled) {
+            metrics.reset();
+            metrics.startTimer();
+        }
+
+        int[] keys = new int[n];
+        int[] perm = new int[n];
+        System.arraycopy(arr, fromIndex, keys, 0, n);
+        for (int i = 0; i < n; i++) {
+            perm[i] = fromIndex + i;
+        }
+        sortKeysWithPermutation(keys, perm, 0, n);
+
+        if (metricsEnabled) {
+            metrics.addArrayAccesses(2L * n);
+            metrics.stopTimer();
+        }
+        return perm;
+    }
+
+    /**
+     * Returns the stable sorting permutation of a long array without modifying it
+     */
+    public int[] argsort(long[] arr) {
+        if (arr == null) {
+            return new int[0];
+        }
+        return argsort(arr, 0, arr.length);
+    }
+
+    /**
+     * Stable sorting permutation of arr[fromIndex, toIndex); arr is not modified
+     * The result holds indices into arr (not offsets into the range)
+     */
+    public int[] argsort(long[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return new int[0];
+        }
+        rangeCheck(arr.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex;
+
+        if (metricsEnabled) {
+            metrics.reset();
+            metrics.startTimer();
+        }
+
+        long[] keys = new long[n];
+        int[] perm = new int[n];
+        System.arraycopy(arr, fromIndex, keys, 0, n);
+        for (int i = 0; i < n; i++) {
+            perm[i] = fromIndex + i;
+        }
+        sortKeysWithPermutation(keys, perm, 0, n);
+
+        if (metricsEnabled) {
+            metrics.addArrayAccesses(2L * n);
+            metrics.stopTimer();
+        }
+        return perm;
+    }
+
+    /**
+     * Stable adaptive binary insertion sort of keys[from, to), moving perm along
+     * Shifts are done as block moves on both arrays
+     */
+    private void sortKeysWithPermutation(int[] keys, int[] perm, int from, int to) {
+        long comparisons = 0;
+        long shifts = 0;
+
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            comparisons++;
+            if (key >= keys[i - 1]) {
+                continue;
+            }
+
+            int left = from;
+            int right = i - 1;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                comparisons++;
+                if (key < keys[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            int index = perm[i];
+            System.arraycopy(keys, left, keys, left + 1, i - left);
+            System.arraycopy(perm, left, perm, left + 1, i - left);
+            keys[left] = key;
+            perm[left] = index;
+            shifts += i - left;
+        }
+
+        recordKeySort(comparisons, shifts);
+    }
+
+    private void sortKeysWithPermutation(long[] keys, int[] perm, int from, int to) {
+        long comparisons = 0;
+        long shifts = 0;
+
+        for (int i = from + 1; i < to; i++) {
+            long key = keys[i];
+            comparisons++;
+            if (key >= keys[i - 1]) {
+                continue;
+            }
+
+            int left = from;
+            int right = i - 1;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                comparisons++;
+                if (key < keys[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            int index = perm[i];
+            System.arraycopy(keys, left, keys, left + 1, i - left);
+            System.arraycopy(perm, left, perm, left + 1, i - left);
+            keys[left] = key;
+            perm[left] = index;
+            shifts += i - left;
+        }
+
+        recordKeySort(comparisons, shifts);
+    }
+
+    private void recordKeySort(long comparisons, long shifts) {
+        if (metricsEnabled) {
+            metrics.addComparisons(comparisons);
+            metrics.addShifts(shifts);
+            metrics.addArrayAccesses(comparisons + 4 * shifts);
+        }
+    }
 }
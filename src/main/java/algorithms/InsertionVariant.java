@@ -0,0 +1,49 @@
+package algorithms;
+
+/**
+ * Insertion sort variant used by the sorters that apply one variant to many
+ * ranges (parallel leaves, batches, NIO buffers, memory segments)
+ */
+public enum InsertionVariant {
+    STANDARD, BINARY, SENTINEL, ADAPTIVE;
+
+    /**
+     * Sorts arr[from, to) with this variant: the uninstrumented kernels if
+     * counting is null, otherwise the counting kernels of that InsertionSort
+     * (which add to its current metrics)
+     */
+    void sortRange(int[] arr, int from, int to, InsertionSort counting) {
+        if (counting == null) {
+            switch (this) {
+                case STANDARD:
+                    FastInsertionSort.sortRange(arr, from, to);
+                    break;
+                case BINARY:
+                    FastInsertionSort.binaryInsertionSortRange(arr, from, to);
+                    break;
+                case SENTINEL:
+                    FastInsertionSort.sentinelInsertionSortRange(arr, from, to);
+                    break;
+                default:
+                    FastInsertionSort.adaptiveInsertionSortRange(arr, from, to);
+                    break;
+            }
+            return;
+        }
+
+        switch (this) {
+            case STANDARD:
+                counting.sortRange(arr, from, to);
+                break;
+            case BINARY:
+                counting.binaryInsertionSortRange(arr, from, to);
+                break;
+            case SENTINEL:
+                counting.sentinelInsertionSortRange(arr, from, to);
+                break;
+            default:
+                counting.adaptiveInsertionSortRange(arr, from, to);
+                break;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package algorithms;
+
+/**
+ * Uninstrumented int[] insertion sort kernels behind {@link SimdInsertionSort}
+ *
+ * Implementations sort arr[from, to) in place. The Vector API engine in
+ * src/vector/java implements this interface; it is loaded reflectively so the
+ * default build never links against the incubator module.
+ */
+interface IntInsertionKernels {
+
+    void binaryInsertionSortRange(int[] arr, int from, int to);
+
+    void sentinelInsertionSortRange(int[] arr, int from, int to);
+
+    /**
+     * Short engine description for reports
+     */
+    String describe();
+}
@@ -0,0 +1,227 @@
+package algorithms;
+
+/**
+ * Insertion sort kernels for long[] ranges
+ */
+final class LongKernels {
+
+    private LongKernels() {
+    }
+
+    // Uninstrumented
+
+    static void sortRange(long[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long key = arr[i];
+            int j = i - 1;
+
+            while (j >= from && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+
+    static void binaryInsertionSortRange(long[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long key = arr[i];
+            int pos = binarySearch(arr, from, i - 1, key);
+
+            for (int j = i - 1; j >= pos; j--) {
+                arr[j + 1] = arr[j];
+            }
+
+            arr[pos] = key;
+        }
+    }
+
+    static int binarySearch(long[] arr, int left, int right, long key) {
+        while (left <= right) {
+            int mid = (left + right) >>> 1;
+
+            if (arr[mid] <= key) {
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+
+        return left;
+    }
+
+    static void sentinelInsertionSortRange(long[] arr, int from, int to) {
+        int minIndex = from;
+        for (int i = from + 1; i < to; i++) {
+            if (arr[i] < arr[minIndex]) {
+                minIndex = i;
+            }
+        }
+
+        if (minIndex != from) {
+            long temp = arr[from];
+            arr[from] = arr[minIndex];
+            arr[minIndex] = temp;
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            long key = arr[i];
+            int j = i - 1;
+
+            while (arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+
+    static void adaptiveInsertionSortRange(long[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long key = arr[i];
+            if (key >= arr[i - 1]) {
+                continue;
+            }
+
+            int j = i - 1;
+            while (j >= from && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+
+    // Counting
+
+    static void sortRange(long[] arr, int from, int to, SortMetrics metrics) {
+        for (int i = from + 1; i < to; i++) {
+            long key = arr[i];
+            metrics.incrementArrayAccesses();
+            int j = i - 1;
+
+            while (j >= from) {
+                metrics.incrementComparisons();
+                if (arr[j] > key) {
+                    metrics.incrementArrayAccesses();
+                    arr[j + 1] = arr[j];
+                    metrics.incrementArrayAccesses();
+                    metrics.incrementShifts();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+
+            arr[j + 1] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+
+    static void binaryInsertionSortRange(long[] arr, int from, int to, SortMetrics metrics) {
+        for (int i = from + 1; i < to; i++) {
+            long key = arr[i];
+            metrics.incrementArrayAccesses();
+
+            int pos = binarySearch(arr, from, i - 1, key, metrics);
+
+            for (int j = i - 1; j >= pos; j--) {
+                arr[j + 1] = arr[j];
+                metrics.incrementArrayAccesses();
+                metrics.incrementArrayAccesses();
+                metrics.incrementShifts();
+            }
+
+            arr[pos] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+
+    private static int binarySearch(long[] arr, int left, int right, long key, SortMetrics metrics) {
+        while (left <= right) {
+            int mid = left + (right - left) / 2;
+
+            metrics.incrementComparisons();
+            metrics.incrementArrayAccesses();
+
+            if (arr[mid] <= key) {
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+
+        return left;
+    }
+
+    static void sentinelInsertionSortRange(long[] arr, int from, int to, SortMetrics metrics) {
+        int minIndex = from;
+        for (int i = from + 1; i < to; i++) {
+            metrics.incrementComparisons();
+            metrics.incrementArrayAccesses();
+            if (arr[i] < arr[minIndex]) {
+                minIndex = i;
+            }
+        }
+
+        if (minIndex != from) {
+            long temp = arr[from];
+            arr[from] = arr[minIndex];
+            arr[minIndex] = temp;
+            metrics.incrementSwaps();
+            metrics.addArrayAccesses(3);
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            long key = arr[i];
+            metrics.incrementArrayAccesses();
+            int j = i - 1;
+
+            while (arr[j] > key) {
+                metrics.incrementComparisons();
+                metrics.incrementArrayAccesses();
+                arr[j + 1] = arr[j];
+                metrics.incrementArrayAccesses();
+                metrics.incrementShifts();
+                j--;
+            }
+
+            metrics.incrementComparisons();
+            arr[j + 1] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+
+    static void adaptiveInsertionSortRange(long[] arr, int from, int to, SortMetrics metrics) {
+        for (int i = from + 1; i < to; i++) {
+            long key = arr[i];
+            metrics.incrementArrayAccesses();
+
+            metrics.incrementComparisons();
+            metrics.incrementArrayAccesses();
+            if (key >= arr[i - 1]) {
+                continue;
+            }
+
+            int j = i - 1;
+            while (j >= from) {
+                metrics.incrementComparisons();
+                metrics.incrementArrayAccesses();
+                if (arr[j] > key) {
+                    arr[j + 1] = arr[j];
+                    metrics.incrementArrayAccesses();
+                    metrics.incrementShifts();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+
+            arr[j + 1] = key;
+            metrics.incrementArrayAccesses();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Tournament (loser) tree for k-way merging
+ *
+ * Each internal node stores the loser of the match played there and tree[0]
+ * holds the overall winner, so replacing the winner's key costs exactly
+ * ceil(log2 k) comparisons on a single leaf-to-root path.
+ *
+ * Keys are longs so that an exhausted source can be marked with
+ * {@link #EXHAUSTED} without colliding with any int value.
+ * Ties are broken by source index, which keeps the merge stable.
+ */
+final class LoserTree {
+
+    static final long EXHAUSTED = Long.MAX_VALUE;
+
+    private final int k;
+    private final int[] tree;
+    private final long[] keys;
+    private long comparisons;
+
+    /**
+     * @param initialKeys first key of every source (EXHAUSTED for empty ones)
+     */
+    LoserTree(long[] initialKeys) {
+        this.k = initialKeys.length;
+        this.tree = new int[Math.max(k, 1)];
+        // keys[k] is a virtual source that beats everything during construction
+        this.keys = Arrays.copyOf(initialKeys, k + 1);
+        this.keys[k] = Long.MIN_VALUE;
+
+        Arrays.fill(tree, k);
+        for (int i = k - 1; i >= 0; i--) {
+            adjust(i);
+        }
+    }
+
+    /**
+     * Index of the source holding the smallest current key
+     */
+    int winner() {
+        return tree[0];
+    }
+
+    long winnerKey() {
+        return keys[tree[0]];
+    }
+
+    /**
+     * Replaces the winner's key with the next key of the same source
+     */
+    void replaceWinner(long nextKey) {
+        int s = tree[0];
+        keys[s] = nextKey;
+        adjust(s);
+    }
+
+    long getComparisons() {
+        return comparisons;
+    }
+
+    private void adjust(int s) {
+        for (int t = (s + k) >> 1; t > 0; t >>= 1) {
+            comparisons++;
+            if (beats(tree[t], s)) {
+                int loser = s;
+                s = tree[t];
+                tree[t] = loser;
+            }
+        }
+        tree[0] = s;
+    }
+
+    private boolean beats(int a, int b) {
+        return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+    }
+}
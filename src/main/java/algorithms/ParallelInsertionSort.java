@@ -0,0 +1,261 @@
+package algorithms;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parallel fork-join merge sort with insertion sort leaves
+ *
+ * Partitions of at most {@code granularity} elements are sorted with one of
+ * the InsertionSort variants; sorted partitions are merged in parallel
+ * (split the larger run at its middle, binary search the split in the other).
+ *
+ * TIME COMPLEXITY (p threads, leaf size g):
+ * - Work: Θ(n·g) leaves + Θ(n log(n/g)) merges
+ * - Span: Θ(g²) + Θ(log³ n)
+ *
+ * SPACE COMPLEXITY: Θ(n) merge buffer, kept and reused across calls
+ *
+ * Each task counts into its own SortMetrics; counts are summed up the task
+ * tree on join, so no counter is ever shared between threads.
+ * A single instance must not be used by two threads at the same time.
+ */
+public class ParallelInsertionSort {
+
+    public static final int DEFAULT_GRANULARITY = 512;
+
+    /** Merges shorter than this are done sequentially */
+    private static final int MERGE_GRANULARITY = 8192;
+
+    private final ForkJoinPool pool;
+    private final int granularity;
+    private final InsertionVariant leafVariant;
+    private final boolean metricsEnabled;
+    private SortMetrics metrics;
+    private int[] buffer = new int[0];
+
+    public ParallelInsertionSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_GRANULARITY, InsertionVariant.ADAPTIVE, true);
+    }
+
+    public ParallelInsertionSort(ForkJoinPool pool, int granularity, InsertionVariant leafVariant) {
+        this(pool, granularity, leafVariant, true);
+    }
+
+    /**
+     * @param pool           pool the sort runs in
+     * @param granularity    maximum leaf partition size (at least 2)
+     * @param leafVariant    insertion sort variant used on leaves
+     * @param metricsEnabled false uses the uninstrumented leaf kernels
+     */
+    public ParallelInsertionSort(ForkJoinPool pool, int granularity,
+                                 InsertionVariant leafVariant, boolean metricsEnabled) {
+        if (granularity < 2) {
+            throw new IllegalArgumentException("granularity must be at least 2: " + granularity);
+        }
+        this.pool = pool;
+        this.granularity = granularity;
+        this.leafVariant = leafVariant;
+        this.metricsEnabled = metricsEnabled;
+        this.metrics = new SortMetrics();
+    }
+
+    /**
+     * Sorts arr in parallel; metrics of all threads are aggregated into getMetrics()
+     */
+    public void sort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+
+        if (buffer.length < arr.length) {
+            buffer = new int[arr.length];
+        }
+
+        long start = System.nanoTime();
+        SortMetrics total = pool.invoke(new SortTask(arr, buffer, 0, arr.length, false));
+        total.setExecutionTimeNanos(System.nanoTime() - start);
+        metrics = total;
+    }
+
+    /**
+     * Get aggregated performance metrics from the last sort operation
+     */
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+
+    public int getGranularity() {
+        return granularity;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Release the merge buffer kept from previous sorts
+     */
+    public void releaseBuffer() {
+        buffer = new int[0];
+    }
+
+    /**
+     * Sorts arr[lo, hi); the result ends up in buf when inBuffer is set,
+     * otherwise in arr. Children alternate, so every level merges
+     * from one array into the other without copying back.
+     */
+    private class SortTask extends RecursiveTask<SortMetrics> {
+        private final int[] arr;
+        private final int[] buf;
+        private final int lo;
+        private final int hi;
+        private final boolean inBuffer;
+
+        SortTask(int[] arr, int[] buf, int lo, int hi, boolean inBuffer) {
+            this.arr = arr;
+            this.buf = buf;
+            this.lo = lo;
+            this.hi = hi;
+            this.inBuffer = inBuffer;
+        }
+
+        @Override
+        protected SortMetrics compute() {
+            if (hi - lo <= granularity) {
+                SortMetrics leafMetrics = sortLeaf(arr, lo, hi);
+                if (inBuffer) {
+                    System.arraycopy(arr, lo, buf, lo, hi - lo);
+                    leafMetrics.addArrayAccesses(2L * (hi - lo));
+                }
+                return leafMetrics;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            SortTask left = new SortTask(arr, buf, lo, mid, !inBuffer);
+            SortTask right = new SortTask(arr, buf, mid, hi, !inBuffer);
+            left.fork();
+            SortMetrics result = right.compute();
+            result.add(left.join());
+
+            int[] src = inBuffer ? arr : buf;
+            int[] dst = inBuffer ? buf : arr;
+            MergeTask merge = new MergeTask(src, lo, mid, mid, hi, dst, lo);
+            merge.invoke();
+            result.add(merge.metrics);
+            return result;
+        }
+    }
+
+    private SortMetrics sortLeaf(int[] arr, int lo, int hi) {
+        if (!metricsEnabled) {
+            leafVariant.sortRange(arr, lo, hi, null);
+            return new SortMetrics();
+        }
+
+        InsertionSort leaf = new InsertionSort();
+        leafVariant.sortRange(arr, lo, hi, leaf);
+        return leaf.getMetrics();
+    }
+
+    /**
+     * Stable parallel merge of src[lo1, hi1) and src[lo2, hi2) into dst starting at dlo
+     */
+    private static class MergeTask extends RecursiveAction {
+        private final int[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final int[] dst;
+        private final int dlo;
+        final SortMetrics metrics = new SortMetrics();
+
+        MergeTask(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int dlo) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.dlo = dlo;
+        }
+
+        @Override
+        protected void compute() {
+            int len1 = hi1 - lo1;
+            int len2 = hi2 - lo2;
+
+            if (len1 + len2 <= MERGE_GRANULARITY) {
+                mergeSequential();
+                return;
+            }
+
+            int split1;
+            int split2;
+            if (len1 >= len2) {
+                // Elements of run2 smaller than the pivot go left
+                split1 = (lo1 + hi1) >>> 1;
+                split2 = lowerBound(src, lo2, hi2, src[split1]);
+            } else {
+                // Elements of run1 not greater than the pivot go left
+                split2 = (lo2 + hi2) >>> 1;
+                split1 = upperBound(src, lo1, hi1, src[split2]);
+            }
+            metrics.addComparisons(32 - Integer.numberOfLeadingZeros(Math.max(len1, len2)));
+
+            int dmid = dlo + (split1 - lo1) + (split2 - lo2);
+            MergeTask left = new MergeTask(src, lo1, split1, lo2, split2, dst, dlo);
+            MergeTask right = new MergeTask(src, split1, hi1, split2, hi2, dst, dmid);
+            invokeAll(left, right);
+            metrics.add(left.metrics);
+            metrics.add(right.metrics);
+        }
+
+        private void mergeSequential() {
+            int i = lo1;
+            int j = lo2;
+            int d = dlo;
+            long comparisons = 0;
+
+            while (i < hi1 && j < hi2) {
+                comparisons++;
+                if (src[j] < src[i]) {
+                    dst[d++] = src[j++];
+                } else {
+                    dst[d++] = src[i++];
+                }
+            }
+            System.arraycopy(src, i, dst, d, hi1 - i);
+            System.arraycopy(src, j, dst, d + (hi1 - i), hi2 - j);
+
+            metrics.addComparisons(comparisons);
+            metrics.addArrayAccesses(comparisons * 2 + 2L * ((hi1 - lo1) + (hi2 - lo2)));
+        }
+    }
+
+    private static int lowerBound(int[] a, int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int upperBound(int[] a, int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
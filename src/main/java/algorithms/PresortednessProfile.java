@@ -0,0 +1,131 @@
+package algorithms;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Sampled presortedness measures of an int array
+ *
+ * ESTIMATORS (all sampled, O(n) worst case):
+ * - Inversions: fraction of P random pairs (i < j) with a[i] > a[j], scaled
+ *   to n(n-1)/2. P = n/4 (capped), so a sample without any inverted pair
+ *   bounds the inversion count to about 6n with 95% confidence.
+ * - Runs: descents among P evenly spaced adjacent pairs, scaled to n - 1
+ * - Duplicates: equal neighbours in a sorted sample of up to 256 elements
+ *
+ * Sampling is seeded with a fixed value, so the same input always yields
+ * the same profile.
+ */
+public final class PresortednessProfile {
+
+    private static final int MAX_PAIR_SAMPLES = 1 << 16;
+    private static final int DUPLICATE_SAMPLES = 256;
+    private static final long SAMPLING_SEED = 0x5EED_C0FFEEL;
+
+    private final int length;
+    private final long estimatedInversions;
+    private final long estimatedRuns;
+    private final double duplicateRatio;
+    private final long comparisons;
+
+    private PresortednessProfile(int length, long estimatedInversions, long estimatedRuns,
+                                 double duplicateRatio, long comparisons) {
+        this.length = length;
+        this.estimatedInversions = estimatedInversions;
+        this.estimatedRuns = estimatedRuns;
+        this.duplicateRatio = duplicateRatio;
+        this.comparisons = comparisons;
+    }
+
+    /**
+     * Samples arr; the array is not modified
+     */
+    public static PresortednessProfile of(int[] arr) {
+        int n = arr.length;
+        if (n < 2) {
+            return new PresortednessProfile(n, 0, n, 0, 0);
+        }
+
+        SplittableRandom rand = new SplittableRandom(SAMPLING_SEED);
+        int samples = Math.max(1, Math.min(n / 4, MAX_PAIR_SAMPLES));
+
+        // Random pairs: inversion density
+        long inverted = 0;
+        for (int s = 0; s < samples; s++) {
+            int i = rand.nextInt(n);
+            int j = rand.nextInt(n);
+            if (i > j ? arr[j] > arr[i] : arr[i] > arr[j]) {
+                inverted++;
+            }
+        }
+        double pairs = (double) n * (n - 1) / 2;
+        long estimatedInversions = Math.round(inverted * pairs / samples);
+
+        // Evenly spaced adjacent pairs: descents start new ascending runs
+        int adjacent = Math.min(n - 1, samples);
+        long descents = 0;
+        for (int s = 0; s < adjacent; s++) {
+            int i = (int) ((long) s * (n - 1) / adjacent);
+            if (arr[i] > arr[i + 1]) {
+                descents++;
+            }
+        }
+        long estimatedRuns = 1 + Math.round((double) descents * (n - 1) / adjacent);
+
+        // Strided sample, sorted: equal neighbours are duplicates
+        int d = Math.min(n, DUPLICATE_SAMPLES);
+        int[] sample = new int[d];
+        for (int s = 0; s < d; s++) {
+            sample[s] = arr[(int) ((long) s * n / d)];
+        }
+        Arrays.sort(sample);
+        int equal = 0;
+        for (int s = 1; s < d; s++) {
+            if (sample[s] == sample[s - 1]) {
+                equal++;
+            }
+        }
+        double duplicateRatio = (double) equal / (d - 1);
+
+        return new PresortednessProfile(n, estimatedInversions, estimatedRuns, duplicateRatio,
+                samples + adjacent + (d - 1));
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Estimated number of pairs i < j with a[i] > a[j]
+     */
+    public long getEstimatedInversions() {
+        return estimatedInversions;
+    }
+
+    /**
+     * Estimated number of maximal non-descending runs
+     */
+    public long getEstimatedRuns() {
+        return estimatedRuns;
+    }
+
+    /**
+     * Fraction of sampled neighbours (in sorted order) that are equal, 0..1
+     */
+    public double getDuplicateRatio() {
+        return duplicateRatio;
+    }
+
+    /**
+     * Element comparisons spent on sampling (the sort of the duplicate sample excluded)
+     */
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Profile{n=%d, inversions~%d, runs~%d, duplicates~%.2f}",
+                length, estimatedInversions, estimatedRuns, duplicateRatio);
+    }
+}
@@ -0,0 +1,587 @@
+package algorithms;
+
+/**
+ * Hybrid binary-insertion + merge sort ("run-aware" sort)
+ *
+ * 1. Scans natural runs (ascending, or strictly descending which are reversed)
+ * 2. Extends short runs to minRun (32..64) with binary insertion sort
+ * 3. Merges runs from a stack with galloping merges (TimSort style)
+ *
+ * TIME COMPLEXITY:
+ * - Best Case: Θ(n) - already sorted / reverse sorted (one run)
+ * - Average Case: Θ(n log n)
+ * - Worst Case: Θ(n log n)
+ *
+ * SPACE COMPLEXITY: O(n/2) merge buffer, reused across calls
+ *
+ * Counters are kept in local fields and flushed into SortMetrics in bulk
+ * at the end of each sort, so instrumentation stays off the hot loops.
+ */
+final class RunAwareMergeSort {
+
+    /** Inputs shorter than this are sorted by binary insertion alone */
+    static final int MIN_MERGE = 64;
+
+    /** Consecutive wins needed before switching to galloping mode */
+    private static final int MIN_GALLOP = 7;
+
+    /** Enough for any int-sized input given the run length invariants */
+    private static final int MAX_RUNS = 49;
+
+    private int[] a;
+    private int[] tmp = new int[0];
+    private int minGallop;
+
+    private final int[] runBase = new int[MAX_RUNS];
+    private final int[] runLen = new int[MAX_RUNS];
+    private int stackSize;
+
+    private long comparisons;
+    private long shifts;
+    private long moves;
+
+    /**
+     * Sorts arr[lo, hi) and adds the operation counts to metrics (if not null)
+     */
+    void sort(int[] arr, int lo, int hi, SortMetrics metrics) {
+        int remaining = hi - lo;
+        if (remaining < 2) {
+            return;
+        }
+
+        this.a = arr;
+        this.minGallop = MIN_GALLOP;
+        this.stackSize = 0;
+        this.comparisons = 0;
+        this.shifts = 0;
+        this.moves = 0;
+
+        try {
+            if (remaining < MIN_MERGE) {
+                int initRunLen = countRunAndMakeAscending(lo, hi);
+                binaryInsertionSort(lo, hi, lo + initRunLen);
+                return;
+            }
+
+            int minRun = minRunLength(remaining);
+            do {
+                int runLength = countRunAndMakeAscending(lo, hi);
+
+                // Extend a short run with binary insertion sort
+                if (runLength < minRun) {
+                    int force = Math.min(remaining, minRun);
+                    binaryInsertionSort(lo, lo + force, lo + runLength);
+                    runLength = force;
+                }
+
+                pushRun(lo, runLength);
+                mergeCollapse();
+
+                lo += runLength;
+                remaining -= runLength;
+            } while (remaining != 0);
+
+            mergeForceCollapse();
+        } finally {
+            this.a = null;
+            if (metrics != null) {
+                metrics.addComparisons(comparisons);
+                metrics.addShifts(shifts);
+                metrics.addArrayAccesses(comparisons + 2 * moves);
+            }
+        }
+    }
+
+    /**
+     * Returns the minimum run length: a value in [MIN_MERGE/2, MIN_MERGE]
+     * such that n / minRun is close to (but not above) a power of two
+     */
+    static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    /**
+     * Length of the run starting at lo; strictly descending runs are reversed
+     * in place (strictness keeps equal elements in order)
+     */
+    private int countRunAndMakeAscending(int lo, int hi) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+
+        comparisons++;
+        if (a[runHi++] < a[lo]) {
+            while (runHi < hi && a[runHi] < a[runHi - 1]) {
+                comparisons++;
+                runHi++;
+            }
+            reverseRange(lo, runHi);
+        } else {
+            while (runHi < hi && a[runHi] >= a[runHi - 1]) {
+                comparisons++;
+                runHi++;
+            }
+        }
+
+        return runHi - lo;
+    }
+
+    private void reverseRange(int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            int t = a[lo];
+            a[lo++] = a[hi];
+            a[hi--] = t;
+            moves += 2;
+        }
+    }
+
+    /**
+     * Binary insertion sort of a[lo, hi) where a[lo, start) is already sorted
+     */
+    private void binaryInsertionSort(int lo, int hi, int start) {
+        for (int i = start; i < hi; i++) {
+            int key = a[i];
+            int left = lo;
+            int right = i;
+
+            // Upper bound: insert after equal elements
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                comparisons++;
+                if (key < a[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            int n = i - left;
+            if (n > 0) {
+                System.arraycopy(a, left, a, left + 1, n);
+                a[left] = key;
+                shifts += n;
+                moves += n + 1;
+            }
+        }
+    }
+
+    private void pushRun(int base, int len) {
+        runBase[stackSize] = base;
+        runLen[stackSize] = len;
+        stackSize++;
+    }
+
+    /**
+     * Merges runs until the stack invariants hold:
+     * runLen[i - 2] > runLen[i - 1] + runLen[i] and runLen[i - 1] > runLen[i]
+     */
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]
+                    || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+                if (runLen[n - 1] < runLen[n + 1]) {
+                    n--;
+                }
+            } else if (runLen[n] > runLen[n + 1]) {
+                break;
+            }
+            mergeAt(n);
+        }
+    }
+
+    private void mergeForceCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] < runLen[n + 1]) {
+                n--;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Merges the runs at stack indices i and i + 1
+     */
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int len1 = runLen[i];
+        int base2 = runBase[i + 1];
+        int len2 = runLen[i + 1];
+
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+        stackSize--;
+
+        // Elements of run1 already in place are skipped
+        int k = gallopRight(a[base2], a, base1, len1, 0);
+        base1 += k;
+        len1 -= k;
+        if (len1 == 0) {
+            return;
+        }
+
+        // Elements of run2 already in place are skipped
+        len2 = gallopLeft(a[base1 + len1 - 1], a, base2, len2, len2 - 1);
+        if (len2 == 0) {
+            return;
+        }
+
+        if (len1 <= len2) {
+            mergeLo(base1, len1, base2, len2);
+        } else {
+            mergeHi(base1, len1, base2, len2);
+        }
+    }
+
+    /**
+     * Position to insert key before any equal elements in a[base, base + len),
+     * searched exponentially from base + hint
+     */
+    private int gallopLeft(int key, int[] arr, int base, int len, int hint) {
+        int lastOfs = 0;
+        int ofs = 1;
+
+        comparisons++;
+        if (key > arr[base + hint]) {
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && key > arr[base + hint + ofs]) {
+                comparisons++;
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+            lastOfs += hint;
+            ofs += hint;
+        } else {
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && key <= arr[base + hint - ofs]) {
+                comparisons++;
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+            int t = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - t;
+        }
+
+        lastOfs++;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            comparisons++;
+            if (key > arr[base + m]) {
+                lastOfs = m + 1;
+            } else {
+                ofs = m;
+            }
+        }
+        return ofs;
+    }
+
+    /**
+     * Position to insert key after any equal elements in a[base, base + len),
+     * searched exponentially from base + hint
+     */
+    private int gallopRight(int key, int[] arr, int base, int len, int hint) {
+        int lastOfs = 0;
+        int ofs = 1;
+
+        comparisons++;
+        if (key < arr[base + hint]) {
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && key < arr[base + hint - ofs]) {
+                comparisons++;
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+            int t = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - t;
+        } else {
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && key >= arr[base + hint + ofs]) {
+                comparisons++;
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+            lastOfs += hint;
+            ofs += hint;
+        }
+
+        lastOfs++;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            comparisons++;
+            if (key < arr[base + m]) {
+                ofs = m;
+            } else {
+                lastOfs = m + 1;
+            }
+        }
+        return ofs;
+    }
+
+    private int[] ensureCapacity(int minCapacity) {
+        if (tmp.length < minCapacity) {
+            int newSize = Math.max(minCapacity, Math.min(tmp.length * 2, a.length >>> 1));
+            tmp = new int[newSize];
+        }
+        return tmp;
+    }
+
+    /**
+     * Merges two adjacent runs left to right; run1 (the shorter) is copied
+     * to the buffer. Requires a[base1] > a[base2] and a[base1 + len1 - 1]
+     * to belong after the last element of run2
+     */
+    private void mergeLo(int base1, int len1, int base2, int len2) {
+        int[] arr = a;
+        int[] buf = ensureCapacity(len1);
+        System.arraycopy(arr, base1, buf, 0, len1);
+        moves += len1;
+
+        int cursor1 = 0;
+        int cursor2 = base2;
+        int dest = base1;
+
+        arr[dest++] = arr[cursor2++];
+        moves++;
+        if (--len2 == 0) {
+            System.arraycopy(buf, cursor1, arr, dest, len1);
+            moves += len1;
+            return;
+        }
+        if (len1 == 1) {
+            System.arraycopy(arr, cursor2, arr, dest, len2);
+            arr[dest + len2] = buf[cursor1];
+            moves += len2 + 1;
+            return;
+        }
+
+        int gallop = this.minGallop;
+        outer:
+        while (true) {
+            int count1 = 0;
+            int count2 = 0;
+
+            // One-at-a-time mode until one run keeps winning
+            do {
+                comparisons++;
+                moves++;
+                if (arr[cursor2] < buf[cursor1]) {
+                    arr[dest++] = arr[cursor2++];
+                    count2++;
+                    count1 = 0;
+                    if (--len2 == 0) {
+                        break outer;
+                    }
+                } else {
+                    arr[dest++] = buf[cursor1++];
+                    count1++;
+                    count2 = 0;
+                    if (--len1 == 1) {
+                        break outer;
+                    }
+                }
+            } while ((count1 | count2) < gallop);
+
+            // Galloping mode
+            do {
+                count1 = gallopRight(arr[cursor2], buf, cursor1, len1, 0);
+                if (count1 != 0) {
+                    System.arraycopy(buf, cursor1, arr, dest, count1);
+                    moves += count1;
+                    dest += count1;
+                    cursor1 += count1;
+                    len1 -= count1;
+                    if (len1 <= 1) {
+                        break outer;
+                    }
+                }
+                arr[dest++] = arr[cursor2++];
+                moves++;
+                if (--len2 == 0) {
+                    break outer;
+                }
+
+                count2 = gallopLeft(buf[cursor1], arr, cursor2, len2, 0);
+                if (count2 != 0) {
+                    System.arraycopy(arr, cursor2, arr, dest, count2);
+                    moves += count2;
+                    dest += count2;
+                    cursor2 += count2;
+                    len2 -= count2;
+                    if (len2 == 0) {
+                        break outer;
+                    }
+                }
+                arr[dest++] = buf[cursor1++];
+                moves++;
+                if (--len1 == 1) {
+                    break outer;
+                }
+                gallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+            if (gallop < 0) {
+                gallop = 0;
+            }
+            gallop += 2; // Penalize leaving galloping mode
+        }
+        this.minGallop = Math.max(gallop, 1);
+
+        if (len1 == 1) {
+            System.arraycopy(arr, cursor2, arr, dest, len2);
+            arr[dest + len2] = buf[cursor1];
+            moves += len2 + 1;
+        } else {
+            System.arraycopy(buf, cursor1, arr, dest, len1);
+            moves += len1;
+        }
+    }
+
+    /**
+     * Merges two adjacent runs right to left; run2 (the shorter) is copied
+     * to the buffer. Same preconditions as mergeLo
+     */
+    private void mergeHi(int base1, int len1, int base2, int len2) {
+        int[] arr = a;
+        int[] buf = ensureCapacity(len2);
+        System.arraycopy(arr, base2, buf, 0, len2);
+        moves += len2;
+
+        int cursor1 = base1 + len1 - 1;
+        int cursor2 = len2 - 1;
+        int dest = base2 + len2 - 1;
+
+        arr[dest--] = arr[cursor1--];
+        moves++;
+        if (--len1 == 0) {
+            System.arraycopy(buf, 0, arr, dest - (len2 - 1), len2);
+            moves += len2;
+            return;
+        }
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            System.arraycopy(arr, cursor1 + 1, arr, dest + 1, len1);
+            arr[dest] = buf[cursor2];
+            moves += len1 + 1;
+            return;
+        }
+
+        int gallop = this.minGallop;
+        outer:
+        while (true) {
+            int count1 = 0;
+            int count2 = 0;
+
+            do {
+                comparisons++;
+                moves++;
+                if (buf[cursor2] < arr[cursor1]) {
+                    arr[dest--] = arr[cursor1--];
+                    count1++;
+                    count2 = 0;
+                    if (--len1 == 0) {
+                        break outer;
+                    }
+                } else {
+                    arr[dest--] = buf[cursor2--];
+                    count2++;
+                    count1 = 0;
+                    if (--len2 == 1) {
+                        break outer;
+                    }
+                }
+            } while ((count1 | count2) < gallop);
+
+            do {
+                count1 = len1 - gallopRight(buf[cursor2], arr, base1, len1, len1 - 1);
+                if (count1 != 0) {
+                    dest -= count1;
+                    cursor1 -= count1;
+                    len1 -= count1;
+                    System.arraycopy(arr, cursor1 + 1, arr, dest + 1, count1);
+                    moves += count1;
+                    if (len1 == 0) {
+                        break outer;
+                    }
+                }
+                arr[dest--] = buf[cursor2--];
+                moves++;
+                if (--len2 == 1) {
+                    break outer;
+                }
+
+                count2 = len2 - gallopLeft(arr[cursor1], buf, 0, len2, len2 - 1);
+                if (count2 != 0) {
+                    dest -= count2;
+                    cursor2 -= count2;
+                    len2 -= count2;
+                    System.arraycopy(buf, cursor2 + 1, arr, dest + 1, count2);
+                    moves += count2;
+                    if (len2 <= 1) {
+                        break outer;
+                    }
+                }
+                arr[dest--] = arr[cursor1--];
+                moves++;
+                if (--len1 == 0) {
+                    break outer;
+                }
+                gallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+            if (gallop < 0) {
+                gallop = 0;
+            }
+            gallop += 2;
+        }
+        this.minGallop = Math.max(gallop, 1);
+
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            System.arraycopy(arr, cursor1 + 1, arr, dest + 1, len1);
+            arr[dest] = buf[cursor2];
+            moves += len1 + 1;
+        } else {
+            System.arraycopy(buf, 0, arr, dest - (len2 - 1), len2);
+            moves += len2;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package algorithms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Shell sort: insertion sort generalized to a decreasing sequence of gaps
+ *
+ * Each pass is an insertion sort of the elements h apart (a gapped
+ * insertion pass), so one shift removes up to h inversions and the final
+ * gap-1 pass only sees a nearly sorted array. In place, no buffer, and with
+ * metrics disabled no allocation at all, which suits mid-sized arrays where
+ * a merge buffer is not affordable. Not stable.
+ *
+ * With metrics enabled, getMetrics() holds the totals of the last sort and
+ * getPassMetrics() one snapshot per gap (largest gap first), which shows how
+ * the work is spread over the passes of a {@link GapSequence}.
+ * A single instance must not be used by two threads at the same time.
+ */
+public class ShellSort {
+
+    private final GapSequence sequence;
+    private final boolean metricsEnabled;
+    private final SortMetrics metrics;
+    private final List<SortMetrics> passMetrics;
+    private int[] passGaps;
+
+    /**
+     * Ciura gaps with metrics enabled
+     */
+    public ShellSort() {
+        this(GapSequence.CIURA, true);
+    }
+
+    /**
+     * @param sequence       gap sequence used for every call
+     * @param metricsEnabled false skips the timer and all counting
+     */
+    public ShellSort(GapSequence sequence, boolean metricsEnabled) {
+        if (sequence == null) {
+            throw new IllegalArgumentException("sequence must not be null");
+        }
+        this.sequence = sequence;
+        this.metricsEnabled = metricsEnabled;
+        this.metrics = new SortMetrics();
+        this.passMetrics = new ArrayList<>();
+        this.passGaps = new int[0];
+    }
+
+    public void sort(int[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts arr[fromIndex, toIndex)
+     */
+    public void sort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            return;
+        }
+        InsertionSort.rangeCheck(arr.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex;
+        int start = sequence.startIndex(n);
+
+        if (!metricsEnabled) {
+            for (int g = start; g >= 0; g--) {
+                gappedPass(arr, fromIndex, toIndex, sequence.gapAt(g));
+            }
+            return;
+        }
+
+        metrics.reset();
+        passMetrics.clear();
+        passGaps = new int[start + 1];
+        metrics.startTimer();
+        for (int g = start; g >= 0; g--) {
+            int gap = sequence.gapAt(g);
+            SortMetrics pass = new SortMetrics();
+            pass.startTimer();
+            countedGappedPass(arr, fromIndex, toIndex, gap, pass);
+            pass.stopTimer();
+            passGaps[start - g] = gap;
+            passMetrics.add(pass);
+            metrics.addComparisons(pass.getComparisons());
+            metrics.addShifts(pass.getShifts());
+            metrics.addArrayAccesses(pass.getArrayAccesses());
+        }
+        metrics.stopTimer();
+    }
+
+    public GapSequence getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Totals of the last sort
+     */
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * One snapshot per pass of the last sort, largest gap first (empty if metrics are disabled)
+     */
+    public List<SortMetrics> getPassMetrics() {
+        return Collections.unmodifiableList(passMetrics);
+    }
+
+    /**
+     * Gap of each entry of getPassMetrics()
+     */
+    public int[] getPassGaps() {
+        return passGaps.clone();
+    }
+
+    /**
+     * Insertion sort of the elements gap apart in arr[from, to)
+     */
+    static void gappedPass(int[] arr, int from, int to, int gap) {
+        for (int i = from + gap; i < to; i++) {
+            int key = arr[i];
+            int j = i - gap;
+            while (j >= from && arr[j] > key) {
+                arr[j + gap] = arr[j];
+                j -= gap;
+            }
+            arr[j + gap] = key;
+        }
+    }
+
+    private static void countedGappedPass(int[] arr, int from, int to, int gap, SortMetrics pass) {
+        long comparisons = 0;
+        long shifts = 0;
+        for (int i = from + gap; i < to; i++) {
+            int key = arr[i];
+            int j = i - gap;
+            while (j >= from) {
+                comparisons++;
+                if (arr[j] <= key) {
+                    break;
+                }
+                arr[j + gap] = arr[j];
+                shifts++;
+                j -= gap;
+            }
+            arr[j + gap] = key;
+        }
+        long elements = Math.max(0, to - from - gap);
+        pass.addComparisons(comparisons);
+        pass.addShifts(shifts);
+        pass.addArrayAccesses(2 * shifts + 2 * elements);
+    }
+}
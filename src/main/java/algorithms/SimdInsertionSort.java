@@ -0,0 +1,93 @@
+package algorithms;
+
+/**
+ * Binary and sentinel insertion sort on the Vector API when it is available
+ *
+ * ENGINES:
+ * - Vector (built with -Pvector, run with --add-modules jdk.incubator.vector):
+ *   binary search narrows the insertion point to one vector of the sorted
+ *   prefix, a lane-wise compare plus popcount gives the exact position, and
+ *   the block is shifted with System.arraycopy. The sentinel minimum is found
+ *   with a lane-wise min reduction.
+ * - Scalar fallback: the {@link FastInsertionSort} kernels, used whenever the
+ *   module or the engine class is missing
+ *
+ * The engine is chosen once, when this class is initialized. No metrics are
+ * collected on either engine.
+ */
+public final class SimdInsertionSort {
+
+    static final String VECTOR_MODULE = "jdk.incubator.vector";
+    static final String VECTOR_ENGINE = "algorithms.VectorInsertionKernels";
+
+    static final IntInsertionKernels SCALAR = new IntInsertionKernels() {
+        @Override
+        public void binaryInsertionSortRange(int[] arr, int from, int to) {
+            FastInsertionSort.blockBinaryInsertionSortRange(arr, from, to);
+        }
+
+        @Override
+        public void sentinelInsertionSortRange(int[] arr, int from, int to) {
+            FastInsertionSort.sentinelInsertionSortRange(arr, from, to);
+        }
+
+        @Override
+        public String describe() {
+            return "scalar";
+        }
+    };
+
+    private static final IntInsertionKernels KERNELS = load(VECTOR_ENGINE);
+
+    private SimdInsertionSort() {
+    }
+
+    /**
+     * Binary insertion sort with vectorized position search
+     */
+    public static void binaryInsertionSort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        KERNELS.binaryInsertionSortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * Sentinel insertion sort with a vectorized minimum scan
+     */
+    public static void sentinelInsertionSort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        KERNELS.sentinelInsertionSortRange(arr, 0, arr.length);
+    }
+
+    /**
+     * True if the Vector API engine was loaded, false on the scalar fallback
+     */
+    public static boolean isVectorized() {
+        return KERNELS != SCALAR;
+    }
+
+    /**
+     * Engine in use, e.g. "Vector API (256-bit, 8 lanes)" or "scalar"
+     */
+    public static String getEngineName() {
+        return KERNELS.describe();
+    }
+
+    /**
+     * Instantiates the named engine, or returns SCALAR if the vector module is
+     * not in the boot layer or the class cannot be loaded or linked
+     */
+    static IntInsertionKernels load(String className) {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return SCALAR;
+        }
+        try {
+            return (IntInsertionKernels) Class.forName(className).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            return SCALAR;
+        }
+    }
+}
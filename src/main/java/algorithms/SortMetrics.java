@@ -3,28 +3,46 @@ package algorithms;
 /**
  * Performance metrics for sorting algorithm analysis
  * Tracks comparisons, swaps, array accesses, and memory usage
+ *
+ * The execution time is the sum of finished startTimer()/stopTimer()
+ * intervals plus any time added with add(); it is kept apart from the
+ * running timer's start timestamp, so add() and divide() are safe on an
+ * instance whose timer is still running.
  */
 public class SortMetrics {
     private long comparisons;
     private long swaps;
     private long arrayAccesses;
     private long shifts;
+    private long comparatorInvocations;
+    private String selectedVariant;
+    private long selectionComparisons;
+    private long selectionTimeNanos;
     private long startTime;
-    private long endTime;
+    private boolean timerRunning;
+    private long executionTimeNanos;
 
     public SortMetrics() {
         this.comparisons = 0;
         this.swaps = 0;
         this.arrayAccesses = 0;
         this.shifts = 0;
+        this.comparatorInvocations = 0;
     }
 
     public void startTimer() {
         this.startTime = System.nanoTime();
+        this.timerRunning = true;
     }
 
+    /**
+     * Adds the time since startTimer() to the execution time (no-op if the timer is not running)
+     */
     public void stopTimer() {
-        this.endTime = System.nanoTime();
+        if (timerRunning) {
+            this.executionTimeNanos += System.nanoTime() - startTime;
+            this.timerRunning = false;
+        }
     }
 
     public void incrementComparisons() {
@@ -43,6 +61,88 @@ public class SortMetrics {
         this.shifts++;
     }
 
+    public void incrementComparatorInvocations() {
+        this.comparatorInvocations++;
+    }
+
+    public void addComparisons(long count) {
+        this.comparisons += count;
+    }
+
+    public void addSwaps(long count) {
+        this.swaps += count;
+    }
+
+    public void addArrayAccesses(long count) {
+        this.arrayAccesses += count;
+    }
+
+    public void addShifts(long count) {
+        this.shifts += count;
+    }
+
+    public void addComparatorInvocations(long count) {
+        this.comparatorInvocations += count;
+    }
+
+    /**
+     * Records an automatic selection decision (see InsertionSort.autoSort)
+     */
+    void recordSelection(String variant, long comparisons, long timeNanos) {
+        this.selectedVariant = variant;
+        this.selectionComparisons = comparisons;
+        this.selectionTimeNanos = timeNanos;
+    }
+
+    /**
+     * Adds all counters and the execution time of other to this snapshot
+     * (other's running timer, if any, is not included)
+     */
+    public void add(SortMetrics other) {
+        this.comparisons += other.comparisons;
+        this.swaps += other.swaps;
+        this.arrayAccesses += other.arrayAccesses;
+        this.shifts += other.shifts;
+        this.comparatorInvocations += other.comparatorInvocations;
+        this.selectionComparisons += other.selectionComparisons;
+        this.selectionTimeNanos += other.selectionTimeNanos;
+        if (selectedVariant == null) {
+            this.selectedVariant = other.selectedVariant;
+        } else if (other.selectedVariant != null && !selectedVariant.equals(other.selectedVariant)) {
+            this.selectedVariant = "MIXED";
+        }
+        this.executionTimeNanos += other.executionTimeNanos;
+    }
+
+    /**
+     * Divides all counters and the execution time by divisor (integer division),
+     * e.g. to turn the sum of n runs into a per-run average
+     */
+    public void divide(long divisor) {
+        if (divisor <= 0) {
+            throw new IllegalArgumentException("divisor must be positive: " + divisor);
+        }
+        this.comparisons /= divisor;
+        this.swaps /= divisor;
+        this.arrayAccesses /= divisor;
+        this.shifts /= divisor;
+        this.comparatorInvocations /= divisor;
+        this.selectionComparisons /= divisor;
+        this.selectionTimeNanos /= divisor;
+        this.executionTimeNanos /= divisor;
+    }
+
+    /**
+     * New snapshot holding the sum of parts; the parts are not modified
+     */
+    public static SortMetrics merge(SortMetrics... parts) {
+        SortMetrics merged = new SortMetrics();
+        for (SortMetrics part : parts) {
+            merged.add(part);
+        }
+        return merged;
+    }
+
     public long getComparisons() {
         return comparisons;
     }
@@ -59,12 +159,50 @@ public class SortMetrics {
         return shifts;
     }
 
+    /**
+     * Number of Comparator.compare calls (object sorts only)
+     */
+    public long getComparatorInvocations() {
+        return comparatorInvocations;
+    }
+
+    /**
+     * Sets the elapsed time directly (used for aggregated snapshots)
+     */
+    void setExecutionTimeNanos(long nanos) {
+        this.executionTimeNanos = nanos;
+    }
+
+    /**
+     * Variant chosen by the last automatic selection, or null if none ran
+     */
+    public String getSelectedVariant() {
+        return selectedVariant;
+    }
+
+    /**
+     * Comparisons spent sampling the input for the selection (not in getComparisons)
+     */
+    public long getSelectionComparisons() {
+        return selectionComparisons;
+    }
+
+    /**
+     * Time spent sampling and deciding (included in the execution time)
+     */
+    public long getSelectionTimeNanos() {
+        return selectionTimeNanos;
+    }
+
+    /**
+     * Time of finished timer intervals (a running interval counts once stopTimer() is called)
+     */
     public long getExecutionTimeNanos() {
-        return endTime - startTime;
+        return executionTimeNanos;
     }
 
     public double getExecutionTimeMillis() {
-        return (endTime - startTime) / 1_000_000.0;
+        return executionTimeNanos / 1_000_000.0;
     }
 
     public void reset() {
@@ -72,15 +210,23 @@ public class SortMetrics {
         this.swaps = 0;
         this.arrayAccesses = 0;
         this.shifts = 0;
+        this.comparatorInvocations = 0;
+        this.selectedVariant = null;
+        this.selectionComparisons = 0;
+        this.selectionTimeNanos = 0;
         this.startTime = 0;
-        this.endTime = 0;
+        this.timerRunning = false;
+        this.executionTimeNanos = 0;
     }
 
     @Override
     public String toString() {
+        String selection = selectedVariant == null ? "" : String.format(
+                ", selected=%s, selectionComparisons=%d, selectionTime=%.3fms",
+                selectedVariant, selectionComparisons, selectionTimeNanos / 1_000_000.0);
         return String.format(
-                "Metrics{comparisons=%d, swaps=%d, shifts=%d, arrayAccesses=%d, time=%.2fms}",
-                comparisons, swaps, shifts, arrayAccesses, getExecutionTimeMillis()
+                "Metrics{comparisons=%d, swaps=%d, shifts=%d, arrayAccesses=%d, comparatorInvocations=%d, time=%.2fms%s}",
+                comparisons, swaps, shifts, arrayAccesses, comparatorInvocations, getExecutionTimeMillis(), selection
         );
     }
 }
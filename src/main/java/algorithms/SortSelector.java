@@ -0,0 +1,50 @@
+package algorithms;
+
+/**
+ * Chooses the cheapest int[] sort for a sampled {@link PresortednessProfile}
+ *
+ * COST MODEL (n elements, I inversions):
+ * - Insertion sorts do Θ(n + I) work, so ADAPTIVE wins while I = O(n)
+ * - Tiny arrays: STANDARD has the least overhead
+ * - Small arrays: BINARY, the same leaf sort the hybrid sort would use
+ * - Otherwise HYBRID, Θ(n log n) worst case: it reverses descending runs
+ *   and merges ascending ones, so reverse-ordered input costs Θ(n)
+ *
+ * The duplicate ratio does not change the cost of these variants; it is
+ * kept in the profile for auditing.
+ */
+public final class SortSelector {
+
+    /** Inputs up to this size use STANDARD */
+    public static final int TINY_THRESHOLD = 16;
+
+    /** Inputs up to this size (and too disordered for ADAPTIVE) use BINARY */
+    public static final int SMALL_THRESHOLD = 64;
+
+    /** ADAPTIVE is chosen while estimated inversions <= this many per element */
+    public static final int INVERSIONS_PER_ELEMENT = 8;
+
+    /**
+     * Sort variants the selector dispatches to
+     */
+    public enum Choice {
+        STANDARD, BINARY, ADAPTIVE, HYBRID
+    }
+
+    private SortSelector() {
+    }
+
+    public static Choice choose(PresortednessProfile profile) {
+        int n = profile.getLength();
+        if (n <= TINY_THRESHOLD) {
+            return Choice.STANDARD;
+        }
+        if (profile.getEstimatedInversions() <= (long) INVERSIONS_PER_ELEMENT * n) {
+            return Choice.ADAPTIVE;
+        }
+        if (n <= SMALL_THRESHOLD) {
+            return Choice.BINARY;
+        }
+        return Choice.HYBRID;
+    }
+}
@@ -0,0 +1,380 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Incrementally maintained sorted int buffer for online ingestion
+ *
+ * Values are inserted one at a time (or in batches) at their binary-search
+ * position, so the buffer is always sorted and answers rank / select /
+ * percentile queries without re-sorting.
+ *
+ * LAYOUTS:
+ * - DENSE: plain sorted array, insert = binary search + one block shift
+ *   insert O(n) shift, rank O(log n), select O(1), removeAt O(n)
+ * - GAPPED: library sort - slots keep free gaps between elements, so an
+ *   insert only shifts up to the next gap (expected amortized O(log n) for
+ *   random arrival order); rank/select/removeAt O(log n) via a Fenwick tree
+ *
+ * In the gapped layout every free slot holds a copy of the nearest occupied
+ * value to its left (Integer.MIN_VALUE before the first element), so the slot
+ * array stays non-decreasing and can be binary searched directly.
+ *
+ * Capacity grows amortized (x1.5 dense, rebalance to 2x size when 3/4 full gapped).
+ */
+public class SortedIntBuffer {
+
+    /**
+     * Storage layout of the buffer
+     */
+    public enum Layout {
+        DENSE, GAPPED
+    }
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Layout layout;
+    private final SortMetrics metrics;
+    private int[] data;
+    private int size;
+
+    // GAPPED layout only
+    private boolean[] occupied;
+    private int[] tree;
+
+    public SortedIntBuffer() {
+        this(Layout.DENSE, DEFAULT_CAPACITY);
+    }
+
+    public SortedIntBuffer(Layout layout) {
+        this(layout, DEFAULT_CAPACITY);
+    }
+
+    public SortedIntBuffer(Layout layout, int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        this.layout = layout;
+        this.metrics = new SortMetrics();
+
+        if (layout == Layout.DENSE) {
+            data = new int[initialCapacity];
+        } else {
+            spread(new int[0], 0, Math.max(DEFAULT_CAPACITY, 2 * initialCapacity));
+        }
+    }
+
+    /**
+     * Inserts value after any equal values already in the buffer
+     */
+    public void insert(int value) {
+        if (layout == Layout.DENSE) {
+            ensureCapacity(size + 1);
+            int pos = FastInsertionSort.binarySearch(data, 0, size - 1, value);
+            System.arraycopy(data, pos, data, pos + 1, size - pos);
+            data[pos] = value;
+            metrics.addShifts(size - pos);
+            size++;
+        } else {
+            insertGapped(value);
+        }
+    }
+
+    /**
+     * Inserts a batch: the batch is sorted once and merged in a single pass
+     * (dense layout, or gapped layout with a large batch); small batches
+     * into a gapped buffer are inserted one by one
+     */
+    public void insertAll(int[] values) {
+        if (values == null || values.length == 0) {
+            return;
+        }
+
+        int m = values.length;
+        if (layout == Layout.GAPPED && m < size / 4) {
+            for (int value : values) {
+                insertGapped(value);
+            }
+            return;
+        }
+
+        int[] batch = values.clone();
+        new RunAwareMergeSort().sort(batch, 0, m, metrics);
+
+        if (layout == Layout.DENSE) {
+            ensureCapacity(size + m);
+            SortedMerge.mergeBackwards(data, size, batch, m, data, null);
+            size += m;
+        } else {
+            int[] merged = Arrays.copyOf(toArray(), size + m);
+            SortedMerge.mergeBackwards(merged, size, batch, m, merged, null);
+            spread(merged, size + m, Math.max(DEFAULT_CAPACITY, 2 * (size + m)));
+        }
+    }
+
+    /**
+     * Number of values strictly less than value
+     */
+    public int rank(int value) {
+        if (layout == Layout.DENSE) {
+            return lowerBound(data, size, value);
+        }
+        return prefixCount(lowerBound(data, data.length, value));
+    }
+
+    /**
+     * k-th smallest value (0-based)
+     */
+    public int select(int k) {
+        checkIndex(k);
+        if (layout == Layout.DENSE) {
+            return data[k];
+        }
+        return data[findSlot(k)];
+    }
+
+    /**
+     * Same as select: the value at sorted position index
+     */
+    public int get(int index) {
+        return select(index);
+    }
+
+    /**
+     * Value at the given percentile (0..100), nearest-rank method
+     */
+    public int percentile(double percent) {
+        if (size == 0) {
+            throw new IllegalStateException("buffer is empty");
+        }
+        if (percent < 0 || percent > 100) {
+            throw new IllegalArgumentException("percent must be in [0, 100]: " + percent);
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * size);
+        return select(Math.max(0, rank - 1));
+    }
+
+    /**
+     * Removes and returns the value at sorted position index
+     */
+    public int removeAt(int index) {
+        checkIndex(index);
+
+        if (layout == Layout.DENSE) {
+            int value = data[index];
+            System.arraycopy(data, index + 1, data, index, size - index - 1);
+            metrics.addShifts(size - index - 1);
+            size--;
+            return value;
+        }
+
+        int slot = findSlot(index);
+        int value = data[slot];
+        occupied[slot] = false;
+        treeAdd(slot, -1);
+
+        // The freed slot and the gaps after it now copy the left neighbour
+        int fill = slot > 0 ? data[slot - 1] : Integer.MIN_VALUE;
+        for (int s = slot; s < data.length && !occupied[s]; s++) {
+            data[s] = fill;
+        }
+        size--;
+        return value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public Layout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Cumulative shift counts of all inserts and removals
+     */
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sorted copy of the contents
+     */
+    public int[] toArray() {
+        if (layout == Layout.DENSE) {
+            return Arrays.copyOf(data, size);
+        }
+
+        int[] result = new int[size];
+        int k = 0;
+        for (int s = 0; s < data.length; s++) {
+            if (occupied[s]) {
+                result[k++] = data[s];
+            }
+        }
+        return result;
+    }
+
+    public void clear() {
+        size = 0;
+        if (layout == Layout.GAPPED) {
+            spread(new int[0], 0, DEFAULT_CAPACITY);
+        }
+    }
+
+    private void insertGapped(int value) {
+        if (size + 1 > data.length / 4 * 3) {
+            spread(toArray(), size, Math.max(DEFAULT_CAPACITY, 2 * (size + 1)));
+        }
+
+        int capacity = data.length;
+        int p = upperBound(data, capacity, value);
+
+        if (p > 0 && !occupied[p - 1]) {
+            // A gap right before the first greater element takes the value
+            data[p - 1] = value;
+            occupy(p - 1);
+            return;
+        }
+
+        int gap = p;
+        while (gap < capacity && occupied[gap]) {
+            gap++;
+        }
+
+        if (gap < capacity) {
+            System.arraycopy(data, p, data, p + 1, gap - p);
+            data[p] = value;
+            metrics.addShifts(gap - p);
+        } else {
+            gap = p - 1;
+            while (occupied[gap]) {
+                gap--;
+            }
+            System.arraycopy(data, gap + 1, data, gap, p - 1 - gap);
+            data[p - 1] = value;
+            metrics.addShifts(p - 1 - gap);
+        }
+        occupy(gap);
+    }
+
+    private void occupy(int slot) {
+        occupied[slot] = true;
+        treeAdd(slot, 1);
+        size++;
+    }
+
+    /**
+     * Rebuilds the gapped layout from sorted[0, n) with evenly spaced gaps
+     */
+    private void spread(int[] sorted, int n, int capacity) {
+        data = new int[capacity];
+        occupied = new boolean[capacity];
+
+        for (int k = 0; k < n; k++) {
+            int slot = (int) ((long) k * capacity / n);
+            data[slot] = sorted[k];
+            occupied[slot] = true;
+        }
+
+        int last = Integer.MIN_VALUE;
+        for (int s = 0; s < capacity; s++) {
+            if (occupied[s]) {
+                last = data[s];
+            } else {
+                data[s] = last;
+            }
+        }
+
+        // Linear-time Fenwick tree construction
+        tree = new int[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            tree[i] += occupied[i - 1] ? 1 : 0;
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                tree[parent] += tree[i];
+            }
+        }
+
+        size = n;
+        metrics.addArrayAccesses(2L * capacity);
+    }
+
+    private void treeAdd(int slot, int delta) {
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Number of occupied slots in [0, end)
+     */
+    private int prefixCount(int end) {
+        int count = 0;
+        for (int i = end; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+
+    /**
+     * Slot of the k-th (0-based) occupied element
+     */
+    private int findSlot(int k) {
+        int pos = 0;
+        int remaining = k + 1;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next < tree.length && tree[next] < remaining) {
+                pos = next;
+                remaining -= tree[next];
+            }
+        }
+        return pos;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (data.length < minCapacity) {
+            int newCapacity = Math.max(minCapacity, data.length + (data.length >> 1));
+            data = Arrays.copyOf(data, Math.max(newCapacity, DEFAULT_CAPACITY));
+        }
+    }
+
+    private static int lowerBound(int[] a, int n, int key) {
+        int lo = 0;
+        int hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int upperBound(int[] a, int n, int key) {
+        int lo = 0;
+        int hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package algorithms;
+
+/**
+ * Merges a small unsorted delta into a large sorted array
+ *
+ * The delta is sorted in place with the insertion engine (block-shift binary
+ * insertion), then merged into the base in one backwards pass from the end:
+ * for each delta element, largest first, a gallop (exponential then binary
+ * search from the right) finds how many base elements are larger, and that
+ * block is moved up with one System.arraycopy. Cost: O(d·log(n/d))
+ * comparisons and one move per base element behind the first insertion
+ * point, instead of the O(n·d) shifts of re-running an insertion sort.
+ *
+ * If the base array has room for baseLength + d elements, the merge happens
+ * in place with no extra buffer; otherwise the result goes to a new array.
+ * Equal values keep base elements before delta elements.
+ */
+public class SortedMerge {
+
+    private final boolean metricsEnabled;
+    private final InsertionSort deltaSorter;
+    private SortMetrics metrics;
+
+    public SortedMerge() {
+        this(true);
+    }
+
+    /**
+     * @param metricsEnabled false skips the timer and all counting
+     */
+    public SortedMerge(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+        this.deltaSorter = new InsertionSort(metricsEnabled);
+        this.metrics = new SortMetrics();
+    }
+
+    /**
+     * Sorts delta in place and merges it into base[0, baseLength), which must be sorted
+     *
+     * @return base itself when base.length >= baseLength + delta.length (merged in
+     *         place; base[baseLength + delta.length, base.length) is untouched),
+     *         otherwise a new array of exactly baseLength + delta.length elements
+     * @throws IllegalArgumentException if base is null or baseLength is out of range
+     */
+    public int[] merge(int[] base, int baseLength, int[] delta) {
+        if (base == null) {
+            throw new IllegalArgumentException("base must not be null");
+        }
+        if (baseLength < 0 || baseLength > base.length) {
+            throw new IllegalArgumentException("baseLength must be in [0, " + base.length + "], got " + baseLength);
+        }
+        if (delta == null || delta.length == 0) {
+            return base;
+        }
+
+        SortMetrics counts = metricsEnabled ? new SortMetrics() : null;
+        long start = System.nanoTime();
+
+        deltaSorter.blockBinaryInsertionSort(delta);
+        int total = baseLength + delta.length;
+        int[] out = base.length >= total ? base : new int[total];
+        mergeBackwards(base, baseLength, delta, delta.length, out, counts);
+
+        if (counts != null) {
+            // A single-element delta is not sorted, so the sorter still holds the previous counts
+            if (delta.length > 1) {
+                SortMetrics sortCounts = deltaSorter.getMetrics();
+                counts.addComparisons(sortCounts.getComparisons());
+                counts.addShifts(sortCounts.getShifts());
+                counts.addArrayAccesses(sortCounts.getArrayAccesses());
+            }
+            counts.setExecutionTimeNanos(System.nanoTime() - start);
+            metrics = counts;
+        }
+        return out;
+    }
+
+    /**
+     * Same as merge(base, base.length, delta); allocates unless delta is empty
+     */
+    public int[] merge(int[] base, int[] delta) {
+        return merge(base, base == null ? 0 : base.length, delta);
+    }
+
+    /**
+     * Metrics of the last merge: delta sort plus merge comparisons and moves
+     */
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Merges sorted b[0, m) into sorted a[0, n), writing out[0, n + m) from the end
+     * out may be a itself (needs a.length >= n + m) or a separate array.
+     *
+     * @param metrics counters to add to, or null
+     */
+    static void mergeBackwards(int[] a, int n, int[] b, int m, int[] out, SortMetrics metrics) {
+        long comparisons = 0;
+        long moved = 0;
+        int i = n - 1;
+        int k = n + m - 1;
+
+        for (int j = m - 1; j >= 0; j--) {
+            int key = b[j];
+
+            // Gallop from the right: a[p, i] are the base elements greater than key
+            int p = i + 1;
+            if (i >= 0) {
+                int hi = i + 1;
+                int bound = 1;
+                while (bound <= hi) {
+                    comparisons++;
+                    if (a[hi - bound] <= key) {
+                        break;
+                    }
+                    bound <<= 1;
+                }
+                int left = Math.max(0, hi - bound + 1);
+                int right = hi - (bound >> 1);
+                while (left < right) {
+                    int mid = (left + right) >>> 1;
+                    comparisons++;
+                    if (key < a[mid]) {
+                        right = mid;
+                    } else {
+                        left = mid + 1;
+                    }
+                }
+                p = left;
+            }
+
+            int count = i + 1 - p;
+            if (count > 0) {
+                System.arraycopy(a, p, out, k - count + 1, count);
+                k -= count;
+                i = p - 1;
+                moved += count;
+            }
+            out[k--] = key;
+        }
+
+        if (out != a && i >= 0) {
+            System.arraycopy(a, 0, out, 0, i + 1);
+        }
+
+        if (metrics != null) {
+            metrics.addComparisons(comparisons);
+            metrics.addShifts(moved);
+            metrics.addArrayAccesses(comparisons + 2 * moved + 2L * m);
+        }
+    }
+}
@@ -0,0 +1,956 @@
+package algorithms;
+
+/**
+ * Branchless sorting-network kernels for 2..16 ints
+ *
+ * Each size has its own fully unrolled comparator network; elements are
+ * loaded into locals and every comparator is a Math.min / Math.max pair,
+ * which the JIT compiles to conditional moves, so there is no
+ * data-dependent branch to mispredict on random input.
+ *
+ * The networks have the best known number of comparators for their size
+ * (sizes 2..12 are proven optimal):
+ *
+ *   n           2  3  4  5  6   7   8   9   10  11  12  13  14  15  16
+ *   comparators 1  3  5  9  12  16  19  25  29  35  39  45  51  56  60
+ *
+ * Correctness of every network is checked exhaustively in the tests with
+ * the 0-1 principle (a network sorts all inputs iff it sorts all 0-1 inputs).
+ */
+public final class SortingNetworks {
+
+    /** Largest size with a network */
+    public static final int MAX_SIZE = 16;
+
+    private static final int[] COMPARATORS = {0, 0, 1, 3, 5, 9, 12, 16, 19, 25, 29, 35, 39, 45, 51, 56, 60};
+
+    private SortingNetworks() {
+    }
+
+    /**
+     * Sorts arr (at most MAX_SIZE elements)
+     */
+    public static void sort(int[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts arr[fromIndex, toIndex) (at most MAX_SIZE elements)
+     */
+    public static void sort(int[] arr, int fromIndex, int toIndex) {
+        switch (toIndex - fromIndex) {
+            case 0:
+            case 1:
+                return;
+            case 2:
+                sort2(arr, fromIndex);
+                return;
+            case 3:
+                sort3(arr, fromIndex);
+                return;
+            case 4:
+                sort4(arr, fromIndex);
+                return;
+            case 5:
+                sort5(arr, fromIndex);
+                return;
+            case 6:
+                sort6(arr, fromIndex);
+                return;
+            case 7:
+                sort7(arr, fromIndex);
+                return;
+            case 8:
+                sort8(arr, fromIndex);
+                return;
+            case 9:
+                sort9(arr, fromIndex);
+                return;
+            case 10:
+                sort10(arr, fromIndex);
+                return;
+            case 11:
+                sort11(arr, fromIndex);
+                return;
+            case 12:
+                sort12(arr, fromIndex);
+                return;
+            case 13:
+                sort13(arr, fromIndex);
+                return;
+            case 14:
+                sort14(arr, fromIndex);
+                return;
+            case 15:
+                sort15(arr, fromIndex);
+                return;
+            case 16:
+                sort16(arr, fromIndex);
+                return;
+            default:
+                throw new IllegalArgumentException("sorting networks cover at most " + MAX_SIZE
+                        + " elements: " + (toIndex - fromIndex));
+        }
+    }
+
+    /**
+     * Number of comparators of the network for n elements (0 for n < 2)
+     */
+    public static int comparators(int n) {
+        if (n < 0 || n > MAX_SIZE) {
+            throw new IllegalArgumentException("no network for " + n + " elements");
+        }
+        return COMPARATORS[n];
+    }
+
+    private static void sort2(int[] a, int o) {
+        int a0 = a[o];
+        int a1 = a[o + 1];
+        int t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+
+        a[o] = a0;
+        a[o + 1] = a1;
+    }
+
+    private static void sort3(int[] a, int o) {
+        int a0 = a[o];
+        int a1 = a[o + 1];
+        int a2 = a[o + 2];
+        int t;
+
+        t = Math.min(a0, a2); a2 = Math.max(a0, a2); a0 = t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+
+        a[o] = a0;
+        a[o + 1] = a1;
+        a[o + 2] = a2;
+    }
+
+    private static void sort4(int[] a, int o) {
+        int a0 = a[o];
+        int a1 = a[o + 1];
+        int a2 = a[o + 2];
+        int a3 = a[o + 3];
+        int t;
+
+        t = Math.min(a0, a2); a2 = Math.max(a0, a2); a0 = t;
+        t = Math.min(a1, a3); a3 = Math.max(a1, a3); a1 = t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+
+        a[o] = a0;
+        a[o + 1] = a1;
+        a[o + 2] = a2;
+        a[o + 3] = a3;
+    }
+
+    private static void sort5(int[] a, int o) {
+        int a0 = a[o];
+        int a1 = a[o + 1];
+        int a2 = a[o + 2];
+        int a3 = a[o + 3];
+        int a4 = a[o + 4];
+        int t;
+
+        t = Math.min(a0, a3); a3 = Math.max(a0, a3); a0 = t;
+        t = Math.min(a1, a4); a4 = Math.max(a1, a4); a1 = t;
+
+        t = Math.min(a0, a2); a2 = Math.max(a0, a2); a0 = t;
+        t = Math.min(a1, a3); a3 = Math.max(a1, a3); a1 = t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+        t = Math.min(a2, a4); a4 = Math.max(a2, a4); a2 = t;
+
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+
+        a[o] = a0;
+        a[o + 1] = a1;
+        a[o + 2] = a2;
+        a[o + 3] = a3;
+        a[o + 4] = a4;
+    }
+
+    private static void sort6(int[] a, int o) {
+        int a0 = a[o];
+        int a1 = a[o + 1];
+        int a2 = a[o + 2];
+        int a3 = a[o + 3];
+        int a4 = a[o + 4];
+        int a5 = a[o + 5];
+        int t;
+
+        t = Math.min(a0, a5); a5 = Math.max(a0, a5); a0 = t;
+        t = Math.min(a1, a3); a3 = Math.max(a1, a3); a1 = t;
+        t = Math.min(a2, a4); a4 = Math.max(a2, a4); a2 = t;
+
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+
+        t = Math.min(a0, a3); a3 = Math.max(a0, a3); a0 = t;
+        t = Math.min(a2, a5); a5 = Math.max(a2, a5); a2 = t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+        t = Math.min(a4, a5); a5 = Math.max(a4, a5); a4 = t;
+
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+
+        a[o] = a0;
+        a[o + 1] = a1;
+        a[o + 2] = a2;
+        a[o + 3] = a3;
+        a[o + 4] = a4;
+        a[o + 5] = a5;
+    }
+
+    private static void sort7(int[] a, int o) {
+        int a0 = a[o];
+        int a1 = a[o + 1];
+        int a2 = a[o + 2];
+        int a3 = a[o + 3];
+        int a4 = a[o + 4];
+        int a5 = a[o + 5];
+        int a6 = a[o + 6];
+        int t;
+
+        t = Math.min(a0, a6); a6 = Math.max(a0, a6); a0 = t;
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+        t = Math.min(a4, a5); a5 = Math.max(a4, a5); a4 = t;
+
+        t = Math.min(a0, a2); a2 = Math.max(a0, a2); a0 = t;
+        t = Math.min(a1, a4); a4 = Math.max(a1, a4); a1 = t;
+        t = Math.min(a3, a6); a6 = Math.max(a3, a6); a3 = t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+        t = Math.min(a2, a5); a5 = Math.max(a2, a5); a2 = t;
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a4, a6); a6 = Math.max(a4, a6); a4 = t;
+
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+        t = Math.min(a4, a5); a5 = Math.max(a4, a5); a4 = t;
+
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+        t = Math.min(a5, a6); a6 = Math.max(a5, a6); a5 = t;
+
+        a[o] = a0;
+        a[o + 1] = a1;
+        a[o + 2] = a2;
+        a[o + 3] = a3;
+        a[o + 4] = a4;
+        a[o + 5] = a5;
+        a[o + 6] = a6;
+    }
+
+    private static void sort8(int[] a, int o) {
+        int a0 = a[o];
+        int a1 = a[o + 1];
+        int a2 = a[o + 2];
+        int a3 = a[o + 3];
+        int a4 = a[o + 4];
+        int a5 = a[o + 5];
+        int a6 = a[o + 6];
+        int a7 = a[o + 7];
+        int t;
+
+        t = Math.min(a0, a2); a2 = Math.max(a0, a2); a0 = t;
+        t = Math.min(a1, a3); a3 = Math.max(a1, a3); a1 = t;
+        t = Math.min(a4, a6); a6 = Math.max(a4, a6); a4 = t;
+        t = Math.min(a5, a7); a7 = Math.max(a5, a7); a5 = t;
+
+        t = Math.min(a0, a4); a4 = Math.max(a0, a4); a0 = t;
+        t = Math.min(a1, a5); a5 = Math.max(a1, a5); a1 = t;
+        t = Math.min(a2, a6); a6 = Math.max(a2, a6); a2 = t;
+        t = Math.min(a3, a7); a7 = Math.max(a3, a7); a3 = t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+        t = Math.min(a4, a5); a5 = Math.max(a4, a5); a4 = t;
+        t = Math.min(a6, a7); a7 = Math.max(a6, a7); a6 = t;
+
+        t = Math.min(a2, a4); a4 = Math.max(a2, a4); a2 = t;
+        t = Math.min(a3, a5); a5 = Math.max(a3, a5); a3 = t;
+
+        t = Math.min(a1, a4); a4 = Math.max(a1, a4); a1 = t;
+        t = Math.min(a3, a6); a6 = Math.max(a3, a6); a3 = t;
+
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+        t = Math.min(a5, a6); a6 = Math.max(a5, a6); a5 = t;
+
+        a[o] = a0;
+        a[o + 1] = a1;
+        a[o + 2] = a2;
+        a[o + 3] = a3;
+        a[o + 4] = a4;
+        a[o + 5] = a5;
+        a[o + 6] = a6;
+        a[o + 7] = a7;
+    }
+
+    private static void sort9(int[] a, int o) {
+        int a0 = a[o];
+        int a1 = a[o + 1];
+        int a2 = a[o + 2];
+        int a3 = a[o + 3];
+        int a4 = a[o + 4];
+        int a5 = a[o + 5];
+        int a6 = a[o + 6];
+        int a7 = a[o + 7];
+        int a8 = a[o + 8];
+        int t;
+
+        t = Math.min(a0, a3); a3 = Math.max(a0, a3); a0 = t;
+        t = Math.min(a1, a7); a7 = Math.max(a1, a7); a1 = t;
+        t = Math.min(a2, a5); a5 = Math.max(a2, a5); a2 = t;
+        t = Math.min(a4, a8); a8 = Math.max(a4, a8); a4 = t;
+
+        t = Math.min(a0, a7); a7 = Math.max(a0, a7); a0 = t;
+        t = Math.min(a2, a4); a4 = Math.max(a2, a4); a2 = t;
+        t = Math.min(a3, a8); a8 = Math.max(a3, a8); a3 = t;
+        t = Math.min(a5, a6); a6 = Math.max(a5, a6); a5 = t;
+
+        t = Math.min(a0, a2); a2 = Math.max(a0, a2); a0 = t;
+        t = Math.min(a1, a3); a3 = Math.max(a1, a3); a1 = t;
+        t = Math.min(a4, a5); a5 = Math.max(a4, a5); a4 = t;
+        t = Math.min(a7, a8); a8 = Math.max(a7, a8); a7 = t;
+
+        t = Math.min(a1, a4); a4 = Math.max(a1, a4); a1 = t;
+        t = Math.min(a3, a6); a6 = Math.max(a3, a6); a3 = t;
+        t = Math.min(a5, a7); a7 = Math.max(a5, a7); a5 = t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+        t = Math.min(a2, a4); a4 = Math.max(a2, a4); a2 = t;
+        t = Math.min(a3, a5); a5 = Math.max(a3, a5); a3 = t;
+        t = Math.min(a6, a8); a8 = Math.max(a6, a8); a6 = t;
+
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+        t = Math.min(a4, a5); a5 = Math.max(a4, a5); a4 = t;
+        t = Math.min(a6, a7); a7 = Math.max(a6, a7); a6 = t;
+
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+        t = Math.min(a5, a6); a6 = Math.max(a5, a6); a5 = t;
+
+        a[o] = a0;
+        a[o + 1] = a1;
+        a[o + 2] = a2;
+        a[o + 3] = a3;
+        a[o + 4] = a4;
+        a[o + 5] = a5;
+        a[o + 6] = a6;
+        a[o + 7] = a7;
+        a[o + 8] = a8;
+    }
+
+    private static void sort10(int[] a, int o) {
+        int a0 = a[o];
+        int a1 = a[o + 1];
+        int a2 = a[o + 2];
+        int a3 = a[o + 3];
+        int a4 = a[o + 4];
+        int a5 = a[o + 5];
+        int a6 = a[o + 6];
+        int a7 = a[o + 7];
+        int a8 = a[o + 8];
+        int a9 = a[o + 9];
+        int t;
+
+        t = Math.min(a0, a8); a8 = Math.max(a0, a8); a0 = t;
+        t = Math.min(a1, a9); a9 = Math.max(a1, a9); a1 = t;
+        t = Math.min(a2, a7); a7 = Math.max(a2, a7); a2 = t;
+        t = Math.min(a3, a5); a5 = Math.max(a3, a5); a3 = t;
+        t = Math.min(a4, a6); a6 = Math.max(a4, a6); a4 = t;
+
+        t = Math.min(a0, a2); a2 = Math.max(a0, a2); a0 = t;
+        t = Math.min(a1, a4); a4 = Math.max(a1, a4); a1 = t;
+        t = Math.min(a5, a8); a8 = Math.max(a5, a8); a5 = t;
+        t = Math.min(a7, a9); a9 = Math.max(a7, a9); a7 = t;
+
+        t = Math.min(a0, a3); a3 = Math.max(a0, a3); a0 = t;
+        t = Math.min(a2, a4); a4 = Math.max(a2, a4); a2 = t;
+        t = Math.min(a5, a7); a7 = Math.max(a5, a7); a5 = t;
+        t = Math.min(a6, a9); a9 = Math.max(a6, a9); a6 = t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+        t = Math.min(a3, a6); a6 = Math.max(a3, a6); a3 = t;
+        t = Math.min(a8, a9); a9 = Math.max(a8, a9); a8 = t;
+
+        t = Math.min(a1, a5); a5 = Math.max(a1, a5); a1 = t;
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+        t = Math.min(a4, a8); a8 = Math.max(a4, a8); a4 = t;
+        t = Math.min(a6, a7); a7 = Math.max(a6, a7); a6 = t;
+
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a3, a5); a5 = Math.max(a3, a5); a3 = t;
+        t = Math.min(a4, a6); a6 = Math.max(a4, a6); a4 = t;
+        t = Math.min(a7, a8); a8 = Math.max(a7, a8); a7 = t;
+
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+        t = Math.min(a4, a5); a5 = Math.max(a4, a5); a4 = t;
+        t = Math.min(a6, a7); a7 = Math.max(a6, a7); a6 = t;
+
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+        t = Math.min(a5, a6); a6 = Math.max(a5, a6); a5 = t;
+
+        a[o] = a0;
+        a[o + 1] = a1;
+        a[o + 2] = a2;
+        a[o + 3] = a3;
+        a[o + 4] = a4;
+        a[o + 5] = a5;
+        a[o + 6] = a6;
+        a[o + 7] = a7;
+        a[o + 8] = a8;
+        a[o + 9] = a9;
+    }
+
+    private static void sort11(int[] a, int o) {
+        int a0 = a[o];
+        int a1 = a[o + 1];
+        int a2 = a[o + 2];
+        int a3 = a[o + 3];
+        int a4 = a[o + 4];
+        int a5 = a[o + 5];
+        int a6 = a[o + 6];
+        int a7 = a[o + 7];
+        int a8 = a[o + 8];
+        int a9 = a[o + 9];
+        int a10 = a[o + 10];
+        int t;
+
+        t = Math.min(a0, a9); a9 = Math.max(a0, a9); a0 = t;
+        t = Math.min(a1, a6); a6 = Math.max(a1, a6); a1 = t;
+        t = Math.min(a2, a4); a4 = Math.max(a2, a4); a2 = t;
+        t = Math.min(a3, a7); a7 = Math.max(a3, a7); a3 = t;
+        t = Math.min(a5, a8); a8 = Math.max(a5, a8); a5 = t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+        t = Math.min(a3, a5); a5 = Math.max(a3, a5); a3 = t;
+        t = Math.min(a4, a10); a10 = Math.max(a4, a10); a4 = t;
+        t = Math.min(a6, a9); a9 = Math.max(a6, a9); a6 = t;
+        t = Math.min(a7, a8); a8 = Math.max(a7, a8); a7 = t;
+
+        t = Math.min(a1, a3); a3 = Math.max(a1, a3); a1 = t;
+        t = Math.min(a2, a5); a5 = Math.max(a2, a5); a2 = t;
+        t = Math.min(a4, a7); a7 = Math.max(a4, a7); a4 = t;
+        t = Math.min(a8, a10); a10 = Math.max(a8, a10); a8 = t;
+
+        t = Math.min(a0, a4); a4 = Math.max(a0, a4); a0 = t;
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a3, a7); a7 = Math.max(a3, a7); a3 = t;
+        t = Math.min(a5, a9); a9 = Math.max(a5, a9); a5 = t;
+        t = Math.min(a6, a8); a8 = Math.max(a6, a8); a6 = t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+        t = Math.min(a2, a6); a6 = Math.max(a2, a6); a2 = t;
+        t = Math.min(a4, a5); a5 = Math.max(a4, a5); a4 = t;
+        t = Math.min(a7, a8); a8 = Math.max(a7, a8); a7 = t;
+        t = Math.min(a9, a10); a10 = Math.max(a9, a10); a9 = t;
+
+        t = Math.min(a2, a4); a4 = Math.max(a2, a4); a2 = t;
+        t = Math.min(a3, a6); a6 = Math.max(a3, a6); a3 = t;
+        t = Math.min(a5, a7); a7 = Math.max(a5, a7); a5 = t;
+        t = Math.min(a8, a9); a9 = Math.max(a8, a9); a8 = t;
+
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+        t = Math.min(a5, a6); a6 = Math.max(a5, a6); a5 = t;
+        t = Math.min(a7, a8); a8 = Math.max(a7, a8); a7 = t;
+
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+        t = Math.min(a4, a5); a5 = Math.max(a4, a5); a4 = t;
+        t = Math.min(a6, a7); a7 = Math.max(a6, a7); a6 = t;
+
+        a[o] = a0;
+        a[o + 1] = a1;
+        a[o + 2] = a2;
+        a[o + 3] = a3;
+        a[o + 4] = a4;
+        a[o + 5] = a5;
+        a[o + 6] = a6;
+        a[o + 7] = a7;
+        a[o + 8] = a8;
+        a[o + 9] = a9;
+        a[o + 10] = a10;
+    }
+
+    private static void sort12(int[] a, int o) {
+        int a0 = a[o];
+        int a1 = a[o + 1];
+        int a2 = a[o + 2];
+        int a3 = a[o + 3];
+        int a4 = a[o + 4];
+        int a5 = a[o + 5];
+        int a6 = a[o + 6];
+        int a7 = a[o + 7];
+        int a8 = a[o + 8];
+        int a9 = a[o + 9];
+        int a10 = a[o + 10];
+        int a11 = a[o + 11];
+        int t;
+
+        t = Math.min(a0, a8); a8 = Math.max(a0, a8); a0 = t;
+        t = Math.min(a1, a7); a7 = Math.max(a1, a7); a1 = t;
+        t = Math.min(a2, a6); a6 = Math.max(a2, a6); a2 = t;
+        t = Math.min(a3, a11); a11 = Math.max(a3, a11); a3 = t;
+        t = Math.min(a4, a10); a10 = Math.max(a4, a10); a4 = t;
+        t = Math.min(a5, a9); a9 = Math.max(a5, a9); a5 = t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+        t = Math.min(a2, a5); a5 = Math.max(a2, a5); a2 = t;
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+        t = Math.min(a6, a9); a9 = Math.max(a6, a9); a6 = t;
+        t = Math.min(a7, a8); a8 = Math.max(a7, a8); a7 = t;
+        t = Math.min(a10, a11); a11 = Math.max(a10, a11); a10 = t;
+
+        t = Math.min(a0, a2); a2 = Math.max(a0, a2); a0 = t;
+        t = Math.min(a1, a6); a6 = Math.max(a1, a6); a1 = t;
+        t = Math.min(a5, a10); a10 = Math.max(a5, a10); a5 = t;
+        t = Math.min(a9, a11); a11 = Math.max(a9, a11); a9 = t;
+
+        t = Math.min(a0, a3); a3 = Math.max(a0, a3); a0 = t;
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a4, a6); a6 = Math.max(a4, a6); a4 = t;
+        t = Math.min(a5, a7); a7 = Math.max(a5, a7); a5 = t;
+        t = Math.min(a8, a11); a11 = Math.max(a8, a11); a8 = t;
+        t = Math.min(a9, a10); a10 = Math.max(a9, a10); a9 = t;
+
+        t = Math.min(a1, a4); a4 = Math.max(a1, a4); a1 = t;
+        t = Math.min(a3, a5); a5 = Math.max(a3, a5); a3 = t;
+        t = Math.min(a6, a8); a8 = Math.max(a6, a8); a6 = t;
+        t = Math.min(a7, a10); a10 = Math.max(a7, a10); a7 = t;
+
+        t = Math.min(a1, a3); a3 = Math.max(a1, a3); a1 = t;
+        t = Math.min(a2, a5); a5 = Math.max(a2, a5); a2 = t;
+        t = Math.min(a6, a9); a9 = Math.max(a6, a9); a6 = t;
+        t = Math.min(a8, a10); a10 = Math.max(a8, a10); a8 = t;
+
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+        t = Math.min(a4, a5); a5 = Math.max(a4, a5); a4 = t;
+        t = Math.min(a6, a7); a7 = Math.max(a6, a7); a6 = t;
+        t = Math.min(a8, a9); a9 = Math.max(a8, a9); a8 = t;
+
+        t = Math.min(a4, a6); a6 = Math.max(a4, a6); a4 = t;
+        t = Math.min(a5, a7); a7 = Math.max(a5, a7); a5 = t;
+
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+        t = Math.min(a5, a6); a6 = Math.max(a5, a6); a5 = t;
+        t = Math.min(a7, a8); a8 = Math.max(a7, a8); a7 = t;
+
+        a[o] = a0;
+        a[o + 1] = a1;
+        a[o + 2] = a2;
+        a[o + 3] = a3;
+        a[o + 4] = a4;
+        a[o + 5] = a5;
+        a[o + 6] = a6;
+        a[o + 7] = a7;
+        a[o + 8] = a8;
+        a[o + 9] = a9;
+        a[o + 10] = a10;
+        a[o + 11] = a11;
+    }
+
+    private static void sort13(int[] a, int o) {
+        int a0 = a[o];
+        int a1 = a[o + 1];
+        int a2 = a[o + 2];
+        int a3 = a[o + 3];
+        int a4 = a[o + 4];
+        int a5 = a[o + 5];
+        int a6 = a[o + 6];
+        int a7 = a[o + 7];
+        int a8 = a[o + 8];
+        int a9 = a[o + 9];
+        int a10 = a[o + 10];
+        int a11 = a[o + 11];
+        int a12 = a[o + 12];
+        int t;
+
+        t = Math.min(a0, a12); a12 = Math.max(a0, a12); a0 = t;
+        t = Math.min(a1, a10); a10 = Math.max(a1, a10); a1 = t;
+        t = Math.min(a2, a9); a9 = Math.max(a2, a9); a2 = t;
+        t = Math.min(a3, a7); a7 = Math.max(a3, a7); a3 = t;
+        t = Math.min(a5, a11); a11 = Math.max(a5, a11); a5 = t;
+        t = Math.min(a6, a8); a8 = Math.max(a6, a8); a6 = t;
+
+        t = Math.min(a1, a6); a6 = Math.max(a1, a6); a1 = t;
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+        t = Math.min(a4, a11); a11 = Math.max(a4, a11); a4 = t;
+        t = Math.min(a7, a9); a9 = Math.max(a7, a9); a7 = t;
+        t = Math.min(a8, a10); a10 = Math.max(a8, a10); a8 = t;
+
+        t = Math.min(a0, a4); a4 = Math.max(a0, a4); a0 = t;
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a3, a6); a6 = Math.max(a3, a6); a3 = t;
+        t = Math.min(a7, a8); a8 = Math.max(a7, a8); a7 = t;
+        t = Math.min(a9, a10); a10 = Math.max(a9, a10); a9 = t;
+        t = Math.min(a11, a12); a12 = Math.max(a11, a12); a11 = t;
+
+        t = Math.min(a4, a6); a6 = Math.max(a4, a6); a4 = t;
+        t = Math.min(a5, a9); a9 = Math.max(a5, a9); a5 = t;
+        t = Math.min(a8, a11); a11 = Math.max(a8, a11); a8 = t;
+        t = Math.min(a10, a12); a12 = Math.max(a10, a12); a10 = t;
+
+        t = Math.min(a0, a5); a5 = Math.max(a0, a5); a0 = t;
+        t = Math.min(a3, a8); a8 = Math.max(a3, a8); a3 = t;
+        t = Math.min(a4, a7); a7 = Math.max(a4, a7); a4 = t;
+        t = Math.min(a6, a11); a11 = Math.max(a6, a11); a6 = t;
+        t = Math.min(a9, a10); a10 = Math.max(a9, a10); a9 = t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+        t = Math.min(a2, a5); a5 = Math.max(a2, a5); a2 = t;
+        t = Math.min(a6, a9); a9 = Math.max(a6, a9); a6 = t;
+        t = Math.min(a7, a8); a8 = Math.max(a7, a8); a7 = t;
+        t = Math.min(a10, a11); a11 = Math.max(a10, a11); a10 = t;
+
+        t = Math.min(a1, a3); a3 = Math.max(a1, a3); a1 = t;
+        t = Math.min(a2, a4); a4 = Math.max(a2, a4); a2 = t;
+        t = Math.min(a5, a6); a6 = Math.max(a5, a6); a5 = t;
+        t = Math.min(a9, a10); a10 = Math.max(a9, a10); a9 = t;
+
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+        t = Math.min(a5, a7); a7 = Math.max(a5, a7); a5 = t;
+        t = Math.min(a6, a8); a8 = Math.max(a6, a8); a6 = t;
+
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+        t = Math.min(a4, a5); a5 = Math.max(a4, a5); a4 = t;
+        t = Math.min(a6, a7); a7 = Math.max(a6, a7); a6 = t;
+        t = Math.min(a8, a9); a9 = Math.max(a8, a9); a8 = t;
+
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+        t = Math.min(a5, a6); a6 = Math.max(a5, a6); a5 = t;
+
+        a[o] = a0;
+        a[o + 1] = a1;
+        a[o + 2] = a2;
+        a[o + 3] = a3;
+        a[o + 4] = a4;
+        a[o + 5] = a5;
+        a[o + 6] = a6;
+        a[o + 7] = a7;
+        a[o + 8] = a8;
+        a[o + 9] = a9;
+        a[o + 10] = a10;
+        a[o + 11] = a11;
+        a[o + 12] = a12;
+    }
+
+    private static void sort14(int[] a, int o) {
+        int a0 = a[o];
+        int a1 = a[o + 1];
+        int a2 = a[o + 2];
+        int a3 = a[o + 3];
+        int a4 = a[o + 4];
+        int a5 = a[o + 5];
+        int a6 = a[o + 6];
+        int a7 = a[o + 7];
+        int a8 = a[o + 8];
+        int a9 = a[o + 9];
+        int a10 = a[o + 10];
+        int a11 = a[o + 11];
+        int a12 = a[o + 12];
+        int a13 = a[o + 13];
+        int t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+        t = Math.min(a4, a5); a5 = Math.max(a4, a5); a4 = t;
+        t = Math.min(a6, a7); a7 = Math.max(a6, a7); a6 = t;
+        t = Math.min(a8, a9); a9 = Math.max(a8, a9); a8 = t;
+        t = Math.min(a10, a11); a11 = Math.max(a10, a11); a10 = t;
+        t = Math.min(a12, a13); a13 = Math.max(a12, a13); a12 = t;
+
+        t = Math.min(a0, a2); a2 = Math.max(a0, a2); a0 = t;
+        t = Math.min(a1, a3); a3 = Math.max(a1, a3); a1 = t;
+        t = Math.min(a4, a8); a8 = Math.max(a4, a8); a4 = t;
+        t = Math.min(a5, a9); a9 = Math.max(a5, a9); a5 = t;
+        t = Math.min(a10, a12); a12 = Math.max(a10, a12); a10 = t;
+        t = Math.min(a11, a13); a13 = Math.max(a11, a13); a11 = t;
+
+        t = Math.min(a0, a4); a4 = Math.max(a0, a4); a0 = t;
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a3, a7); a7 = Math.max(a3, a7); a3 = t;
+        t = Math.min(a5, a8); a8 = Math.max(a5, a8); a5 = t;
+        t = Math.min(a6, a10); a10 = Math.max(a6, a10); a6 = t;
+        t = Math.min(a9, a13); a13 = Math.max(a9, a13); a9 = t;
+        t = Math.min(a11, a12); a12 = Math.max(a11, a12); a11 = t;
+
+        t = Math.min(a0, a6); a6 = Math.max(a0, a6); a0 = t;
+        t = Math.min(a1, a5); a5 = Math.max(a1, a5); a1 = t;
+        t = Math.min(a3, a9); a9 = Math.max(a3, a9); a3 = t;
+        t = Math.min(a4, a10); a10 = Math.max(a4, a10); a4 = t;
+        t = Math.min(a7, a13); a13 = Math.max(a7, a13); a7 = t;
+        t = Math.min(a8, a12); a12 = Math.max(a8, a12); a8 = t;
+
+        t = Math.min(a2, a10); a10 = Math.max(a2, a10); a2 = t;
+        t = Math.min(a3, a11); a11 = Math.max(a3, a11); a3 = t;
+        t = Math.min(a4, a6); a6 = Math.max(a4, a6); a4 = t;
+        t = Math.min(a7, a9); a9 = Math.max(a7, a9); a7 = t;
+
+        t = Math.min(a1, a3); a3 = Math.max(a1, a3); a1 = t;
+        t = Math.min(a2, a8); a8 = Math.max(a2, a8); a2 = t;
+        t = Math.min(a5, a11); a11 = Math.max(a5, a11); a5 = t;
+        t = Math.min(a6, a7); a7 = Math.max(a6, a7); a6 = t;
+        t = Math.min(a10, a12); a12 = Math.max(a10, a12); a10 = t;
+
+        t = Math.min(a1, a4); a4 = Math.max(a1, a4); a1 = t;
+        t = Math.min(a2, a6); a6 = Math.max(a2, a6); a2 = t;
+        t = Math.min(a3, a5); a5 = Math.max(a3, a5); a3 = t;
+        t = Math.min(a7, a11); a11 = Math.max(a7, a11); a7 = t;
+        t = Math.min(a8, a10); a10 = Math.max(a8, a10); a8 = t;
+        t = Math.min(a9, a12); a12 = Math.max(a9, a12); a9 = t;
+
+        t = Math.min(a2, a4); a4 = Math.max(a2, a4); a2 = t;
+        t = Math.min(a3, a6); a6 = Math.max(a3, a6); a3 = t;
+        t = Math.min(a5, a8); a8 = Math.max(a5, a8); a5 = t;
+        t = Math.min(a7, a10); a10 = Math.max(a7, a10); a7 = t;
+        t = Math.min(a9, a11); a11 = Math.max(a9, a11); a9 = t;
+
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+        t = Math.min(a5, a6); a6 = Math.max(a5, a6); a5 = t;
+        t = Math.min(a7, a8); a8 = Math.max(a7, a8); a7 = t;
+        t = Math.min(a9, a10); a10 = Math.max(a9, a10); a9 = t;
+
+        t = Math.min(a6, a7); a7 = Math.max(a6, a7); a6 = t;
+
+        a[o] = a0;
+        a[o + 1] = a1;
+        a[o + 2] = a2;
+        a[o + 3] = a3;
+        a[o + 4] = a4;
+        a[o + 5] = a5;
+        a[o + 6] = a6;
+        a[o + 7] = a7;
+        a[o + 8] = a8;
+        a[o + 9] = a9;
+        a[o + 10] = a10;
+        a[o + 11] = a11;
+        a[o + 12] = a12;
+        a[o + 13] = a13;
+    }
+
+    private static void sort15(int[] a, int o) {
+        int a0 = a[o];
+        int a1 = a[o + 1];
+        int a2 = a[o + 2];
+        int a3 = a[o + 3];
+        int a4 = a[o + 4];
+        int a5 = a[o + 5];
+        int a6 = a[o + 6];
+        int a7 = a[o + 7];
+        int a8 = a[o + 8];
+        int a9 = a[o + 9];
+        int a10 = a[o + 10];
+        int a11 = a[o + 11];
+        int a12 = a[o + 12];
+        int a13 = a[o + 13];
+        int a14 = a[o + 14];
+        int t;
+
+        t = Math.min(a0, a13); a13 = Math.max(a0, a13); a0 = t;
+        t = Math.min(a1, a12); a12 = Math.max(a1, a12); a1 = t;
+        t = Math.min(a3, a14); a14 = Math.max(a3, a14); a3 = t;
+        t = Math.min(a4, a8); a8 = Math.max(a4, a8); a4 = t;
+        t = Math.min(a5, a6); a6 = Math.max(a5, a6); a5 = t;
+        t = Math.min(a7, a11); a11 = Math.max(a7, a11); a7 = t;
+        t = Math.min(a9, a10); a10 = Math.max(a9, a10); a9 = t;
+
+        t = Math.min(a0, a5); a5 = Math.max(a0, a5); a0 = t;
+        t = Math.min(a1, a7); a7 = Math.max(a1, a7); a1 = t;
+        t = Math.min(a2, a9); a9 = Math.max(a2, a9); a2 = t;
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+        t = Math.min(a6, a13); a13 = Math.max(a6, a13); a6 = t;
+        t = Math.min(a8, a14); a14 = Math.max(a8, a14); a8 = t;
+        t = Math.min(a11, a12); a12 = Math.max(a11, a12); a11 = t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+        t = Math.min(a4, a5); a5 = Math.max(a4, a5); a4 = t;
+        t = Math.min(a6, a8); a8 = Math.max(a6, a8); a6 = t;
+        t = Math.min(a7, a9); a9 = Math.max(a7, a9); a7 = t;
+        t = Math.min(a10, a11); a11 = Math.max(a10, a11); a10 = t;
+        t = Math.min(a12, a13); a13 = Math.max(a12, a13); a12 = t;
+
+        t = Math.min(a0, a2); a2 = Math.max(a0, a2); a0 = t;
+        t = Math.min(a1, a3); a3 = Math.max(a1, a3); a1 = t;
+        t = Math.min(a4, a10); a10 = Math.max(a4, a10); a4 = t;
+        t = Math.min(a5, a11); a11 = Math.max(a5, a11); a5 = t;
+        t = Math.min(a6, a7); a7 = Math.max(a6, a7); a6 = t;
+        t = Math.min(a8, a9); a9 = Math.max(a8, a9); a8 = t;
+        t = Math.min(a12, a14); a14 = Math.max(a12, a14); a12 = t;
+
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a3, a12); a12 = Math.max(a3, a12); a3 = t;
+        t = Math.min(a4, a6); a6 = Math.max(a4, a6); a4 = t;
+        t = Math.min(a5, a7); a7 = Math.max(a5, a7); a5 = t;
+        t = Math.min(a8, a10); a10 = Math.max(a8, a10); a8 = t;
+        t = Math.min(a9, a11); a11 = Math.max(a9, a11); a9 = t;
+        t = Math.min(a13, a14); a14 = Math.max(a13, a14); a13 = t;
+
+        t = Math.min(a1, a4); a4 = Math.max(a1, a4); a1 = t;
+        t = Math.min(a2, a6); a6 = Math.max(a2, a6); a2 = t;
+        t = Math.min(a5, a8); a8 = Math.max(a5, a8); a5 = t;
+        t = Math.min(a7, a10); a10 = Math.max(a7, a10); a7 = t;
+        t = Math.min(a9, a13); a13 = Math.max(a9, a13); a9 = t;
+        t = Math.min(a11, a14); a14 = Math.max(a11, a14); a11 = t;
+
+        t = Math.min(a2, a4); a4 = Math.max(a2, a4); a2 = t;
+        t = Math.min(a3, a6); a6 = Math.max(a3, a6); a3 = t;
+        t = Math.min(a9, a12); a12 = Math.max(a9, a12); a9 = t;
+        t = Math.min(a11, a13); a13 = Math.max(a11, a13); a11 = t;
+
+        t = Math.min(a3, a5); a5 = Math.max(a3, a5); a3 = t;
+        t = Math.min(a6, a8); a8 = Math.max(a6, a8); a6 = t;
+        t = Math.min(a7, a9); a9 = Math.max(a7, a9); a7 = t;
+        t = Math.min(a10, a12); a12 = Math.max(a10, a12); a10 = t;
+
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+        t = Math.min(a5, a6); a6 = Math.max(a5, a6); a5 = t;
+        t = Math.min(a7, a8); a8 = Math.max(a7, a8); a7 = t;
+        t = Math.min(a9, a10); a10 = Math.max(a9, a10); a9 = t;
+        t = Math.min(a11, a12); a12 = Math.max(a11, a12); a11 = t;
+
+        t = Math.min(a6, a7); a7 = Math.max(a6, a7); a6 = t;
+        t = Math.min(a8, a9); a9 = Math.max(a8, a9); a8 = t;
+
+        a[o] = a0;
+        a[o + 1] = a1;
+        a[o + 2] = a2;
+        a[o + 3] = a3;
+        a[o + 4] = a4;
+        a[o + 5] = a5;
+        a[o + 6] = a6;
+        a[o + 7] = a7;
+        a[o + 8] = a8;
+        a[o + 9] = a9;
+        a[o + 10] = a10;
+        a[o + 11] = a11;
+        a[o + 12] = a12;
+        a[o + 13] = a13;
+        a[o + 14] = a14;
+    }
+
+    private static void sort16(int[] a, int o) {
+        int a0 = a[o];
+        int a1 = a[o + 1];
+        int a2 = a[o + 2];
+        int a3 = a[o + 3];
+        int a4 = a[o + 4];
+        int a5 = a[o + 5];
+        int a6 = a[o + 6];
+        int a7 = a[o + 7];
+        int a8 = a[o + 8];
+        int a9 = a[o + 9];
+        int a10 = a[o + 10];
+        int a11 = a[o + 11];
+        int a12 = a[o + 12];
+        int a13 = a[o + 13];
+        int a14 = a[o + 14];
+        int a15 = a[o + 15];
+        int t;
+
+        t = Math.min(a0, a13); a13 = Math.max(a0, a13); a0 = t;
+        t = Math.min(a1, a12); a12 = Math.max(a1, a12); a1 = t;
+        t = Math.min(a2, a15); a15 = Math.max(a2, a15); a2 = t;
+        t = Math.min(a3, a14); a14 = Math.max(a3, a14); a3 = t;
+        t = Math.min(a4, a8); a8 = Math.max(a4, a8); a4 = t;
+        t = Math.min(a5, a6); a6 = Math.max(a5, a6); a5 = t;
+        t = Math.min(a7, a11); a11 = Math.max(a7, a11); a7 = t;
+        t = Math.min(a9, a10); a10 = Math.max(a9, a10); a9 = t;
+
+        t = Math.min(a0, a5); a5 = Math.max(a0, a5); a0 = t;
+        t = Math.min(a1, a7); a7 = Math.max(a1, a7); a1 = t;
+        t = Math.min(a2, a9); a9 = Math.max(a2, a9); a2 = t;
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+        t = Math.min(a6, a13); a13 = Math.max(a6, a13); a6 = t;
+        t = Math.min(a8, a14); a14 = Math.max(a8, a14); a8 = t;
+        t = Math.min(a10, a15); a15 = Math.max(a10, a15); a10 = t;
+        t = Math.min(a11, a12); a12 = Math.max(a11, a12); a11 = t;
+
+        t = Math.min(a0, a1); a1 = Math.max(a0, a1); a0 = t;
+        t = Math.min(a2, a3); a3 = Math.max(a2, a3); a2 = t;
+        t = Math.min(a4, a5); a5 = Math.max(a4, a5); a4 = t;
+        t = Math.min(a6, a8); a8 = Math.max(a6, a8); a6 = t;
+        t = Math.min(a7, a9); a9 = Math.max(a7, a9); a7 = t;
+        t = Math.min(a10, a11); a11 = Math.max(a10, a11); a10 = t;
+        t = Math.min(a12, a13); a13 = Math.max(a12, a13); a12 = t;
+        t = Math.min(a14, a15); a15 = Math.max(a14, a15); a14 = t;
+
+        t = Math.min(a0, a2); a2 = Math.max(a0, a2); a0 = t;
+        t = Math.min(a1, a3); a3 = Math.max(a1, a3); a1 = t;
+        t = Math.min(a4, a10); a10 = Math.max(a4, a10); a4 = t;
+        t = Math.min(a5, a11); a11 = Math.max(a5, a11); a5 = t;
+        t = Math.min(a6, a7); a7 = Math.max(a6, a7); a6 = t;
+        t = Math.min(a8, a9); a9 = Math.max(a8, a9); a8 = t;
+        t = Math.min(a12, a14); a14 = Math.max(a12, a14); a12 = t;
+        t = Math.min(a13, a15); a15 = Math.max(a13, a15); a13 = t;
+
+        t = Math.min(a1, a2); a2 = Math.max(a1, a2); a1 = t;
+        t = Math.min(a3, a12); a12 = Math.max(a3, a12); a3 = t;
+        t = Math.min(a4, a6); a6 = Math.max(a4, a6); a4 = t;
+        t = Math.min(a5, a7); a7 = Math.max(a5, a7); a5 = t;
+        t = Math.min(a8, a10); a10 = Math.max(a8, a10); a8 = t;
+        t = Math.min(a9, a11); a11 = Math.max(a9, a11); a9 = t;
+        t = Math.min(a13, a14); a14 = Math.max(a13, a14); a13 = t;
+
+        t = Math.min(a1, a4); a4 = Math.max(a1, a4); a1 = t;
+        t = Math.min(a2, a6); a6 = Math.max(a2, a6); a2 = t;
+        t = Math.min(a5, a8); a8 = Math.max(a5, a8); a5 = t;
+        t = Math.min(a7, a10); a10 = Math.max(a7, a10); a7 = t;
+        t = Math.min(a9, a13); a13 = Math.max(a9, a13); a9 = t;
+        t = Math.min(a11, a14); a14 = Math.max(a11, a14); a11 = t;
+
+        t = Math.min(a2, a4); a4 = Math.max(a2, a4); a2 = t;
+        t = Math.min(a3, a6); a6 = Math.max(a3, a6); a3 = t;
+        t = Math.min(a9, a12); a12 = Math.max(a9, a12); a9 = t;
+        t = Math.min(a11, a13); a13 = Math.max(a11, a13); a11 = t;
+
+        t = Math.min(a3, a5); a5 = Math.max(a3, a5); a3 = t;
+        t = Math.min(a6, a8); a8 = Math.max(a6, a8); a6 = t;
+        t = Math.min(a7, a9); a9 = Math.max(a7, a9); a7 = t;
+        t = Math.min(a10, a12); a12 = Math.max(a10, a12); a10 = t;
+
+        t = Math.min(a3, a4); a4 = Math.max(a3, a4); a3 = t;
+        t = Math.min(a5, a6); a6 = Math.max(a5, a6); a5 = t;
+        t = Math.min(a7, a8); a8 = Math.max(a7, a8); a7 = t;
+        t = Math.min(a9, a10); a10 = Math.max(a9, a10); a9 = t;
+        t = Math.min(a11, a12); a12 = Math.max(a11, a12); a11 = t;
+
+        t = Math.min(a6, a7); a7 = Math.max(a6, a7); a6 = t;
+        t = Math.min(a8, a9); a9 = Math.max(a8, a9); a8 = t;
+
+        a[o] = a0;
+        a[o + 1] = a1;
+        a[o + 2] = a2;
+        a[o + 3] = a3;
+        a[o + 4] = a4;
+        a[o + 5] = a5;
+        a[o + 6] = a6;
+        a[o + 7] = a7;
+        a[o + 8] = a8;
+        a[o + 9] = a9;
+        a[o + 10] = a10;
+        a[o + 11] = a11;
+        a[o + 12] = a12;
+        a[o + 13] = a13;
+        a[o + 14] = a14;
+        a[o + 15] = a15;
+    }
+}
@@ -0,0 +1,169 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Streaming collector of the k smallest or k largest ints seen
+ *
+ * Keeps a sorted window of at most k elements. Once the window is full, a
+ * value that would not enter it is rejected with one comparison against the
+ * window's worst element; otherwise it is placed by binary search (upper
+ * bound) and a block shift that drops the worst element. Memory is Θ(k),
+ * independent of the number of values seen.
+ *
+ * Largest-k windows store ~value (an order-reversing bijection on int), so
+ * both orders share one ascending window without overflow.
+ *
+ * Works with IntStream.collect(() -> TopK.smallest(k), TopK::add, TopK::addAll).
+ * Not thread-safe.
+ */
+public final class TopK {
+
+    private final int k;
+    private final boolean largest;
+    private final int[] window;
+    private final SortMetrics metrics = new SortMetrics();
+    private int size;
+    private long seen;
+
+    private TopK(int k, boolean largest) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be non-negative, got " + k);
+        }
+        this.k = k;
+        this.largest = largest;
+        this.window = new int[k];
+    }
+
+    /**
+     * Collector of the k smallest values, reported in ascending order
+     */
+    public static TopK smallest(int k) {
+        return new TopK(k, false);
+    }
+
+    /**
+     * Collector of the k largest values, reported in descending order
+     */
+    public static TopK largest(int k) {
+        return new TopK(k, true);
+    }
+
+    public void add(int value) {
+        seen++;
+        if (k == 0) {
+            return;
+        }
+        int key = largest ? ~value : value;
+
+        if (size == k) {
+            metrics.incrementComparisons();
+            if (key >= window[k - 1]) {
+                return;
+            }
+            size--;
+        }
+
+        int pos = upperBound(key);
+        int moved = size - pos;
+        if (moved > 0) {
+            System.arraycopy(window, pos, window, pos + 1, moved);
+            metrics.addShifts(moved);
+        }
+        window[pos] = key;
+        size++;
+    }
+
+    public void addAll(int[] values) {
+        for (int value : values) {
+            add(value);
+        }
+    }
+
+    /**
+     * Merges another collector of the same kind (e.g. the combiner of a parallel stream)
+     *
+     * @throws IllegalArgumentException if k or the order differ
+     */
+    public void addAll(TopK other) {
+        if (other.k != k || other.largest != largest) {
+            throw new IllegalArgumentException("cannot merge top-" + other.k + " into top-" + k);
+        }
+        for (int i = 0; i < other.size; i++) {
+            add(largest ? ~other.window[i] : other.window[i]);
+        }
+        seen += other.seen - other.size;
+    }
+
+    /**
+     * Collected values, best first (ascending for smallest, descending for largest)
+     */
+    public int[] toArray() {
+        int[] result = Arrays.copyOf(window, size);
+        if (largest) {
+            for (int i = 0; i < size; i++) {
+                result[i] = ~result[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Value a new element has to beat to enter a full window
+     *
+     * @throws IllegalStateException if the window is not full
+     */
+    public int threshold() {
+        if (size < k || k == 0) {
+            throw new IllegalStateException("window not full: " + size + " of " + k);
+        }
+        int worst = window[k - 1];
+        return largest ? ~worst : worst;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Number of values currently held, at most k
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Number of values offered so far
+     */
+    public long getSeen() {
+        return seen;
+    }
+
+    /**
+     * Comparisons and shifts spent since construction or the last clear()
+     */
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void clear() {
+        size = 0;
+        seen = 0;
+        metrics.reset();
+    }
+
+    private int upperBound(int key) {
+        int left = 0;
+        int right = size;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            metrics.incrementComparisons();
+            if (key < window[mid]) {
+                right = mid;
+            } else {
+                left = mid + 1;
+            }
+        }
+        return left;
+    }
+}
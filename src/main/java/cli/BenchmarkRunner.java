@@ -1,11 +1,21 @@
 package cli;
 
+import algorithms.GapSequence;
 import algorithms.InsertionSort;
+import algorithms.InsertionVariant;
+import algorithms.ParallelInsertionSort;
+import algorithms.ShellSort;
 import algorithms.SortMetrics;
+import data.DatasetCache;
+import data.Distribution;
+import data.InputGenerator;
+import metrics.LatencyHistogram;
 import metrics.PerformanceTracker;
 
 import java.io.IOException;
-import java.util.Random;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Command-line benchmark runner for empirical analysis
@@ -16,11 +26,42 @@ public class BenchmarkRunner {
     private static final int[] TEST_SIZES = {100, 1000, 10000, 100000};
     private static final int WARMUP_RUNS = 3;
     private static final int MEASUREMENT_RUNS = 5;
+    private static final long SEED = 42L;
+    private static final int[] COMPARE_SIZES = {100, 1000, 10000};
+    private static final int[] SHELL_SIZES = {1000, 10000, 100000};
 
-    public static void main(String[] args) {
-        System.out.println("=== Insertion Sort Performance Benchmark ===\n");
+    /** Inputs shared by every variant; sample i is the i-th warmup/measurement run */
+    private final DatasetCache datasets = new DatasetCache(SEED);
 
+    public static void main(String[] args) {
         BenchmarkRunner runner = new BenchmarkRunner();
+
+        if (args.length > 0 && args[0].equals("fastpath")) {
+            System.out.println("=== Metrics-off Fast Path Benchmark ===\n");
+            runner.runFastPathBenchmark();
+            return;
+        }
+
+        if (args.length > 0 && args[0].equals("compare")) {
+            System.out.println("=== Sort Variant Comparison Benchmark ===\n");
+            runner.runCompareBenchmark(args.length > 1 ? parseSizes(args[1]) : COMPARE_SIZES,
+                    args.length > 2 ? SortVariant.fromLabel(args[2]) : SortVariant.ARRAYS_SORT);
+            return;
+        }
+
+        if (args.length > 0 && args[0].equals("shell")) {
+            System.out.println("=== Shell Sort Gap Sequence Benchmark ===\n");
+            runner.runShellBenchmark(args.length > 1 ? parseSizes(args[1]) : SHELL_SIZES);
+            return;
+        }
+
+        if (args.length > 0 && args[0].equals("scaling")) {
+            System.out.println("=== Parallel Sort Thread Scaling Benchmark ===\n");
+            runner.runScalingBenchmark();
+            return;
+        }
+
+        System.out.println("=== Insertion Sort Performance Benchmark ===\n");
         runner.runAllBenchmarks();
     }
 
@@ -36,40 +77,40 @@ public class BenchmarkRunner {
             int measurements = size >= 100000 ? 2 : MEASUREMENT_RUNS;
 
             // Test different data distributions
-            benchmarkDataType(tracker, "Random", size, DataType.RANDOM, warmup, measurements);
-            benchmarkDataType(tracker, "Sorted", size, DataType.SORTED, warmup, measurements);
-
-            // Пропускаем Reverse для 100000 (слишком долго - O(n²) worst case)
-            if (size < 100000) {
-                benchmarkDataType(tracker, "Reverse", size, DataType.REVERSE, warmup, measurements);
-            } else {
-                System.out.println("Reverse: SKIPPED (O(n²) worst case, would take too long)");
+            for (Distribution distribution : Distribution.values()) {
+                // Пропускаем Reverse и Adversarial для 100000 (слишком долго - O(n²) worst case)
+                if (size >= 100000 && (distribution == Distribution.REVERSE
+                        || distribution == Distribution.ADVERSARIAL)) {
+                    System.out.printf("  %s: SKIPPED (O(n²) worst case, would take too long)%n", distribution);
+                    continue;
+                }
+                benchmarkDataType(tracker, size, distribution, warmup, measurements);
             }
-
-            benchmarkDataType(tracker, "NearlySorted", size, DataType.NEARLY_SORTED, warmup, measurements);
-            benchmarkDataType(tracker, "FewUnique", size, DataType.FEW_UNIQUE, warmup, measurements);
+            datasets.clear();
         }
 
         tracker.printSummary();
 
         try {
             tracker.exportToCSV("performance_results.csv");
-            System.out.println("\n✓ Results exported to performance_results.csv");
+            tracker.exportToJSON("performance_results.json");
+            System.out.println("\n✓ Results exported to performance_results.csv and performance_results.json");
         } catch (IOException e) {
             System.err.println("Error exporting results: " + e.getMessage());
         }
     }
 
-    private void benchmarkDataType(PerformanceTracker tracker, String dataType,
-                                   int size, DataType type, int warmupRuns, int measurementRuns) {
-        System.out.printf("  %s: ", dataType);
+    private void benchmarkDataType(PerformanceTracker tracker, int size, Distribution distribution,
+                                   int warmupRuns, int measurementRuns) {
+        System.out.printf("  %s: ", distribution);
         System.out.flush();
 
         InsertionSort sorter = new InsertionSort();
+        int[] arr = new int[size];
 
-        // Warmup
+        // Warmup (samples after the measurement ones, so no input is seen twice)
         for (int i = 0; i < warmupRuns; i++) {
-            int[] arr = generateData(type, size);
+            datasets.copyInto(distribution, size, measurementRuns + i, arr);
             sorter.adaptiveInsertionSort(arr);
             System.out.print("w");
             System.out.flush();
@@ -79,24 +120,18 @@ public class BenchmarkRunner {
         System.out.flush();
 
         // Measurement
-        long totalComparisons = 0;
-        long totalSwaps = 0;
-        long totalShifts = 0;
-        long totalArrayAccesses = 0;
-        long totalTime = 0;
+        SortMetrics totals = new SortMetrics();
+        LatencyHistogram latencies = new LatencyHistogram();
 
         for (int i = 0; i < measurementRuns; i++) {
-            int[] arr = generateData(type, size);
+            datasets.copyInto(distribution, size, i, arr);
 
             // Run sort
             sorter.adaptiveInsertionSort(arr);
 
             SortMetrics metrics = sorter.getMetrics();
-            totalComparisons += metrics.getComparisons();
-            totalSwaps += metrics.getSwaps();
-            totalShifts += metrics.getShifts();
-            totalArrayAccesses += metrics.getArrayAccesses();
-            totalTime += metrics.getExecutionTimeNanos();
+            totals.add(metrics);
+            latencies.record(metrics.getExecutionTimeNanos());
 
             // Verify correctness
             if (!InsertionSort.isSorted(arr)) {
@@ -108,79 +143,271 @@ public class BenchmarkRunner {
             System.out.flush();
         }
 
+        tracker.addAggregatedResult("adaptive", distribution.name(), size, totals, latencies);
+
         // Calculate averages
-        long avgComparisons = totalComparisons / measurementRuns;
-        long avgSwaps = totalSwaps / measurementRuns;
-        long avgShifts = totalShifts / measurementRuns;
-        long avgArrayAccesses = totalArrayAccesses / measurementRuns;
-        long avgTimeNanos = totalTime / measurementRuns;
-        double avgTimeMillis = avgTimeNanos / 1_000_000.0;
-
-        // Create metrics object with averaged values
-        SortMetrics avgMetrics = new SortMetrics();
-        // Manually set the values by calling increment methods
-        for (long i = 0; i < avgComparisons; i++) avgMetrics.incrementComparisons();
-        for (long i = 0; i < avgSwaps; i++) avgMetrics.incrementSwaps();
-        for (long i = 0; i < avgShifts; i++) avgMetrics.incrementShifts();
-        for (long i = 0; i < avgArrayAccesses; i++) avgMetrics.incrementArrayAccesses();
-
-        tracker.addResult(dataType, size, avgMetrics);
-
-        System.out.printf(" ✓ %.2f ms, %d comparisons, %d shifts\n",
-                avgTimeMillis, avgComparisons, avgShifts);
+        SortMetrics average = SortMetrics.merge(totals);
+        average.divide(measurementRuns);
+
+        System.out.printf(" ✓ %.2f ms (p99 %.2f ms), %d comparisons, %d shifts\n",
+                average.getExecutionTimeMillis(), latencies.percentile(99) / 1_000_000.0,
+                average.getComparisons(), average.getShifts());
         System.out.flush();
     }
 
-    private int[] generateData(DataType type, int size) {
-        Random rand = new Random();
-        int[] arr = new int[size];
+    /**
+     * Runs every registered SortVariant (Arrays.sort as the baseline) on the
+     * same cached inputs. Timings use the metrics-off path; operation counters
+     * come from one extra instrumented run on the first measurement input.
+     */
+    public void runCompareBenchmark(int[] sizes) {
+        runCompareBenchmark(sizes, SortVariant.ARRAYS_SORT);
+    }
 
-        switch (type) {
-            case RANDOM:
-                for (int i = 0; i < size; i++) {
-                    arr[i] = rand.nextInt(size * 10);
-                }
-                break;
+    /**
+     * Same as runCompareBenchmark(sizes), with speedups reported against the
+     * given variant (e.g. "binary" to measure block-binary against it)
+     */
+    public void runCompareBenchmark(int[] sizes, SortVariant baselineVariant) {
+        PerformanceTracker tracker = new PerformanceTracker();
 
-            case SORTED:
-                for (int i = 0; i < size; i++) {
-                    arr[i] = i;
+        for (int size : sizes) {
+            System.out.printf("\n--- Testing with n = %d ---\n", size);
+            int warmup = size >= 100000 ? 1 : WARMUP_RUNS;
+            int measurements = size >= 100000 ? 2 : MEASUREMENT_RUNS;
+            int[] arr = new int[size];
+
+            for (Distribution distribution : Distribution.values()) {
+                System.out.printf("  %s:", distribution);
+                for (SortVariant variant : SortVariant.values()) {
+                    if (variant.isQuadratic() && size >= 100000 && (distribution == Distribution.REVERSE
+                            || distribution == Distribution.ADVERSARIAL)) {
+                        continue;
+                    }
+
+                    SortVariant.Sorter sorter = variant.create(false);
+                    for (int i = 0; i < warmup; i++) {
+                        datasets.copyInto(distribution, size, measurements + i, arr);
+                        sorter.sort(arr);
+                    }
+
+                    LatencyHistogram latencies = new LatencyHistogram();
+                    for (int i = 0; i < measurements; i++) {
+                        datasets.copyInto(distribution, size, i, arr);
+                        long start = System.nanoTime();
+                        sorter.sort(arr);
+                        latencies.record(System.nanoTime() - start);
+
+                        if (!InsertionSort.isSorted(arr)) {
+                            System.err.printf("%nERROR: %s left the array unsorted!%n", variant.getLabel());
+                            return;
+                        }
+                    }
+
+                    SortVariant.Sorter instrumented = variant.create(true);
+                    datasets.copyInto(distribution, size, 0, arr);
+                    instrumented.sort(arr);
+
+                    tracker.addResult(variant.getLabel(), distribution.name(), size,
+                            instrumented.getMetrics(), latencies);
+                    System.out.print(" " + variant.getLabel());
+                    System.out.flush();
                 }
-                break;
+                System.out.println();
+            }
+            datasets.clear();
+        }
 
-            case REVERSE:
-                for (int i = 0; i < size; i++) {
-                    arr[i] = size - i;
-                }
-                break;
+        String baseline = baselineVariant.getLabel();
+        tracker.printComparison(baseline);
 
-            case NEARLY_SORTED:
-                for (int i = 0; i < size; i++) {
-                    arr[i] = i;
+        try {
+            tracker.exportToCSV("comparison_results.csv");
+            tracker.exportToJSON("comparison_results.json");
+            tracker.exportComparisonCSV("comparison_summary.csv", baseline);
+            System.out.println("\n✓ Results exported to comparison_results.csv/.json and comparison_summary.csv");
+        } catch (IOException e) {
+            System.err.println("Error exporting results: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Runs ShellSort with every GapSequence on the same cached inputs, Ciura as
+     * the baseline; also prints how comparisons are spread over the passes
+     * (share of the final gap-1 pass). No distribution is skipped: every
+     * sequence is sub-quadratic.
+     */
+    public void runShellBenchmark(int[] sizes) {
+        PerformanceTracker tracker = new PerformanceTracker();
+
+        for (int size : sizes) {
+            System.out.printf("\n--- Testing with n = %d ---\n", size);
+            int warmup = size >= 100000 ? 1 : WARMUP_RUNS;
+            int measurements = size >= 100000 ? 2 : MEASUREMENT_RUNS;
+            int[] arr = new int[size];
+
+            for (Distribution distribution : Distribution.values()) {
+                System.out.printf("  %s:%n", distribution);
+                for (GapSequence sequence : GapSequence.values()) {
+                    ShellSort sorter = new ShellSort(sequence, false);
+                    for (int i = 0; i < warmup; i++) {
+                        datasets.copyInto(distribution, size, measurements + i, arr);
+                        sorter.sort(arr);
+                    }
+
+                    LatencyHistogram latencies = new LatencyHistogram();
+                    for (int i = 0; i < measurements; i++) {
+                        datasets.copyInto(distribution, size, i, arr);
+                        long start = System.nanoTime();
+                        sorter.sort(arr);
+                        latencies.record(System.nanoTime() - start);
+
+                        if (!InsertionSort.isSorted(arr)) {
+                            System.err.printf("%nERROR: shell-%s left the array unsorted!%n", sequence.getLabel());
+                            return;
+                        }
+                    }
+
+                    ShellSort instrumented = new ShellSort(sequence, true);
+                    datasets.copyInto(distribution, size, 0, arr);
+                    instrumented.sort(arr);
+                    SortMetrics totals = instrumented.getMetrics();
+                    List<SortMetrics> passes = instrumented.getPassMetrics();
+                    long lastPass = passes.isEmpty() ? 0 : passes.get(passes.size() - 1).getComparisons();
+
+                    String label = "shell-" + sequence.getLabel();
+                    tracker.addResult(label, distribution.name(), size, totals, latencies);
+                    System.out.printf("    %-16s %3d passes, %,d comparisons, %,d shifts, gap-1 pass %.1f%%%n",
+                            label, passes.size(), totals.getComparisons(), totals.getShifts(),
+                            100.0 * lastPass / Math.max(1, totals.getComparisons()));
                 }
-                // Disturb 5% of elements
-                int disturbCount = Math.max(1, size / 20);
-                for (int i = 0; i < disturbCount; i++) {
-                    int idx1 = rand.nextInt(size);
-                    int idx2 = rand.nextInt(size);
-                    int temp = arr[idx1];
-                    arr[idx1] = arr[idx2];
-                    arr[idx2] = temp;
+            }
+            datasets.clear();
+        }
+
+        String baseline = "shell-" + GapSequence.CIURA.getLabel();
+        tracker.printComparison(baseline);
+
+        try {
+            tracker.exportToCSV("shell_results.csv");
+            tracker.exportComparisonCSV("shell_summary.csv", baseline);
+            System.out.println("\n✓ Results exported to shell_results.csv and shell_summary.csv");
+        } catch (IOException e) {
+            System.err.println("Error exporting results: " + e.getMessage());
+        }
+    }
+
+    private static int[] parseSizes(String list) {
+        return Arrays.stream(list.split(",")).mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+    }
+
+    /**
+     * Compares instrumented, uninstrumented and hand-written insertion sort
+     * on identical inputs; the metrics-off path should track the hand-written loop
+     */
+    public void runFastPathBenchmark() {
+        int[] sizes = {100, 1000, 10000};
+        int runs = 15;
+        InsertionSort instrumented = new InsertionSort();
+        InsertionSort uninstrumented = new InsertionSort(false);
+
+        for (int size : sizes) {
+            int[] source = datasets.get(Distribution.RANDOM, size);
+            int[] work = new int[size];
+            long[] instrumentedTimes = new long[runs];
+            long[] fastTimes = new long[runs];
+            long[] handWrittenTimes = new long[runs];
+
+            for (int r = 0; r < runs; r++) {
+                System.arraycopy(source, 0, work, 0, size);
+                long start = System.nanoTime();
+                instrumented.sort(work);
+                instrumentedTimes[r] = System.nanoTime() - start;
+
+                System.arraycopy(source, 0, work, 0, size);
+                start = System.nanoTime();
+                uninstrumented.sort(work);
+                fastTimes[r] = System.nanoTime() - start;
+
+                System.arraycopy(source, 0, work, 0, size);
+                start = System.nanoTime();
+                handWrittenSort(work);
+                handWrittenTimes[r] = System.nanoTime() - start;
+            }
+
+            System.out.printf("n=%d: instrumented %.3f ms, metrics-off %.3f ms, hand-written %.3f ms (median)%n",
+                    size, median(instrumentedTimes) / 1_000_000.0,
+                    median(fastTimes) / 1_000_000.0, median(handWrittenTimes) / 1_000_000.0);
+        }
+    }
+
+    /**
+     * Runs ParallelInsertionSort with 1, 2, 4, ... threads (up to the core count)
+     * on the same input and reports speedup relative to one thread
+     */
+    public void runScalingBenchmark() {
+        int size = 2_000_000;
+        int runs = 7;
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        int[] source = new InputGenerator(SEED).generate(Distribution.RANDOM, size);
+        int[] work = new int[size];
+        double baselineMillis = 0;
+
+        System.out.printf("n=%d, granularity=%d, cores=%d%n",
+                size, ParallelInsertionSort.DEFAULT_GRANULARITY, maxThreads);
+        System.out.println("Threads,MedianMs,Speedup,Efficiency");
+
+        for (int threads = 1; threads <= maxThreads; threads = nextThreadCount(threads, maxThreads)) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                ParallelInsertionSort sorter = new ParallelInsertionSort(pool,
+                        ParallelInsertionSort.DEFAULT_GRANULARITY, InsertionVariant.ADAPTIVE, false);
+                long[] times = new long[runs];
+
+                for (int r = -2; r < runs; r++) { // two warmup rounds
+                    System.arraycopy(source, 0, work, 0, size);
+                    long start = System.nanoTime();
+                    sorter.sort(work);
+                    long elapsed = System.nanoTime() - start;
+                    if (r >= 0) {
+                        times[r] = elapsed;
+                    }
                 }
-                break;
 
-            case FEW_UNIQUE:
-                int uniqueValues = Math.max(5, size / 100);
-                for (int i = 0; i < size; i++) {
-                    arr[i] = rand.nextInt(uniqueValues);
+                double millis = median(times) / 1_000_000.0;
+                if (threads == 1) {
+                    baselineMillis = millis;
                 }
-                break;
+                double speedup = baselineMillis / millis;
+                System.out.printf("%d,%.2f,%.2f,%.2f%n", threads, millis, speedup, speedup / threads);
+            } finally {
+                pool.shutdown();
+            }
         }
+    }
 
-        return arr;
+    private static int nextThreadCount(int threads, int maxThreads) {
+        if (threads == maxThreads) {
+            return maxThreads + 1;
+        }
+        return Math.min(threads * 2, maxThreads);
+    }
+
+    private static void handWrittenSort(int[] a) {
+        for (int i = 1; i < a.length; i++) {
+            int key = a[i];
+            int j = i - 1;
+            while (j >= 0 && a[j] > key) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = key;
+        }
     }
 
-    private enum DataType {
-        RANDOM, SORTED, REVERSE, NEARLY_SORTED, FEW_UNIQUE
+    private static long median(long[] times) {
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
     }
 }
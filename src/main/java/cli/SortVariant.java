@@ -0,0 +1,132 @@
+package cli;
+
+import algorithms.GapSequence;
+import algorithms.InsertionSort;
+import algorithms.InsertionVariant;
+import algorithms.ParallelInsertionSort;
+import algorithms.ShellSort;
+import algorithms.SortMetrics;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Registry of int[] sort variants measured by the comparison benchmark
+ * Adding a constant here is enough to include a new variant in "compare" mode.
+ */
+public enum SortVariant {
+    STANDARD("standard", true, metricsEnabled -> {
+        InsertionSort s = new InsertionSort(metricsEnabled);
+        return Sorter.of(s::sort, s::getMetrics);
+    }),
+    BINARY("binary", true, metricsEnabled -> {
+        InsertionSort s = new InsertionSort(metricsEnabled);
+        return Sorter.of(s::binaryInsertionSort, s::getMetrics);
+    }),
+    BLOCK_BINARY("block-binary", true, metricsEnabled -> {
+        InsertionSort s = new InsertionSort(metricsEnabled);
+        return Sorter.of(s::blockBinaryInsertionSort, s::getMetrics);
+    }),
+    SENTINEL("sentinel", true, metricsEnabled -> {
+        InsertionSort s = new InsertionSort(metricsEnabled);
+        return Sorter.of(s::sentinelInsertionSort, s::getMetrics);
+    }),
+    ADAPTIVE("adaptive", true, metricsEnabled -> {
+        InsertionSort s = new InsertionSort(metricsEnabled);
+        return Sorter.of(s::adaptiveInsertionSort, s::getMetrics);
+    }),
+    HYBRID("hybrid", false, metricsEnabled -> {
+        InsertionSort s = new InsertionSort(metricsEnabled);
+        return Sorter.of(s::hybridSort, s::getMetrics);
+    }),
+    AUTO("auto", false, metricsEnabled -> {
+        InsertionSort s = new InsertionSort(metricsEnabled);
+        return Sorter.of(s::autoSort, s::getMetrics);
+    }),
+    RADIX("radix", false, metricsEnabled -> {
+        InsertionSort s = new InsertionSort(metricsEnabled);
+        return Sorter.of(s::radixSort, s::getMetrics);
+    }),
+    SHELL("shell", false, metricsEnabled -> {
+        ShellSort s = new ShellSort(GapSequence.CIURA, metricsEnabled);
+        return Sorter.of(s::sort, s::getMetrics);
+    }),
+    PARALLEL("parallel", false, metricsEnabled -> {
+        ParallelInsertionSort s = new ParallelInsertionSort(ForkJoinPool.commonPool(),
+                ParallelInsertionSort.DEFAULT_GRANULARITY, InsertionVariant.ADAPTIVE, metricsEnabled);
+        return Sorter.of(s::sort, s::getMetrics);
+    }),
+    /** Baseline: dual-pivot quicksort from the JDK (no operation counters) */
+    ARRAYS_SORT("Arrays.sort", false, metricsEnabled -> Sorter.of(Arrays::sort, SortMetrics::new));
+
+    private final String label;
+    private final boolean quadratic;
+    private final Function<Boolean, Sorter> factory;
+
+    SortVariant(String label, boolean quadratic, Function<Boolean, Sorter> factory) {
+        this.label = label;
+        this.quadratic = quadratic;
+        this.factory = factory;
+    }
+
+    /**
+     * Name used in reports and CSV files
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * True for Θ(n²) worst-case variants (skipped on large worst-case inputs)
+     */
+    public boolean isQuadratic() {
+        return quadratic;
+    }
+
+    /**
+     * Variant with the given report label
+     *
+     * @throws IllegalArgumentException if no variant has this label
+     */
+    public static SortVariant fromLabel(String label) {
+        for (SortVariant variant : values()) {
+            if (variant.label.equals(label)) {
+                return variant;
+            }
+        }
+        throw new IllegalArgumentException("Unknown sort variant: " + label);
+    }
+
+    /**
+     * New sorter instance; reuse it across runs so buffers are allocated once
+     */
+    public Sorter create(boolean metricsEnabled) {
+        return factory.apply(metricsEnabled);
+    }
+
+    /**
+     * A ready-to-run sort with access to the metrics of its last call
+     */
+    public interface Sorter {
+        void sort(int[] arr);
+
+        SortMetrics getMetrics();
+
+        static Sorter of(Consumer<int[]> sort, Supplier<SortMetrics> metrics) {
+            return new Sorter() {
+                @Override
+                public void sort(int[] arr) {
+                    sort.accept(arr);
+                }
+
+                @Override
+                public SortMetrics getMetrics() {
+                    return metrics.get();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of generated inputs so that every sort variant sees the same data
+ *
+ * Datasets are keyed by (distribution, size, sample) and generated once from
+ * the cache seed; sample selects one of several independent datasets of the
+ * same shape (e.g. one per measurement run). Cached arrays are shared - copy
+ * them into a work buffer with copyInto() before sorting.
+ *
+ * Not thread-safe.
+ */
+public class DatasetCache {
+
+    private final long seed;
+    private final Map<Key, int[]> datasets = new HashMap<>();
+
+    public DatasetCache(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Shared dataset; callers must not modify it
+     */
+    public int[] get(Distribution distribution, int size) {
+        return get(distribution, size, 0);
+    }
+
+    public int[] get(Distribution distribution, int size, int sample) {
+        return datasets.computeIfAbsent(new Key(distribution, size, sample),
+                key -> new InputGenerator(seed + sample).generate(distribution, size));
+    }
+
+    /**
+     * Copies the dataset into work[0, size) without allocating
+     */
+    public void copyInto(Distribution distribution, int size, int sample, int[] work) {
+        System.arraycopy(get(distribution, size, sample), 0, work, 0, size);
+    }
+
+    /**
+     * Number of cached datasets
+     */
+    public int size() {
+        return datasets.size();
+    }
+
+    public void clear() {
+        datasets.clear();
+    }
+
+    private static final class Key {
+        private final Distribution distribution;
+        private final int size;
+        private final int sample;
+
+        Key(Distribution distribution, int size, int sample) {
+            this.distribution = distribution;
+            this.size = size;
+            this.sample = sample;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return distribution == other.distribution && size == other.size && sample == other.sample;
+        }
+
+        @Override
+        public int hashCode() {
+            return (distribution.hashCode() * 31 + size) * 31 + sample;
+        }
+    }
+}
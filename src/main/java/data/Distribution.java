@@ -0,0 +1,34 @@
+package data;
+
+/**
+ * Input shapes produced by {@link InputGenerator}
+ */
+public enum Distribution {
+    /** Uniform values in [0, 10n) */
+    RANDOM,
+    /** 0, 1, ..., n-1 */
+    SORTED,
+    /** n, n-1, ..., 1 */
+    REVERSE,
+    /** Sorted, then 5% of positions swapped at random */
+    NEARLY_SORTED,
+    /** Uniform values from max(5, n/100) distinct keys */
+    FEW_UNIQUE,
+    /** Repeated ascending runs of runLength elements (default √n) */
+    SAWTOOTH,
+    /** Ascending to the middle, then descending */
+    ORGAN_PIPE,
+    /** Every element at most maxDisplacement positions from its sorted position */
+    K_SORTED,
+    /** Zipf-distributed duplicates over n/10 keys (exponent zipfExponent) */
+    ZIPF,
+    /** Sorted prefix followed by a random tail of tailFraction · n elements */
+    SORTED_RANDOM_TAIL,
+    /**
+     * Descending sequence of ascending pairs (n-2, n-1, n-4, n-3, ...),
+     * ending in a single 0 when n is odd:
+     * close to the maximum number of inversions for the insertion sorts,
+     * while defeating descending-run detection in the hybrid sort
+     */
+    ADVERSARIAL
+}
@@ -0,0 +1,228 @@
+package data;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded generator for benchmark and test inputs
+ *
+ * Output depends only on (seed, distribution, size, shape parameters):
+ * every call re-derives its random stream from those, so the same request
+ * always yields the same values regardless of call order or thread.
+ *
+ * fill() writes into a caller-provided buffer, so inputs can be generated
+ * outside a timed loop without allocating.
+ */
+public class InputGenerator {
+
+    public static final double DEFAULT_ZIPF_EXPONENT = 1.0;
+    public static final double DEFAULT_TAIL_FRACTION = 0.1;
+    public static final int DEFAULT_MAX_DISPLACEMENT = 16;
+
+    private final long seed;
+    private int runLength; // 0 = √n
+    private int maxDisplacement = DEFAULT_MAX_DISPLACEMENT;
+    private double zipfExponent = DEFAULT_ZIPF_EXPONENT;
+    private double tailFraction = DEFAULT_TAIL_FRACTION;
+
+    // Zipf cumulative distribution, reused while the key count stays the same
+    private double[] zipfCdf = new double[0];
+    private double zipfCdfExponent;
+
+    public InputGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Run length of SAWTOOTH inputs (0 = √n)
+     */
+    public void setRunLength(int runLength) {
+        if (runLength < 0) {
+            throw new IllegalArgumentException("runLength must not be negative: " + runLength);
+        }
+        this.runLength = runLength;
+    }
+
+    /**
+     * Maximum distance from the sorted position in K_SORTED inputs
+     */
+    public void setMaxDisplacement(int maxDisplacement) {
+        if (maxDisplacement < 0) {
+            throw new IllegalArgumentException("maxDisplacement must not be negative: " + maxDisplacement);
+        }
+        this.maxDisplacement = maxDisplacement;
+    }
+
+    /**
+     * Exponent s of ZIPF inputs: key k has weight 1 / k^s
+     */
+    public void setZipfExponent(double zipfExponent) {
+        if (!(zipfExponent > 0)) {
+            throw new IllegalArgumentException("zipfExponent must be positive: " + zipfExponent);
+        }
+        this.zipfExponent = zipfExponent;
+    }
+
+    /**
+     * Fraction of SORTED_RANDOM_TAIL inputs that is random (0..1)
+     */
+    public void setTailFraction(double tailFraction) {
+        if (!(tailFraction >= 0 && tailFraction <= 1)) {
+            throw new IllegalArgumentException("tailFraction must be in [0, 1]: " + tailFraction);
+        }
+        this.tailFraction = tailFraction;
+    }
+
+    /**
+     * New array of the given distribution and size
+     */
+    public int[] generate(Distribution distribution, int size) {
+        int[] arr = new int[size];
+        fill(distribution, arr);
+        return arr;
+    }
+
+    /**
+     * Overwrites the whole buffer with the given distribution (n = buffer.length)
+     */
+    public void fill(Distribution distribution, int[] buffer) {
+        int n = buffer.length;
+        SplittableRandom rand = new SplittableRandom(seed ^ mix(distribution.ordinal(), n));
+
+        switch (distribution) {
+            case RANDOM:
+                for (int i = 0; i < n; i++) {
+                    buffer[i] = rand.nextInt(Math.max(1, n * 10));
+                }
+                break;
+
+            case SORTED:
+                for (int i = 0; i < n; i++) {
+                    buffer[i] = i;
+                }
+                break;
+
+            case REVERSE:
+                for (int i = 0; i < n; i++) {
+                    buffer[i] = n - i;
+                }
+                break;
+
+            case NEARLY_SORTED:
+                for (int i = 0; i < n; i++) {
+                    buffer[i] = i;
+                }
+                if (n > 0) {
+                    int disturbCount = Math.max(1, n / 20);
+                    for (int i = 0; i < disturbCount; i++) {
+                        swap(buffer, rand.nextInt(n), rand.nextInt(n));
+                    }
+                }
+                break;
+
+            case FEW_UNIQUE:
+                int uniqueValues = Math.max(5, n / 100);
+                for (int i = 0; i < n; i++) {
+                    buffer[i] = rand.nextInt(uniqueValues);
+                }
+                break;
+
+            case SAWTOOTH:
+                int run = runLength > 0 ? runLength : Math.max(1, (int) Math.sqrt(n));
+                for (int i = 0; i < n; i++) {
+                    buffer[i] = i % run;
+                }
+                break;
+
+            case ORGAN_PIPE:
+                for (int i = 0; i < n; i++) {
+                    buffer[i] = Math.min(i, n - 1 - i);
+                }
+                break;
+
+            case K_SORTED:
+                // i + noise in [0, k]: values from positions more than k apart never cross
+                for (int i = 0; i < n; i++) {
+                    buffer[i] = i + rand.nextInt(maxDisplacement + 1);
+                }
+                break;
+
+            case ZIPF:
+                fillZipf(buffer, Math.max(2, n / 10), rand);
+                break;
+
+            case SORTED_RANDOM_TAIL:
+                int tail = (int) Math.round(n * tailFraction);
+                int prefix = n - tail;
+                for (int i = 0; i < prefix; i++) {
+                    buffer[i] = i;
+                }
+                for (int i = prefix; i < n; i++) {
+                    buffer[i] = rand.nextInt(Math.max(1, n));
+                }
+                break;
+
+            case ADVERSARIAL:
+                for (int i = 0; i < n; i++) {
+                    int pair = i >> 1;
+                    buffer[i] = n - 2 * (pair + 1) + (i & 1);
+                }
+                // Odd n: the unpaired last element is the smallest value
+                if ((n & 1) != 0) {
+                    buffer[n - 1] = 0;
+                }
+                break;
+
+            default:
+                throw new IllegalArgumentException("Unknown distribution: " + distribution);
+        }
+    }
+
+    /**
+     * Keys 1..keys drawn by inverse CDF (binary search over the cumulative weights)
+     */
+    private void fillZipf(int[] buffer, int keys, SplittableRandom rand) {
+        if (zipfCdf.length != keys || zipfCdfExponent != zipfExponent) {
+            zipfCdf = new double[keys];
+            double total = 0;
+            for (int k = 0; k < keys; k++) {
+                total += 1.0 / Math.pow(k + 1, zipfExponent);
+                zipfCdf[k] = total;
+            }
+            for (int k = 0; k < keys; k++) {
+                zipfCdf[k] /= total;
+            }
+            zipfCdfExponent = zipfExponent;
+        }
+
+        for (int i = 0; i < buffer.length; i++) {
+            double u = rand.nextDouble();
+            int lo = 0;
+            int hi = keys - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (zipfCdf[mid] < u) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            buffer[i] = lo + 1;
+        }
+    }
+
+    private static long mix(int ordinal, int size) {
+        long z = ((long) ordinal << 32 | size) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        return z ^ (z >>> 31);
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
@@ -0,0 +1,164 @@
+package metrics;
+
+import java.util.Arrays;
+
+/**
+ * Log-bucketed latency histogram (HdrHistogram-style)
+ *
+ * Values are grouped by their highest set bit; each power-of-two range is
+ * split into 2^SUB_BUCKET_BITS linear sub-buckets, so every recorded value
+ * is kept with a relative error below 1 / 2^SUB_BUCKET_BITS (under 1%)
+ * over the whole long range, in a fixed-size array.
+ *
+ * record() is O(1); percentile() is O(buckets). Count, min, max, mean and
+ * standard deviation are tracked exactly, not from the buckets: mean and
+ * squared deviations use Welford's running update (Chan's formula in add()),
+ * which stays accurate for large values with a small spread.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    /** Two-sided 95% Student t quantiles for 1..30 degrees of freedom */
+    private static final double[] T_95 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private double mean;
+    private double m2;
+
+    /**
+     * Records one latency (nanoseconds, or any non-negative unit)
+     */
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("value must not be negative: " + value);
+        }
+        counts[indexOf(value)]++;
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    /**
+     * Adds every value recorded in other to this histogram
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        if (other.count == 0) {
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        mean += delta * other.count / total;
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Value at the given percentile (0..100), nearest-rank method
+     * Reported as the upper end of its bucket, capped at the recorded maximum
+     */
+    public long percentile(double percent) {
+        if (percent < 0 || percent > 100) {
+            throw new IllegalArgumentException("percent must be in [0, 100]: " + percent);
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percent / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : mean;
+    }
+
+    /**
+     * Sample standard deviation (n - 1 denominator)
+     */
+    public double getStdDev() {
+        if (count < 2) {
+            return 0;
+        }
+        return Math.sqrt(m2 / (count - 1));
+    }
+
+    /**
+     * Half-width of the 95% confidence interval of the mean
+     * (Student t for fewer than 31 samples, normal approximation above)
+     */
+    public double getConfidenceHalfWidth() {
+        if (count < 2) {
+            return 0;
+        }
+        long df = count - 1;
+        double t = df <= T_95.length ? T_95[(int) df - 1] : 1.96;
+        return t * getStdDev() / Math.sqrt(count);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+        mean = 0;
+        m2 = 0;
+    }
+
+    /**
+     * Values below 2^(SUB_BUCKET_BITS + 1) get their own bucket; above that,
+     * the bucket keeps the top SUB_BUCKET_BITS + 1 significant bits
+     */
+    static int indexOf(long value) {
+        int shift = Math.max(0, Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long highestEquivalentValue(int index) {
+        int shift = Math.max(0, (index >> SUB_BUCKET_BITS) - 1);
+        long subBucket = index - ((long) shift << SUB_BUCKET_BITS);
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Latency{count=%d, p50=%d, p90=%d, p99=%d, p99.9=%d, max=%d}",
+                count, percentile(50), percentile(90), percentile(99), percentile(99.9), max);
+    }
+}
@@ -5,62 +5,260 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Tracks and exports performance data for empirical analysis
+ * One result per (variant, distribution, size): operation counters plus a
+ * latency histogram of the individual measurement runs
  */
 public class PerformanceTracker {
+    private static final String DEFAULT_VARIANT = "adaptive";
+
     private final List<BenchmarkResult> results;
 
     public PerformanceTracker() {
         this.results = new ArrayList<>();
     }
 
+    /**
+     * Single-run result of the default (adaptive) variant
+     */
     public void addResult(String dataType, int size, SortMetrics metrics) {
-        results.add(new BenchmarkResult(dataType, size, metrics));
+        LatencyHistogram latencies = new LatencyHistogram();
+        latencies.record(Math.max(0, metrics.getExecutionTimeNanos()));
+        addResult(DEFAULT_VARIANT, dataType, size, metrics, latencies);
+    }
+
+    /**
+     * @param metrics   operation counters of one representative (or averaged) run
+     * @param latencies execution time of every measurement run, in nanoseconds
+     */
+    public void addResult(String variant, String dataType, int size,
+                          SortMetrics metrics, LatencyHistogram latencies) {
+        results.add(new BenchmarkResult(variant, dataType, size, metrics, latencies));
+    }
+
+    /**
+     * Result aggregated over latencies.getCount() measurement runs
+     * @param totals summed counters of all runs (see SortMetrics.add); averaged here in O(1)
+     */
+    public void addAggregatedResult(String variant, String dataType, int size,
+                                    SortMetrics totals, LatencyHistogram latencies) {
+        SortMetrics average = SortMetrics.merge(totals);
+        if (latencies.getCount() > 0) {
+            average.divide(latencies.getCount());
+        }
+        addResult(variant, dataType, size, average, latencies);
     }
 
     public void exportToCSV(String filename) throws IOException {
         try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
-            writer.println("DataType,InputSize,Comparisons,Swaps,Shifts,ArrayAccesses");
+            writer.println("Variant,DataType,InputSize,Comparisons,Swaps,Shifts,ArrayAccesses,"
+                    + "Runs,MeanMs,StdDevMs,CI95LowMs,CI95HighMs,P50Ms,P90Ms,P99Ms,P999Ms,MaxMs");
 
             for (BenchmarkResult result : results) {
-                writer.printf("%s,%d,%d,%d,%d,%d%n",
+                LatencyHistogram h = result.latencies;
+                writer.printf(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%d,%d,%.4f,%.4f,%.4f,%.4f,%.4f,%.4f,%.4f,%.4f,%.4f%n",
+                        result.variant,
                         result.dataType,
                         result.size,
                         result.comparisons,
                         result.swaps,
                         result.shifts,
-                        result.arrayAccesses
+                        result.arrayAccesses,
+                        h.getCount(),
+                        millis(h.getMean()),
+                        millis(h.getStdDev()),
+                        millis(h.getMean() - h.getConfidenceHalfWidth()),
+                        millis(h.getMean() + h.getConfidenceHalfWidth()),
+                        millis(h.percentile(50)),
+                        millis(h.percentile(90)),
+                        millis(h.percentile(99)),
+                        millis(h.percentile(99.9)),
+                        millis(h.getMax())
                 );
             }
         }
     }
 
+    /**
+     * Same data as exportToCSV as a JSON array of objects
+     */
+    public void exportToJSON(String filename) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
+            writer.println("[");
+            for (int i = 0; i < results.size(); i++) {
+                BenchmarkResult result = results.get(i);
+                LatencyHistogram h = result.latencies;
+                writer.printf(Locale.ROOT,
+                        "  {\"variant\": \"%s\", \"dataType\": \"%s\", \"size\": %d, "
+                                + "\"comparisons\": %d, \"swaps\": %d, \"shifts\": %d, \"arrayAccesses\": %d, "
+                                + "\"latencyMs\": {\"runs\": %d, \"mean\": %.4f, \"stdDev\": %.4f, "
+                                + "\"ci95\": [%.4f, %.4f], \"p50\": %.4f, \"p90\": %.4f, \"p99\": %.4f, "
+                                + "\"p99.9\": %.4f, \"max\": %.4f}}%s%n",
+                        result.variant, result.dataType, result.size,
+                        result.comparisons, result.swaps, result.shifts, result.arrayAccesses,
+                        h.getCount(), millis(h.getMean()), millis(h.getStdDev()),
+                        millis(h.getMean() - h.getConfidenceHalfWidth()),
+                        millis(h.getMean() + h.getConfidenceHalfWidth()),
+                        millis(h.percentile(50)), millis(h.percentile(90)), millis(h.percentile(99)),
+                        millis(h.percentile(99.9)), millis(h.getMax()),
+                        i < results.size() - 1 ? "," : "");
+            }
+            writer.println("]");
+        }
+    }
+
+    /**
+     * Side-by-side comparison: one row per (distribution, size) with the p50
+     * latency of every variant, its speedup over the baseline variant
+     * (baseline p50 / variant p50) and the fastest variant
+     */
+    public void exportComparisonCSV(String filename, String baselineVariant) throws IOException {
+        List<String> variants = variants();
+        try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
+            StringBuilder header = new StringBuilder("DataType,InputSize");
+            for (String variant : variants) {
+                header.append(',').append(variant).append("P50Ms,").append(variant).append("Speedup");
+            }
+            writer.println(header.append(",Winner"));
+
+            for (List<BenchmarkResult> group : groups().values()) {
+                BenchmarkResult first = group.get(0);
+                StringBuilder row = new StringBuilder(first.dataType + "," + first.size);
+                for (String variant : variants) {
+                    BenchmarkResult result = find(group, variant);
+                    if (result == null) {
+                        row.append(",,");
+                    } else {
+                        row.append(String.format(Locale.ROOT, ",%.4f,%.3f",
+                                millis(p50(result)), speedup(group, baselineVariant, result)));
+                    }
+                }
+                writer.println(row.append(',').append(winner(group).variant));
+            }
+        }
+    }
+
+    /**
+     * Prints every (distribution, size) group with speedups over the baseline,
+     * followed by the winner table
+     */
+    public void printComparison(String baselineVariant) {
+        Map<String, List<BenchmarkResult>> groups = groups();
+
+        System.out.println("\n=== Variant Comparison (p50, speedup vs " + baselineVariant + ") ===");
+        for (List<BenchmarkResult> group : groups.values()) {
+            BenchmarkResult first = group.get(0);
+            System.out.printf("%s (n=%d):%n", first.dataType, first.size);
+            for (BenchmarkResult result : group) {
+                System.out.printf("  %-12s %10.4f ms  x%.2f%n", result.variant,
+                        millis(p50(result)), speedup(group, baselineVariant, result));
+            }
+        }
+
+        System.out.println("\n=== Winner per (distribution, size) ===");
+        System.out.printf("%-20s %8s  %-12s %10s%n", "DataType", "Size", "Winner", "P50Ms");
+        for (List<BenchmarkResult> group : groups.values()) {
+            BenchmarkResult best = winner(group);
+            System.out.printf("%-20s %8d  %-12s %10.4f%n", best.dataType, best.size, best.variant,
+                    millis(p50(best)));
+        }
+    }
+
     public void printSummary() {
         System.out.println("\n=== Performance Summary ===");
         for (BenchmarkResult result : results) {
-            System.out.printf("%s (n=%d): %d comparisons, %d shifts%n",
-                    result.dataType, result.size, result.comparisons, result.shifts);
+            LatencyHistogram h = result.latencies;
+            System.out.printf("%s %s (n=%d): %d comparisons, %d shifts, p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                    result.variant, result.dataType, result.size, result.comparisons, result.shifts,
+                    millis(h.percentile(50)), millis(h.percentile(99)), millis(h.getMax()));
         }
     }
 
+    /**
+     * Results grouped by (distribution, size) in insertion order
+     */
+    private Map<String, List<BenchmarkResult>> groups() {
+        Map<String, List<BenchmarkResult>> groups = new LinkedHashMap<>();
+        for (BenchmarkResult result : results) {
+            groups.computeIfAbsent(result.dataType + "/" + result.size, k -> new ArrayList<>()).add(result);
+        }
+        return groups;
+    }
+
+    private List<String> variants() {
+        List<String> variants = new ArrayList<>();
+        for (BenchmarkResult result : results) {
+            if (!variants.contains(result.variant)) {
+                variants.add(result.variant);
+            }
+        }
+        return variants;
+    }
+
+    private static BenchmarkResult find(List<BenchmarkResult> group, String variant) {
+        for (BenchmarkResult result : group) {
+            if (result.variant.equals(variant)) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    private static BenchmarkResult winner(List<BenchmarkResult> group) {
+        BenchmarkResult best = group.get(0);
+        for (BenchmarkResult result : group) {
+            if (p50(result) < p50(best)) {
+                best = result;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Baseline p50 / result p50, or NaN without a baseline in the group
+     */
+    private static double speedup(List<BenchmarkResult> group, String baselineVariant, BenchmarkResult result) {
+        BenchmarkResult baseline = find(group, baselineVariant);
+        if (baseline == null) {
+            return Double.NaN;
+        }
+        return (double) p50(baseline) / Math.max(1, p50(result));
+    }
+
+    private static long p50(BenchmarkResult result) {
+        return result.latencies.percentile(50);
+    }
+
+    private static double millis(double nanos) {
+        return nanos / 1_000_000.0;
+    }
+
     private static class BenchmarkResult {
+        String variant;
         String dataType;
         int size;
         long comparisons;
         long swaps;
         long shifts;
         long arrayAccesses;
+        LatencyHistogram latencies;
 
-        BenchmarkResult(String dataType, int size, SortMetrics metrics) {
+        BenchmarkResult(String variant, String dataType, int size,
+                        SortMetrics metrics, LatencyHistogram latencies) {
+            this.variant = variant;
             this.dataType = dataType;
             this.size = size;
             this.comparisons = metrics.getComparisons();
             this.swaps = metrics.getSwaps();
             this.shifts = metrics.getShifts();
             this.arrayAccesses = metrics.getArrayAccesses();
+            this.latencies = latencies;
         }
     }
 }
@@ -0,0 +1,126 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for BatchInsertionSort (int[][] and flat buffer + offsets)
+ */
+class BatchInsertionSortTest {
+
+    private static int[][] randomArrays(int count, long seed) {
+        Random rand = new Random(seed);
+        int[][] arrays = new int[count][];
+        for (int i = 0; i < count; i++) {
+            arrays[i] = new int[8 + rand.nextInt(57)];
+            for (int j = 0; j < arrays[i].length; j++) {
+                arrays[i][j] = rand.nextInt(1000);
+            }
+        }
+        return arrays;
+    }
+
+    private static void assertAllSorted(int[][] expected, int[][] actual) {
+        for (int i = 0; i < expected.length; i++) {
+            int[] sorted = expected[i].clone();
+            Arrays.sort(sorted);
+            assertArrayEquals(sorted, actual[i], "array " + i);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(InsertionVariant.class)
+    @DisplayName("Test int[][] batches sequentially and in parallel")
+    void testArrays(InsertionVariant variant) {
+        int[][] original = randomArrays(5000, 1);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (ForkJoinPool p : new ForkJoinPool[]{null, pool}) {
+                for (boolean metricsEnabled : new boolean[]{true, false}) {
+                    int[][] arrays = Arrays.stream(original).map(int[]::clone).toArray(int[][]::new);
+                    new BatchInsertionSort(p, variant, metricsEnabled).sortAll(arrays);
+                    assertAllSorted(original, arrays);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test flat buffer with offsets, including empty slices")
+    void testFlatBuffer() {
+        int[][] original = randomArrays(3000, 2);
+        int[] offsets = new int[original.length + 2];
+        for (int i = 0; i < original.length; i++) {
+            offsets[i + 1] = offsets[i] + original[i].length;
+        }
+        offsets[original.length + 1] = offsets[original.length]; // trailing empty slice
+
+        int[] data = new int[offsets[original.length]];
+        for (int i = 0; i < original.length; i++) {
+            System.arraycopy(original[i], 0, data, offsets[i], original[i].length);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            new BatchInsertionSort(pool, InsertionVariant.BINARY, true).sortAll(data, offsets);
+        } finally {
+            pool.shutdown();
+        }
+
+        int[][] actual = new int[original.length][];
+        for (int i = 0; i < original.length; i++) {
+            actual[i] = Arrays.copyOfRange(data, offsets[i], offsets[i + 1]);
+        }
+        assertAllSorted(original, actual);
+    }
+
+    @Test
+    @DisplayName("Test batch metrics equal the sum of per-array metrics")
+    void testBatchMetrics() {
+        int[][] arrays = {{3, 2, 1}, null, {}, {2, 1}, {1, 2, 3, 4}};
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            BatchInsertionSort sequential = new BatchInsertionSort(null,
+                    InsertionVariant.STANDARD, true);
+            sequential.sortAll(Arrays.stream(arrays).map(a -> a == null ? null : a.clone()).toArray(int[][]::new));
+            assertEquals(4, sequential.getMetrics().getShifts());
+            assertTrue(sequential.getMetrics().getExecutionTimeNanos() > 0);
+
+            // A second batch starts from zero
+            sequential.sortAll(new int[][]{{2, 1}});
+            assertEquals(1, sequential.getMetrics().getShifts());
+
+            int[][] many = new int[5000][];
+            for (int i = 0; i < many.length; i++) {
+                many[i] = new int[]{3, 2, 1};
+            }
+            BatchInsertionSort parallel = new BatchInsertionSort(pool,
+                    InsertionVariant.STANDARD, true);
+            parallel.sortAll(many);
+            assertEquals(3L * many.length, parallel.getMetrics().getShifts());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid offsets are rejected")
+    void testInvalidOffsets() {
+        BatchInsertionSort sorter = new BatchInsertionSort();
+        assertThrows(IllegalArgumentException.class, () -> sorter.sortAll(new int[4], new int[]{0, 3, 2}));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sortAll(new int[4], new int[]{0, 5}));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sortAll(new int[4], new int[]{-1, 2}));
+        sorter.sortAll(null);
+        sorter.sortAll(new int[4], new int[]{0});
+    }
+}
@@ -0,0 +1,143 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for BufferInsertionSort
+ */
+class BufferInsertionSortTest {
+
+    // Correctness Tests
+
+    @ParameterizedTest
+    @EnumSource(InsertionVariant.class)
+    @DisplayName("Test heap and direct IntBuffers")
+    void testIntBuffers(InsertionVariant variant) {
+        Random rand = new Random(21);
+        BufferInsertionSort sorter = new BufferInsertionSort(variant, true);
+        for (int n : new int[]{2, 3, 31, 500}) {
+            int[] values = rand.ints(n, -50, 50).toArray();
+            int[] expected = values.clone();
+            Arrays.sort(expected);
+
+            IntBuffer heap = IntBuffer.wrap(values.clone());
+            sorter.sort(heap);
+            assertArrayEquals(expected, heap.array(), variant + ", heap, n=" + n);
+
+            IntBuffer direct = ByteBuffer.allocateDirect(4 * n).order(ByteOrder.nativeOrder()).asIntBuffer();
+            direct.put(values).flip();
+            sorter.sort(direct);
+            assertArrayEquals(expected, toArray(direct), variant + ", direct, n=" + n);
+            assertEquals(0, direct.position());
+            assertEquals(n, direct.limit());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(InsertionVariant.class)
+    @DisplayName("Test LongBuffers with extreme values")
+    void testLongBuffers(InsertionVariant variant) {
+        long[] values = {5, Long.MIN_VALUE, -1, Long.MAX_VALUE, 0, 5, Long.MIN_VALUE, 42};
+        long[] expected = values.clone();
+        Arrays.sort(expected);
+
+        LongBuffer buffer = ByteBuffer.allocateDirect(8 * values.length).asLongBuffer();
+        buffer.put(values).flip();
+        new BufferInsertionSort(variant, false).sort(buffer);
+
+        long[] actual = new long[values.length];
+        buffer.get(0, actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @EnumSource(InsertionVariant.class)
+    @DisplayName("Test ByteBuffer contents are read in the explicit byte order")
+    void testExplicitByteOrder(InsertionVariant variant) {
+        BufferInsertionSort sorter = new BufferInsertionSort(variant, true);
+        int[] values = {300, 1, -7, 65536, 2, 256};
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            ByteBuffer bytes = ByteBuffer.allocateDirect(4 * values.length);
+            bytes.duplicate().order(order).asIntBuffer().put(values);
+
+            // The buffer's own order is left at the opposite value on purpose
+            bytes.order(order == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+            sorter.sortInts(bytes, order);
+
+            assertArrayEquals(expected, toArray(bytes.duplicate().order(order).asIntBuffer()), order.toString());
+            assertNotEquals(order, bytes.order());
+
+            ByteBuffer longBytes = ByteBuffer.allocate(8 * values.length);
+            for (int i = 0; i < values.length; i++) {
+                longBytes.duplicate().order(order).putLong(8 * i, values[i] * 1_000_000_007L);
+            }
+            sorter.sortLongs(longBytes, order);
+            LongBuffer sorted = longBytes.duplicate().order(order).asLongBuffer();
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(expected[i] * 1_000_000_007L, sorted.get(i), order.toString());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test only [position, limit) is sorted")
+    void testPositionAndLimit() {
+        IntBuffer buffer = IntBuffer.wrap(new int[]{9, 8, 5, 4, 3, 2, 1, 0});
+        buffer.position(2).limit(6);
+        new BufferInsertionSort().sort(buffer);
+
+        assertArrayEquals(new int[]{9, 8, 2, 3, 4, 5, 1, 0}, buffer.array());
+        assertEquals(2, buffer.position());
+        assertEquals(6, buffer.limit());
+    }
+
+    // Metrics and Argument Tests
+
+    @Test
+    @DisplayName("Test metrics match the array sort for the same variant")
+    void testMetrics() {
+        int[] values = new Random(5).ints(200, 0, 1000).toArray();
+        BufferInsertionSort sorter = new BufferInsertionSort();
+        sorter.sort(IntBuffer.wrap(values.clone()));
+
+        InsertionSort arraySorter = new InsertionSort();
+        arraySorter.adaptiveInsertionSort(values.clone());
+        assertEquals(arraySorter.getMetrics().getShifts(), sorter.getMetrics().getShifts());
+        assertTrue(sorter.getMetrics().getComparisons() > 0);
+        assertTrue(sorter.getMetrics().getExecutionTimeNanos() >= 0);
+    }
+
+    @Test
+    @DisplayName("Test null, read-only and misaligned buffers")
+    void testArguments() {
+        BufferInsertionSort sorter = new BufferInsertionSort();
+        assertDoesNotThrow(() -> sorter.sort((IntBuffer) null));
+        assertDoesNotThrow(() -> sorter.sortInts(null, ByteOrder.BIG_ENDIAN));
+
+        IntBuffer readOnly = IntBuffer.wrap(new int[]{2, 1}).asReadOnlyBuffer();
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(readOnly));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sortInts(ByteBuffer.allocate(6), ByteOrder.BIG_ENDIAN));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sortLongs(ByteBuffer.allocate(12), ByteOrder.BIG_ENDIAN));
+    }
+
+    private static int[] toArray(IntBuffer buffer) {
+        int[] result = new int[buffer.limit() - buffer.position()];
+        buffer.get(buffer.position(), result);
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ConcurrentInsertionSort and ConcurrentSortMetrics
+ */
+class ConcurrentInsertionSortTest {
+
+    private static int[] reversed(int n) {
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = n - i;
+        }
+        return arr;
+    }
+
+    @Test
+    @DisplayName("Test shared sorter totals are exact under concurrent load")
+    void testConcurrentTotals() throws Exception {
+        ConcurrentInsertionSort sorter = new ConcurrentInsertionSort();
+        int threads = 4;
+        int sortsPerThread = 200;
+        int n = 100;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    long shifts = 0;
+                    for (int i = 0; i < sortsPerThread; i++) {
+                        int[] arr = reversed(n);
+                        sorter.sort(arr);
+                        assertTrue(InsertionSort.isSorted(arr));
+                        shifts += sorter.getLastMetrics().getShifts();
+                    }
+                    return shifts;
+                }));
+            }
+            for (Future<Long> future : futures) {
+                // Per-thread last metrics are never polluted by other threads
+                assertEquals((long) sortsPerThread * n * (n - 1) / 2, future.get().longValue());
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        ConcurrentSortMetrics totals = sorter.getMetrics();
+        assertEquals(threads * sortsPerThread, totals.getSortCount());
+        assertEquals((long) threads * sortsPerThread * n * (n - 1) / 2, totals.getShifts());
+        assertEquals(totals.getShifts(), totals.getComparisons());
+    }
+
+    @Test
+    @DisplayName("Test snapshot, snapshotAndReset and trivial inputs")
+    void testSnapshot() {
+        ConcurrentInsertionSort sorter = new ConcurrentInsertionSort();
+        sorter.binaryInsertionSort(reversed(10));
+        sorter.sort(reversed(10));
+        sorter.sort(new int[]{1});
+        sorter.adaptiveInsertionSort(new Integer[]{3, 1, 2}, Integer::compare);
+
+        ConcurrentSortMetrics totals = sorter.getMetrics();
+        assertEquals(4, totals.getSortCount());
+        assertEquals(45 + 45 + 2, totals.getShifts());
+        assertEquals(2, sorter.getLastMetrics().getShifts());
+        assertTrue(totals.getComparatorInvocations() > 0);
+
+        ConcurrentSortMetrics.IntervalSnapshot interval = totals.snapshotAndReset();
+        SortMetrics snapshot = interval.getTotals();
+        assertEquals(92, snapshot.getShifts());
+        assertEquals(4, interval.getSortCount());
+        assertEquals(92 / 4, interval.getAverage().getShifts());
+        assertEquals(0, totals.getTotalExecutionTimeNanos());
+        assertEquals(0, totals.getSortCount());
+        assertEquals(0, totals.snapshot().getShifts());
+        assertTrue(snapshot.getExecutionTimeNanos() > 0);
+
+        ConcurrentSortMetrics.IntervalSnapshot empty = totals.snapshotAndReset();
+        assertEquals(0, empty.getSortCount());
+        assertEquals(0, empty.getAverage().getShifts());
+    }
+}
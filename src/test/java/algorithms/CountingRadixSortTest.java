@@ -0,0 +1,140 @@
+package algorithms;
+
+import data.Distribution;
+import data.InputGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for CountingRadixSort and InsertionSort.radixSort
+ */
+class CountingRadixSortTest {
+
+    // Correctness Tests
+
+    @Test
+    @DisplayName("Test every distribution and size, with and without metrics")
+    void testDistributions() {
+        InputGenerator generator = new InputGenerator(25L);
+        InsertionSort counted = new InsertionSort();
+        InsertionSort fast = new InsertionSort(false);
+        for (Distribution distribution : Distribution.values()) {
+            for (int n : new int[]{0, 1, 2, 100, 5000, CountingRadixSort.LARGE_DIGIT_THRESHOLD + 1}) {
+                int[] source = generator.generate(distribution, n);
+                int[] expected = source.clone();
+                Arrays.sort(expected);
+
+                int[] a = source.clone();
+                counted.radixSort(a);
+                assertArrayEquals(expected, a, distribution + " n=" + n);
+
+                int[] b = source.clone();
+                fast.radixSort(b);
+                assertArrayEquals(expected, b, distribution + " n=" + n);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test negative values, full int range and a single repeated value")
+    void testExtremeRanges() {
+        Random rand = new Random(5);
+        InsertionSort sorter = new InsertionSort(false);
+        for (int n : new int[]{50, 3000, 100_000}) {
+            int[][] inputs = {
+                    rand.ints(n).toArray(),
+                    rand.ints(n, -5, 5).toArray(),
+                    rand.ints(n, Integer.MIN_VALUE, Integer.MIN_VALUE + 1000).toArray(),
+                    rand.ints(n, Integer.MAX_VALUE - 3 * n, Integer.MAX_VALUE).toArray(),
+            };
+            for (int[] input : inputs) {
+                input[0] = Integer.MIN_VALUE;
+                input[n - 1] = Integer.MAX_VALUE;
+            }
+            int[] constant = new int[n];
+            Arrays.fill(constant, -7);
+
+            for (int[] input : inputs) {
+                int[] expected = input.clone();
+                Arrays.sort(expected);
+                sorter.radixSort(input);
+                assertArrayEquals(expected, input);
+            }
+            sorter.radixSort(constant);
+            assertTrue(Arrays.stream(constant).allMatch(v -> v == -7));
+        }
+    }
+
+    @Test
+    @DisplayName("Test range sort leaves elements outside the range untouched")
+    void testRange() {
+        int[] arr = {9, 8, 7, -6, 5, 400_000, 3, 2, 1, 0};
+        new InsertionSort().radixSort(arr, 2, 8);
+        assertArrayEquals(new int[]{9, 8, -6, 2, 3, 5, 7, 400_000, 1, 0}, arr);
+        assertThrows(IllegalArgumentException.class, () -> new InsertionSort().radixSort(arr, 5, 4));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> new InsertionSort().radixSort(arr, 0, 11));
+    }
+
+    // Dispatch and Metrics Tests
+
+    @Test
+    @DisplayName("Test few unique values use counting sort: linear work, one write per element")
+    void testCountingPath() {
+        int n = 10_000;
+        int[] arr = new InputGenerator(3L).generate(Distribution.FEW_UNIQUE, n);
+        InsertionSort sorter = new InsertionSort();
+        sorter.radixSort(arr);
+
+        SortMetrics metrics = sorter.getMetrics();
+        assertTrue(InsertionSort.isSorted(arr));
+        assertTrue(metrics.getComparisons() <= 2L * n);
+        assertEquals(n, metrics.getShifts());
+    }
+
+    @Test
+    @DisplayName("Test wide ranges use radix passes and skip constant digits")
+    void testRadixPath() {
+        int n = 1000;
+        Random rand = new Random(9);
+        InsertionSort sorter = new InsertionSort();
+
+        // 16 significant bits -> two 8-bit passes
+        int[] narrow = rand.ints(n, 0, 1 << 16).toArray();
+        narrow[0] = 0;
+        narrow[1] = (1 << 16) - 1;
+        sorter.radixSort(narrow);
+        assertEquals(2L * n, sorter.getMetrics().getShifts());
+
+        // Only the top byte varies: three passes are skipped, the result is copied back
+        int[] topByte = new int[n];
+        for (int i = 0; i < n; i++) {
+            topByte[i] = rand.nextInt(256) << 24;
+        }
+        topByte[0] = 0;
+        topByte[1] = 255 << 24;
+        int[] expected = topByte.clone();
+        Arrays.sort(expected);
+        sorter.radixSort(topByte);
+        assertArrayEquals(expected, topByte);
+        assertEquals(2L * n, sorter.getMetrics().getShifts());
+    }
+
+    @Test
+    @DisplayName("Test buffers are reused across calls of different sizes")
+    void testBufferReuse() {
+        CountingRadixSort radix = new CountingRadixSort();
+        Random rand = new Random(11);
+        for (int n : new int[]{100_000, 10, 70_000, 3}) {
+            int[] arr = rand.ints(n).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            radix.sort(arr, 0, n, null);
+            assertArrayEquals(expected, arr);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ExternalIntSort and its loser-tree merge
+ */
+class ExternalIntSortTest {
+
+    @TempDir
+    Path dir;
+
+    private static void writeInts(Path file, int[] values, ByteOrder order) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(order);
+        buffer.asIntBuffer().put(values);
+        Files.write(file, buffer.array());
+    }
+
+    private static int[] readInts(Path file, ByteOrder order) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(order);
+        int[] values = new int[buffer.remaining() / Integer.BYTES];
+        buffer.asIntBuffer().get(values);
+        return values;
+    }
+
+    private static int[] randomInts(long seed, int size) {
+        Random rand = new Random(seed);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = rand.nextInt();
+        }
+        return values;
+    }
+
+    private long tempFileCount() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(f -> f.getFileName().toString().startsWith("run-")).count();
+        }
+    }
+
+    @Test
+    @DisplayName("Test multi-pass external sort matches Arrays.sort")
+    void testMultiPassSort() throws IOException {
+        int[] values = randomInts(1, 25_000);
+        Path input = dir.resolve("input.bin");
+        Path output = dir.resolve("output.bin");
+        writeInts(input, values, ByteOrder.BIG_ENDIAN);
+
+        // 25 runs with fan-in 3: two intermediate passes and a final merge
+        ExternalIntSort sorter = new ExternalIntSort(1000, 3);
+        sorter.setIoBufferBytes(256);
+        ExternalSortMetrics metrics = sorter.sort(input, output);
+
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, readInts(output, ByteOrder.BIG_ENDIAN));
+
+        assertEquals(25, metrics.getRunsCreated());
+        assertEquals(3, metrics.getMergePasses());
+        assertEquals(values.length, metrics.getTotalElements());
+        assertEquals(values.length, metrics.getElementsSorted());
+        assertEquals(ExternalSortMetrics.Stage.DONE, metrics.getStage());
+        assertEquals(0, tempFileCount());
+    }
+
+    @Test
+    @DisplayName("Test little-endian files and a partial last chunk")
+    void testLittleEndian() throws IOException {
+        int[] values = randomInts(2, 10_007);
+        values[0] = Integer.MAX_VALUE;
+        values[1] = Integer.MIN_VALUE;
+        Path input = dir.resolve("input.bin");
+        Path output = dir.resolve("output.bin");
+        writeInts(input, values, ByteOrder.LITTLE_ENDIAN);
+
+        ExternalIntSort sorter = new ExternalIntSort(4096, 8);
+        sorter.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        sorter.sort(input, output);
+
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, readInts(output, ByteOrder.LITTLE_ENDIAN));
+    }
+
+    @Test
+    @DisplayName("Test empty input and single-chunk input")
+    void testSmallInputs() throws IOException {
+        Path input = dir.resolve("input.bin");
+        Path output = dir.resolve("output.bin");
+
+        writeInts(input, new int[0], ByteOrder.BIG_ENDIAN);
+        new ExternalIntSort(16, 2).sort(input, output);
+        assertEquals(0, Files.size(output));
+
+        writeInts(input, new int[]{3, -1, 2}, ByteOrder.BIG_ENDIAN);
+        ExternalSortMetrics metrics = new ExternalIntSort(16, 2).sort(input, output);
+        assertArrayEquals(new int[]{-1, 2, 3}, readInts(output, ByteOrder.BIG_ENDIAN));
+        assertEquals(1, metrics.getRunsCreated());
+        assertEquals(0, metrics.getMergePasses());
+    }
+
+    @Test
+    @DisplayName("Test progress listener and invalid input")
+    void testProgressAndErrors() throws IOException {
+        Path input = dir.resolve("input.bin");
+        Path output = dir.resolve("output.bin");
+        writeInts(input, randomInts(3, 5000), ByteOrder.BIG_ENDIAN);
+
+        List<Long> progress = new ArrayList<>();
+        ExternalIntSort sorter = new ExternalIntSort(1000, 2);
+        sorter.setProgressListener(m -> progress.add(m.getElementsSorted()));
+        sorter.sort(input, output);
+        assertEquals(Arrays.asList(1000L, 2000L, 3000L, 4000L, 5000L), progress.subList(0, 5));
+
+        Files.write(input, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> sorter.sort(input, output));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalIntSort(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalIntSort(10, 1));
+    }
+
+    @Test
+    @DisplayName("Test loser tree yields keys in order and is stable")
+    void testLoserTree() {
+        long[] heads = {5, 1, LoserTree.EXHAUSTED, 1, 3};
+        LoserTree tree = new LoserTree(heads);
+
+        assertEquals(1, tree.winner());
+        assertEquals(1, tree.winnerKey());
+        tree.replaceWinner(LoserTree.EXHAUSTED);
+        assertEquals(3, tree.winner()); // equal key from the later source comes second
+        tree.replaceWinner(LoserTree.EXHAUSTED);
+        assertEquals(3, tree.winnerKey());
+        tree.replaceWinner(LoserTree.EXHAUSTED);
+        assertEquals(5, tree.winnerKey());
+        tree.replaceWinner(LoserTree.EXHAUSTED);
+        assertEquals(LoserTree.EXHAUSTED, tree.winnerKey());
+    }
+}
@@ -30,7 +30,7 @@ class InsertionSortTest {
     @Test
     @DisplayName("Test null array handling")
     void testNullArray() {
-        assertDoesNotThrow(() -> sorter.sort(null));
+        assertDoesNotThrow(() -> sorter.sort((int[]) null));
     }
 
     @Test
@@ -127,6 +127,41 @@ class InsertionSortTest {
         assertArrayEquals(new int[]{0, 1, 2, 3, 7, 8, 10}, arr);
     }
 
+    @Test
+    @DisplayName("Test block-shift binary insertion sort matches binary insertion sort and its counters")
+    void testBlockBinaryInsertionSort() {
+        Random rand = new Random(19);
+        int[][] inputs = {
+                generateRandomArray(rand, 300),
+                rand.ints(300, 0, 8).toArray(),
+                {9, 8, 7, 6, 5, 4, 3, 2, 1, 0, -1, -2, -3, -4, -5, -6, -7, -8},
+                {1, 2, 3, 4, 5}
+        };
+        InsertionSort block = new InsertionSort();
+        for (int[] input : inputs) {
+            int[] expected = input.clone();
+            sorter.binaryInsertionSort(expected);
+            int[] arr = input.clone();
+            block.blockBinaryInsertionSort(arr);
+
+            assertArrayEquals(expected, arr);
+            assertEquals(sorter.getMetrics().getComparisons(), block.getMetrics().getComparisons());
+            assertEquals(sorter.getMetrics().getShifts(), block.getMetrics().getShifts());
+            assertEquals(sorter.getMetrics().getArrayAccesses(), block.getMetrics().getArrayAccesses());
+        }
+
+        int[] arr = {9, 5, 4, 3, 2, 1, 0};
+        block.blockBinaryInsertionSort(arr, 1, 6);
+        assertArrayEquals(new int[]{9, 1, 2, 3, 4, 5, 0}, arr);
+
+        int[] source = generateRandomArray(rand, 100);
+        int[] expected = source.clone();
+        Arrays.sort(expected);
+        int[] fast = source.clone();
+        new InsertionSort(false).blockBinaryInsertionSort(fast);
+        assertArrayEquals(expected, fast);
+    }
+
     @Test
     @DisplayName("Test sentinel insertion sort")
     void testSentinelInsertionSort() {
@@ -203,6 +238,290 @@ class InsertionSortTest {
         assertTrue(metrics.getExecutionTimeNanos() > 0);
     }
 
+    // Hybrid Run-aware Sort Tests
+
+    @ParameterizedTest
+    @MethodSource("hybridInputProvider")
+    @DisplayName("Test hybrid sort matches Arrays.sort")
+    void testHybridSort(int[] arr) {
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        sorter.hybridSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    static Stream<int[]> hybridInputProvider() {
+        Random rand = new Random(99);
+        int[] reverse = new int[5000];
+        for (int i = 0; i < reverse.length; i++) {
+            reverse[i] = reverse.length - i;
+        }
+        int[] sawtooth = new int[5000];
+        for (int i = 0; i < sawtooth.length; i++) {
+            sawtooth[i] = (i / 700) % 2 == 0 ? i % 700 : 700 - i % 700;
+        }
+        int[] fewUnique = new int[3000];
+        for (int i = 0; i < fewUnique.length; i++) {
+            fewUnique[i] = rand.nextInt(4);
+        }
+        return Stream.of(
+                generateRandomArray(rand, 63),
+                generateRandomArray(rand, 64),
+                generateRandomArray(rand, 1000),
+                generateRandomArray(rand, 20000),
+                reverse,
+                sawtooth,
+                fewUnique
+        );
+    }
+
+    @Test
+    @DisplayName("Test hybrid sort on large reverse input is sub-quadratic")
+    void testHybridSortLargeReverse() {
+        int n = 100000;
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = n - i;
+        }
+        sorter.hybridSort(arr);
+        assertTrue(InsertionSort.isSorted(arr));
+        assertTrue(sorter.getMetrics().getComparisons() < 2L * n);
+    }
+
+    @Test
+    @DisplayName("Test hybrid sort stays near-linear on nearly sorted data")
+    void testHybridSortNearlySorted() {
+        int n = 50000;
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = i;
+        }
+        Random rand = new Random(5);
+        for (int i = 0; i < 20; i++) {
+            int idx = rand.nextInt(n - 1);
+            int temp = arr[idx];
+            arr[idx] = arr[idx + 1];
+            arr[idx + 1] = temp;
+        }
+
+        sorter.hybridSort(arr);
+        assertTrue(InsertionSort.isSorted(arr));
+        assertTrue(sorter.getMetrics().getComparisons() < 3L * n);
+    }
+
+    // Range and Argsort Tests
+
+    @Test
+    @DisplayName("Test range sorts leave the outside untouched")
+    void testRangeSorts() {
+        int[] source = {9, 8, 7, 3, 1, 2, 6, 5, 4, 0};
+        int[] expected = {9, 8, 7, 1, 2, 3, 5, 6, 4, 0};
+
+        int[] arr = source.clone();
+        sorter.sort(arr, 3, 8);
+        assertArrayEquals(expected, arr);
+
+        arr = source.clone();
+        sorter.binaryInsertionSort(arr, 3, 8);
+        assertArrayEquals(expected, arr);
+
+        arr = source.clone();
+        sorter.sentinelInsertionSort(arr, 3, 8);
+        assertArrayEquals(expected, arr);
+
+        arr = source.clone();
+        sorter.adaptiveInsertionSort(arr, 3, 8);
+        assertArrayEquals(expected, arr);
+
+        arr = source.clone();
+        new InsertionSort(false).sentinelInsertionSort(arr, 3, 8);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    @DisplayName("Test range bounds are validated")
+    void testRangeBounds() {
+        int[] arr = {3, 2, 1};
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(arr, 2, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(arr, -1, 2));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.binaryInsertionSort(arr, 0, 4));
+        assertDoesNotThrow(() -> sorter.adaptiveInsertionSort(arr, 1, 1));
+        assertArrayEquals(new int[]{3, 2, 1}, arr);
+    }
+
+    @Test
+    @DisplayName("Test argsort returns a stable permutation and keeps data")
+    void testArgsort() {
+        int[] arr = {5, 1, 4, 1, 3, 5};
+        int[] idx = sorter.argsort(arr);
+
+        assertArrayEquals(new int[]{5, 1, 4, 1, 3, 5}, arr);
+        assertArrayEquals(new int[]{1, 3, 4, 2, 0, 5}, idx);
+
+        long[] longs = {30L, -2L, Long.MAX_VALUE, 7L};
+        assertArrayEquals(new int[]{1, 3, 0, 2}, sorter.argsort(longs));
+    }
+
+    @Test
+    @DisplayName("Test range argsort returns indices into the array")
+    void testArgsortRange() {
+        int[] arr = {100, 7, 3, 9, 1, -100};
+        int[] idx = sorter.argsort(arr, 1, 5);
+        assertArrayEquals(new int[]{4, 2, 1, 3}, idx);
+
+        Random rand = new Random(77);
+        int[] big = generateRandomArray(rand, 500);
+        int[] perm = sorter.argsort(big);
+        for (int i = 1; i < perm.length; i++) {
+            assertTrue(big[perm[i - 1]] <= big[perm[i]]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test argsort of a null array returns an empty permutation")
+    void testArgsortNull() {
+        assertEquals(0, sorter.argsort((int[]) null).length);
+        assertEquals(0, sorter.argsort((long[]) null).length);
+        assertEquals(0, sorter.argsort((int[]) null, 0, 0).length);
+        assertEquals(0, sorter.argsort((long[]) null, 0, 0).length);
+    }
+
+    // Partial Sort Tests
+
+    @Test
+    @DisplayName("Test partial sort puts the k smallest first in order and keeps all elements")
+    void testPartialSort() {
+        Random rand = new Random(22);
+        for (boolean metricsEnabled : new boolean[]{true, false}) {
+            InsertionSort partial = new InsertionSort(metricsEnabled);
+            for (int k : new int[]{0, 1, 7, 100, 1000}) {
+                int[] arr = rand.ints(1000, 0, 300).toArray();
+                int[] expected = arr.clone();
+                Arrays.sort(expected);
+
+                partial.partialSort(arr, k);
+                assertArrayEquals(Arrays.copyOf(expected, k), Arrays.copyOf(arr, k), "k=" + k);
+
+                int[] all = arr.clone();
+                Arrays.sort(all);
+                assertArrayEquals(expected, all, "k=" + k);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> sorter.partialSort(new int[3], 4));
+        assertThrows(IllegalArgumentException.class, () -> FastInsertionSort.partialSort(new int[3], -1));
+    }
+
+    @Test
+    @DisplayName("Test partial sort rejects elements above the window with one comparison each")
+    void testPartialSortRejection() {
+        int[] arr = new int[10_000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = i;
+        }
+        sorter.partialSort(arr, 10);
+        assertEquals(0, sorter.getMetrics().getShifts());
+        assertTrue(sorter.getMetrics().getComparisons() < arr.length + 50);
+    }
+
+    // Metrics-off Fast Path Tests
+
+    @Test
+    @DisplayName("Test metrics-off instance matches instrumented results")
+    void testMetricsOffInstance() {
+        InsertionSort fast = new InsertionSort(false);
+        Random rand = new Random(7);
+        int[] source = generateRandomArray(rand, 200);
+
+        int[] expected = source.clone();
+        Arrays.sort(expected);
+
+        int[] a = source.clone();
+        fast.sort(a);
+        assertArrayEquals(expected, a);
+
+        a = source.clone();
+        fast.binaryInsertionSort(a);
+        assertArrayEquals(expected, a);
+
+        a = source.clone();
+        fast.sentinelInsertionSort(a);
+        assertArrayEquals(expected, a);
+
+        a = source.clone();
+        fast.adaptiveInsertionSort(a);
+        assertArrayEquals(expected, a);
+
+        assertEquals(0, fast.getMetrics().getComparisons());
+        assertEquals(0, fast.getMetrics().getShifts());
+    }
+
+    @Test
+    @DisplayName("Test metrics can be toggled per instance")
+    void testMetricsToggle() {
+        int[] arr = {5, 4, 3, 2, 1};
+        sorter.setMetricsEnabled(false);
+        sorter.sort(arr);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, arr);
+        assertEquals(0, sorter.getMetrics().getShifts());
+
+        arr = new int[]{5, 4, 3, 2, 1};
+        sorter.setMetricsEnabled(true);
+        sorter.sort(arr);
+        assertTrue(sorter.getMetrics().getShifts() > 0);
+    }
+
+    @Test
+    @DisplayName("Test static uninstrumented kernels")
+    void testFastInsertionSortKernels() {
+        assertDoesNotThrow(() -> FastInsertionSort.sort((int[]) null));
+        int[] arr = {3, -1, 2, 2, 0};
+        FastInsertionSort.adaptiveInsertionSort(arr);
+        assertArrayEquals(new int[]{-1, 0, 2, 2, 3}, arr);
+    }
+
+    // SortMetrics Arithmetic Tests
+
+    @Test
+    @DisplayName("Test SortMetrics add, divide and merge")
+    void testMetricsArithmetic() {
+        sorter.sort(new int[]{5, 4, 3, 2, 1});
+        SortMetrics first = SortMetrics.merge(sorter.getMetrics());
+        sorter.sort(new int[]{2, 1, 3, 4, 5});
+        SortMetrics second = SortMetrics.merge(sorter.getMetrics());
+
+        SortMetrics total = SortMetrics.merge(first, second);
+        assertEquals(11, total.getShifts());
+        assertEquals(first.getComparisons() + second.getComparisons(), total.getComparisons());
+        assertEquals(first.getExecutionTimeNanos() + second.getExecutionTimeNanos(),
+                total.getExecutionTimeNanos());
+        assertEquals(10, first.getShifts()); // merge leaves its inputs untouched
+
+        total.add(second);
+        total.divide(3);
+        assertEquals(4, total.getShifts());
+        assertThrows(IllegalArgumentException.class, () -> total.divide(0));
+    }
+
+    @Test
+    @DisplayName("Test add on a running timer keeps the timer's own interval")
+    void testAddWhileTimerRunning() throws InterruptedException {
+        SortMetrics part = new SortMetrics();
+        part.setExecutionTimeNanos(5_000_000_000L);
+
+        SortMetrics running = new SortMetrics();
+        running.startTimer();
+        running.add(part);
+        assertEquals(5_000_000_000L, running.getExecutionTimeNanos());
+        Thread.sleep(1);
+        running.stopTimer();
+
+        long elapsed = running.getExecutionTimeNanos() - 5_000_000_000L;
+        assertTrue(elapsed > 0 && elapsed < 5_000_000_000L, "elapsed: " + elapsed);
+
+        running.stopTimer(); // second stop is a no-op
+        assertEquals(5_000_000_000L + elapsed, running.getExecutionTimeNanos());
+    }
+
     // Cross-validation with Java's built-in sort
 
     @Test
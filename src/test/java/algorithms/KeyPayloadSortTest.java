@@ -0,0 +1,195 @@
+package algorithms;
+
+import data.Distribution;
+import data.InputGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stability suite for the key/payload overloads of InsertionSort
+ * The payload is the original index of each key, so the output is stable
+ * exactly when equal keys come out with increasing payloads.
+ */
+class KeyPayloadSortTest {
+
+    /**
+     * Every key/payload variant, for both payload types
+     */
+    enum Variant {
+        STANDARD {
+            void sort(InsertionSort s, int[] keys, int[] payload) {
+                s.sort(keys, payload);
+            }
+
+            void sort(InsertionSort s, int[] keys, long[] payload) {
+                s.sort(keys, payload);
+            }
+        },
+        BINARY {
+            void sort(InsertionSort s, int[] keys, int[] payload) {
+                s.binaryInsertionSort(keys, payload);
+            }
+
+            void sort(InsertionSort s, int[] keys, long[] payload) {
+                s.binaryInsertionSort(keys, payload);
+            }
+        },
+        SENTINEL {
+            void sort(InsertionSort s, int[] keys, int[] payload) {
+                s.sentinelInsertionSort(keys, payload);
+            }
+
+            void sort(InsertionSort s, int[] keys, long[] payload) {
+                s.sentinelInsertionSort(keys, payload);
+            }
+        },
+        ADAPTIVE {
+            void sort(InsertionSort s, int[] keys, int[] payload) {
+                s.adaptiveInsertionSort(keys, payload);
+            }
+
+            void sort(InsertionSort s, int[] keys, long[] payload) {
+                s.adaptiveInsertionSort(keys, payload);
+            }
+        };
+
+        abstract void sort(InsertionSort s, int[] keys, int[] payload);
+
+        abstract void sort(InsertionSort s, int[] keys, long[] payload);
+    }
+
+    // Stability Tests
+
+    @ParameterizedTest
+    @EnumSource(Variant.class)
+    @DisplayName("Test equal keys keep their order (int payload, metrics on and off)")
+    void testStableIntPayload(Variant variant) {
+        Random rand = new Random(20);
+        for (boolean metricsEnabled : new boolean[]{true, false}) {
+            InsertionSort sorter = new InsertionSort(metricsEnabled);
+            for (int n : new int[]{2, 3, 17, 100, 1000}) {
+                for (int range : new int[]{1, 2, 5, n}) {
+                    int[] keys = rand.ints(n, 0, range).toArray();
+                    int[] original = keys.clone();
+                    int[] payload = identity(n);
+
+                    variant.sort(sorter, keys, payload);
+                    assertStable(original, keys, i -> payload[i], variant + ", n=" + n + ", range=" + range);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Variant.class)
+    @DisplayName("Test equal keys keep their order (long payload, metrics on and off)")
+    void testStableLongPayload(Variant variant) {
+        Random rand = new Random(21);
+        for (boolean metricsEnabled : new boolean[]{true, false}) {
+            InsertionSort sorter = new InsertionSort(metricsEnabled);
+            for (int n : new int[]{2, 3, 17, 100, 1000}) {
+                int[] keys = rand.ints(n, -3, 3).toArray();
+                int[] original = keys.clone();
+                long[] payload = new long[n];
+                for (int i = 0; i < n; i++) {
+                    payload[i] = i;
+                }
+
+                variant.sort(sorter, keys, payload);
+                assertStable(original, keys, i -> (int) payload[i], variant + ", n=" + n);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Variant.class)
+    @DisplayName("Test stability on every input distribution")
+    void testStableDistributions(Variant variant) {
+        InputGenerator generator = new InputGenerator(42L);
+        InsertionSort sorter = new InsertionSort();
+        for (Distribution distribution : Distribution.values()) {
+            int[] keys = generator.generate(distribution, 500);
+            int[] original = keys.clone();
+            int[] payload = identity(keys.length);
+
+            variant.sort(sorter, keys, payload);
+            assertStable(original, keys, i -> payload[i], variant + ", " + distribution);
+        }
+    }
+
+    @Test
+    @DisplayName("Test sentinel rotation keeps the first minimum first")
+    void testSentinelRepeatedMinimum() {
+        int[] keys = {5, 1, 7, 1, 1, 3};
+        int[] payload = identity(keys.length);
+        new InsertionSort().sentinelInsertionSort(keys, payload);
+
+        assertArrayEquals(new int[]{1, 1, 1, 3, 5, 7}, keys);
+        assertArrayEquals(new int[]{1, 3, 4, 5, 0, 2}, payload);
+    }
+
+    // Metrics and Argument Tests
+
+    @Test
+    @DisplayName("Test pair metrics count key comparisons and pair shifts")
+    void testPairMetrics() {
+        InsertionSort sorter = new InsertionSort();
+        int[] keys = {5, 4, 3, 2, 1};
+        sorter.binaryInsertionSort(keys, identity(5));
+
+        assertEquals(10, sorter.getMetrics().getShifts());
+        assertTrue(sorter.getMetrics().getComparisons() > 0);
+
+        sorter.adaptiveInsertionSort(keys, identity(5));
+        assertEquals(0, sorter.getMetrics().getShifts());
+        assertEquals(4, sorter.getMetrics().getComparisons());
+    }
+
+    @Test
+    @DisplayName("Test null keys, trivial arrays and mismatched payloads")
+    void testArguments() {
+        InsertionSort sorter = new InsertionSort();
+        assertDoesNotThrow(() -> sorter.sort(null, (int[]) null));
+        assertDoesNotThrow(() -> sorter.sort(new int[]{1}, new long[]{9}));
+
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(new int[]{2, 1}, new int[1]));
+        assertThrows(IllegalArgumentException.class, () -> sorter.binaryInsertionSort(new int[]{2, 1}, (long[]) null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new InsertionSort(false).adaptiveInsertionSort(new int[]{2, 1}, new int[3]));
+    }
+
+    private static int[] identity(int n) {
+        int[] payload = new int[n];
+        for (int i = 0; i < n; i++) {
+            payload[i] = i;
+        }
+        return payload;
+    }
+
+    /**
+     * Keys sorted, every pair intact, and equal keys in original index order
+     */
+    private static void assertStable(int[] original, int[] keys, IntUnaryOperator payload,
+                                     String message) {
+        boolean[] seen = new boolean[original.length];
+        for (int i = 0; i < keys.length; i++) {
+            int index = payload.applyAsInt(i);
+            assertFalse(seen[index], message + ": payload duplicated");
+            seen[index] = true;
+            assertEquals(original[index], keys[i], message + ": pair broken at " + i);
+            if (i > 0) {
+                assertTrue(keys[i - 1] <= keys[i], message + ": not sorted at " + i);
+                if (keys[i - 1] == keys[i]) {
+                    assertTrue(payload.applyAsInt(i - 1) < index, message + ": unstable at " + i);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for Comparator, Comparable and key-extractor object sorts
+ */
+class ObjectInsertionSortTest {
+
+    private static final Comparator<Item> BY_KEY = Comparator.comparingInt(item -> item.key);
+
+    private InsertionSort sorter;
+
+    @BeforeEach
+    void setUp() {
+        sorter = new InsertionSort();
+    }
+
+    /**
+     * Record with a sort key and its original position (to check stability)
+     */
+    static final class Item {
+        final int key;
+        final int order;
+
+        Item(int key, int order) {
+            this.key = key;
+            this.order = order;
+        }
+    }
+
+    private static Item[] randomItems(long seed, int size, int keyRange) {
+        Random rand = new Random(seed);
+        Item[] items = new Item[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = new Item(rand.nextInt(keyRange), i);
+        }
+        return items;
+    }
+
+    private static void assertStablySorted(Item[] items) {
+        for (int i = 1; i < items.length; i++) {
+            assertTrue(items[i - 1].key <= items[i].key, "not sorted at " + i);
+            if (items[i - 1].key == items[i].key) {
+                assertTrue(items[i - 1].order < items[i].order, "not stable at " + i);
+            }
+        }
+    }
+
+    // Edge Cases
+
+    @Test
+    @DisplayName("Test null and single element arrays")
+    void testEdgeCases() {
+        assertDoesNotThrow(() -> sorter.sort((Item[]) null, BY_KEY));
+        assertDoesNotThrow(() -> sorter.sortByKey((Item[]) null, item -> item.key));
+
+        Item[] single = {new Item(1, 0)};
+        sorter.binaryInsertionSort(single, BY_KEY);
+        assertEquals(1, single[0].key);
+    }
+
+    // Comparator Variants
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 10, 200})
+    @DisplayName("Test every comparator variant is sorted and stable")
+    void testComparatorVariantsStable(int size) {
+        Item[] items = randomItems(17, size, 8);
+
+        Item[] a = items.clone();
+        sorter.sort(a, BY_KEY);
+        assertStablySorted(a);
+
+        a = items.clone();
+        sorter.binaryInsertionSort(a, BY_KEY);
+        assertStablySorted(a);
+
+        a = items.clone();
+        sorter.sentinelInsertionSort(a, BY_KEY);
+        assertStablySorted(a);
+
+        a = items.clone();
+        sorter.adaptiveInsertionSort(a, BY_KEY);
+        assertStablySorted(a);
+    }
+
+    @Test
+    @DisplayName("Test metrics-off comparator variants")
+    void testComparatorVariantsMetricsOff() {
+        InsertionSort fast = new InsertionSort(false);
+        Item[] items = randomItems(23, 150, 10);
+
+        Item[] a = items.clone();
+        fast.sort(a, BY_KEY);
+        assertStablySorted(a);
+
+        a = items.clone();
+        fast.binaryInsertionSort(a, BY_KEY);
+        assertStablySorted(a);
+
+        a = items.clone();
+        fast.sentinelInsertionSort(a, BY_KEY);
+        assertStablySorted(a);
+
+        a = items.clone();
+        fast.adaptiveInsertionSort(a, BY_KEY);
+        assertStablySorted(a);
+
+        assertEquals(0, fast.getMetrics().getComparatorInvocations());
+    }
+
+    @Test
+    @DisplayName("Test comparator range overloads")
+    void testComparatorRange() {
+        String[] words = {"z", "d", "c", "b", "a", "y"};
+        sorter.sentinelInsertionSort(words, 1, 5, Comparator.naturalOrder());
+        assertArrayEquals(new String[]{"z", "a", "b", "c", "d", "y"}, words);
+
+        sorter.binaryInsertionSort(words, 0, 6, Comparator.reverseOrder());
+        assertArrayEquals(new String[]{"z", "y", "d", "c", "b", "a"}, words);
+    }
+
+    @Test
+    @DisplayName("Test Comparable natural ordering")
+    void testComparable() {
+        String[] words = {"pear", "apple", "fig", "banana", "apple"};
+        sorter.binaryInsertionSort(words);
+        assertArrayEquals(new String[]{"apple", "apple", "banana", "fig", "pear"}, words);
+
+        Integer[] boxed = {5, 3, 9, -1, 3};
+        sorter.sentinelInsertionSort(boxed);
+        assertArrayEquals(new Integer[]{-1, 3, 3, 5, 9}, boxed);
+    }
+
+    @Test
+    @DisplayName("Test List overloads")
+    void testListSort() {
+        List<String> list = new ArrayList<>(Arrays.asList("d", "b", "a", "c"));
+        sorter.adaptiveInsertionSort(list, Comparator.reverseOrder());
+        assertEquals(Arrays.asList("d", "c", "b", "a"), list);
+
+        sorter.sortByKey(list, s -> s.charAt(0));
+        assertEquals(Arrays.asList("a", "b", "c", "d"), list);
+    }
+
+    // Comparator Metrics
+
+    @Test
+    @DisplayName("Test comparator invocations are counted")
+    void testComparatorInvocationsCounted() {
+        int[] calls = {0};
+        Comparator<Item> counting = (x, y) -> {
+            calls[0]++;
+            return Integer.compare(x.key, y.key);
+        };
+
+        Item[] items = randomItems(5, 100, 1000);
+        sorter.binaryInsertionSort(items, counting);
+
+        SortMetrics metrics = sorter.getMetrics();
+        assertEquals(calls[0], metrics.getComparatorInvocations());
+        assertEquals(calls[0], metrics.getComparisons());
+
+        // Binary insertion: at most ceil(log2(i + 1)) calls for element i
+        assertTrue(calls[0] <= 100 * 7);
+    }
+
+    // Key-extractor Mode
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 50, 1000})
+    @DisplayName("Test int key mode is sorted, stable and comparator-free")
+    void testSortByIntKey(int size) {
+        Item[] items = randomItems(31, size, 20);
+        int[] extractions = {0};
+
+        sorter.sortByKey(items, item -> {
+            extractions[0]++;
+            return item.key;
+        });
+
+        assertStablySorted(items);
+        assertEquals(size, extractions[0]); // each key extracted exactly once
+        assertEquals(0, sorter.getMetrics().getComparatorInvocations());
+    }
+
+    @Test
+    @DisplayName("Test long key mode matches comparator sort")
+    void testSortByLongKey() {
+        Random rand = new Random(8);
+        Long[] values = new Long[300];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rand.nextLong();
+        }
+
+        Long[] expected = values.clone();
+        Arrays.sort(expected);
+
+        sorter.sortByLongKey(values, Long::longValue);
+        assertArrayEquals(expected, values);
+    }
+}
@@ -0,0 +1,114 @@
+package algorithms;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ParallelInsertionSort
+ */
+class ParallelInsertionSortTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Test null and tiny arrays")
+    void testEdgeCases() {
+        ParallelInsertionSort sorter = new ParallelInsertionSort();
+        assertDoesNotThrow(() -> sorter.sort(null));
+
+        int[] empty = {};
+        sorter.sort(empty);
+        assertEquals(0, empty.length);
+
+        int[] single = {3};
+        sorter.sort(single);
+        assertArrayEquals(new int[]{3}, single);
+    }
+
+    @ParameterizedTest
+    @EnumSource(InsertionVariant.class)
+    @DisplayName("Test every leaf variant matches Arrays.sort")
+    void testLeafVariants(InsertionVariant variant) {
+        ParallelInsertionSort sorter = new ParallelInsertionSort(pool, 64, variant);
+        Random rand = new Random(11);
+
+        for (int size : new int[]{63, 64, 65, 1000, 50000}) {
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = rand.nextInt(size);
+            }
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            sorter.sort(arr);
+            assertArrayEquals(expected, arr);
+        }
+    }
+
+    @Test
+    @DisplayName("Test metrics are aggregated across threads")
+    void testAggregatedMetrics() {
+        int n = 64 * 256;
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = n - i;
+        }
+
+        ParallelInsertionSort sorter = new ParallelInsertionSort(pool, 256, InsertionVariant.STANDARD);
+        sorter.sort(arr);
+        assertTrue(InsertionSort.isSorted(arr));
+
+        // Every leaf is reverse sorted: 64 leaves of 256 elements, 256*255/2 shifts each
+        SortMetrics metrics = sorter.getMetrics();
+        assertEquals(64L * 256 * 255 / 2, metrics.getShifts());
+        assertTrue(metrics.getComparisons() > metrics.getShifts());
+        assertTrue(metrics.getExecutionTimeNanos() > 0);
+    }
+
+    @Test
+    @DisplayName("Test metrics-off mode and buffer reuse")
+    void testMetricsOffAndReuse() {
+        ParallelInsertionSort sorter = new ParallelInsertionSort(pool, 128, InsertionVariant.BINARY, false);
+        Random rand = new Random(3);
+
+        for (int round = 0; round < 3; round++) {
+            int[] arr = new int[30000 - round * 10000];
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = rand.nextInt();
+            }
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            sorter.sort(arr);
+            assertArrayEquals(expected, arr);
+            assertEquals(0, sorter.getMetrics().getShifts());
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid granularity is rejected")
+    void testInvalidGranularity() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelInsertionSort(pool, 1, InsertionVariant.ADAPTIVE));
+    }
+}
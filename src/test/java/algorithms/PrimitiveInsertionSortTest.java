@@ -0,0 +1,1340 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the primitive-specialized InsertionSort overloads
+ * Mirrors InsertionSortTest for each of long, double, float, short, char and byte
+ */
+class PrimitiveInsertionSortTest {
+
+    private InsertionSort sorter;
+
+    @BeforeEach
+    void setUp() {
+        sorter = new InsertionSort();
+    }
+
+    @Nested
+    @DisplayName("long[] overloads")
+    class LongArrays {
+
+        // Edge Cases
+
+        @Test
+        @DisplayName("Test null array handling")
+        void testNullArray() {
+            assertDoesNotThrow(() -> sorter.sort((long[]) null));
+            assertDoesNotThrow(() -> sorter.binaryInsertionSort((long[]) null));
+            assertDoesNotThrow(() -> sorter.sentinelInsertionSort((long[]) null));
+            assertDoesNotThrow(() -> sorter.adaptiveInsertionSort((long[]) null));
+        }
+
+        @Test
+        @DisplayName("Test empty array")
+        void testEmptyArray() {
+            long[] arr = {};
+            sorter.sort(arr);
+            assertEquals(0, arr.length);
+        }
+
+        @Test
+        @DisplayName("Test single element")
+        void testSingleElement() {
+            long[] arr = longs(42);
+            sorter.sort(arr);
+            assertArrayEquals(longs(42), arr);
+        }
+
+        @Test
+        @DisplayName("Test already sorted array")
+        void testSortedArray() {
+            long[] arr = longs(1, 2, 3, 4, 5);
+            sorter.sort(arr);
+            assertArrayEquals(longs(1, 2, 3, 4, 5), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test reverse sorted array")
+        void testReverseSorted() {
+            long[] arr = longs(5, 4, 3, 2, 1);
+            sorter.sort(arr);
+            assertArrayEquals(longs(1, 2, 3, 4, 5), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test array with duplicates")
+        void testDuplicates() {
+            long[] arr = longs(3, 1, 4, 1, 5, 9, 2, 6, 5, 3);
+            sorter.sort(arr);
+            assertArrayEquals(longs(1, 1, 2, 3, 3, 4, 5, 5, 6, 9), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test all identical elements")
+        void testAllIdentical() {
+            long[] arr = longs(7, 7, 7, 7, 7);
+            sorter.sort(arr);
+            assertArrayEquals(longs(7, 7, 7, 7, 7), arr);
+        }
+
+        @Test
+        @DisplayName("Test nearly sorted array")
+        void testNearlySorted() {
+            long[] arr = longs(1, 2, 3, 5, 4, 6, 7, 8);
+            sorter.sort(arr);
+            assertArrayEquals(longs(1, 2, 3, 4, 5, 6, 7, 8), arr);
+        }
+
+        @Test
+        @DisplayName("Test negative numbers")
+        void testNegativeNumbers() {
+            long[] arr = longs(-5, 3, -2, 8, -10, 0);
+            sorter.sort(arr);
+            assertArrayEquals(longs(-10, -5, -2, 0, 3, 8), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        // Optimization Tests
+
+        @Test
+        @DisplayName("Test binary insertion sort")
+        void testBinaryInsertionSort() {
+            long[] arr = longs(8, 3, 1, 7, 0, 10, 2);
+            sorter.binaryInsertionSort(arr);
+            assertArrayEquals(longs(0, 1, 2, 3, 7, 8, 10), arr);
+        }
+
+        @Test
+        @DisplayName("Test sentinel insertion sort")
+        void testSentinelInsertionSort() {
+            long[] arr = longs(8, 3, 1, 7, 0, 10, 2);
+            sorter.sentinelInsertionSort(arr);
+            assertArrayEquals(longs(0, 1, 2, 3, 7, 8, 10), arr);
+        }
+
+        @Test
+        @DisplayName("Test adaptive insertion sort")
+        void testAdaptiveInsertionSort() {
+            long[] arr = longs(1, 2, 3, 4, 0, 5, 6, 7);
+            sorter.adaptiveInsertionSort(arr);
+            assertArrayEquals(longs(0, 1, 2, 3, 4, 5, 6, 7), arr);
+        }
+
+        // Performance Validation Tests
+
+        @ParameterizedTest
+        @ValueSource(ints = {10, 50, 100})
+        @DisplayName("Test random arrays with every variant")
+        void testRandomArrays(int size) {
+            Random rand = new Random(42);
+            long[] source = new long[size];
+            for (int i = 0; i < size; i++) {
+                source[i] = rand.nextLong();
+            }
+            long[] expected = source.clone();
+            Arrays.sort(expected);
+
+            long[] arr = source.clone();
+            sorter.sort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.binaryInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.sentinelInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.adaptiveInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+
+        @Test
+        @DisplayName("Test range overloads leave the outside untouched")
+        void testRangeOverloads() {
+            long[] source = longs(9, 8, 7, 3, 1, 2, 6, 5, 4, 0);
+            long[] expected = longs(9, 8, 7, 1, 2, 3, 5, 6, 4, 0);
+
+            long[] arr = source.clone();
+            sorter.sort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.binaryInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.sentinelInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.adaptiveInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(source.clone(), 2, 11));
+        }
+
+        // Metrics Tests
+
+        @Test
+        @DisplayName("Test metrics collection for best case")
+        void testMetricsBestCase() {
+            long[] arr = longs(1, 2, 3, 4, 5);
+            sorter.adaptiveInsertionSort(arr);
+
+            SortMetrics metrics = sorter.getMetrics();
+            assertTrue(metrics.getComparisons() > 0);
+            assertEquals(0, metrics.getShifts());
+        }
+
+        @Test
+        @DisplayName("Test metrics collection for worst case")
+        void testMetricsWorstCase() {
+            long[] arr = longs(5, 4, 3, 2, 1);
+            sorter.sort(arr);
+
+            SortMetrics metrics = sorter.getMetrics();
+            assertTrue(metrics.getComparisons() > 0);
+            assertEquals(10, metrics.getShifts());
+        }
+
+        @Test
+        @DisplayName("Test metrics-off fast path")
+        void testMetricsOff() {
+            InsertionSort fast = new InsertionSort(false);
+            long[] arr = longs(9, 4, 7, 1, 3);
+            fast.sort(arr);
+            assertArrayEquals(longs(1, 3, 4, 7, 9), arr);
+
+            arr = longs(9, 4, 7, 1, 3);
+            FastInsertionSort.sentinelInsertionSort(arr);
+            assertArrayEquals(longs(1, 3, 4, 7, 9), arr);
+            assertEquals(0, fast.getMetrics().getComparisons());
+        }
+    }
+
+    @Nested
+    @DisplayName("double[] overloads")
+    class DoubleArrays {
+
+        // Edge Cases
+
+        @Test
+        @DisplayName("Test null array handling")
+        void testNullArray() {
+            assertDoesNotThrow(() -> sorter.sort((double[]) null));
+            assertDoesNotThrow(() -> sorter.binaryInsertionSort((double[]) null));
+            assertDoesNotThrow(() -> sorter.sentinelInsertionSort((double[]) null));
+            assertDoesNotThrow(() -> sorter.adaptiveInsertionSort((double[]) null));
+        }
+
+        @Test
+        @DisplayName("Test empty array")
+        void testEmptyArray() {
+            double[] arr = {};
+            sorter.sort(arr);
+            assertEquals(0, arr.length);
+        }
+
+        @Test
+        @DisplayName("Test single element")
+        void testSingleElement() {
+            double[] arr = doubles(42);
+            sorter.sort(arr);
+            assertArrayEquals(doubles(42), arr);
+        }
+
+        @Test
+        @DisplayName("Test already sorted array")
+        void testSortedArray() {
+            double[] arr = doubles(1, 2, 3, 4, 5);
+            sorter.sort(arr);
+            assertArrayEquals(doubles(1, 2, 3, 4, 5), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test reverse sorted array")
+        void testReverseSorted() {
+            double[] arr = doubles(5, 4, 3, 2, 1);
+            sorter.sort(arr);
+            assertArrayEquals(doubles(1, 2, 3, 4, 5), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test array with duplicates")
+        void testDuplicates() {
+            double[] arr = doubles(3, 1, 4, 1, 5, 9, 2, 6, 5, 3);
+            sorter.sort(arr);
+            assertArrayEquals(doubles(1, 1, 2, 3, 3, 4, 5, 5, 6, 9), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test all identical elements")
+        void testAllIdentical() {
+            double[] arr = doubles(7, 7, 7, 7, 7);
+            sorter.sort(arr);
+            assertArrayEquals(doubles(7, 7, 7, 7, 7), arr);
+        }
+
+        @Test
+        @DisplayName("Test nearly sorted array")
+        void testNearlySorted() {
+            double[] arr = doubles(1, 2, 3, 5, 4, 6, 7, 8);
+            sorter.sort(arr);
+            assertArrayEquals(doubles(1, 2, 3, 4, 5, 6, 7, 8), arr);
+        }
+
+        @Test
+        @DisplayName("Test negative numbers")
+        void testNegativeNumbers() {
+            double[] arr = doubles(-5, 3, -2, 8, -10, 0);
+            sorter.sort(arr);
+            assertArrayEquals(doubles(-10, -5, -2, 0, 3, 8), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        // Optimization Tests
+
+        @Test
+        @DisplayName("Test binary insertion sort")
+        void testBinaryInsertionSort() {
+            double[] arr = doubles(8, 3, 1, 7, 0, 10, 2);
+            sorter.binaryInsertionSort(arr);
+            assertArrayEquals(doubles(0, 1, 2, 3, 7, 8, 10), arr);
+        }
+
+        @Test
+        @DisplayName("Test sentinel insertion sort")
+        void testSentinelInsertionSort() {
+            double[] arr = doubles(8, 3, 1, 7, 0, 10, 2);
+            sorter.sentinelInsertionSort(arr);
+            assertArrayEquals(doubles(0, 1, 2, 3, 7, 8, 10), arr);
+        }
+
+        @Test
+        @DisplayName("Test adaptive insertion sort")
+        void testAdaptiveInsertionSort() {
+            double[] arr = doubles(1, 2, 3, 4, 0, 5, 6, 7);
+            sorter.adaptiveInsertionSort(arr);
+            assertArrayEquals(doubles(0, 1, 2, 3, 4, 5, 6, 7), arr);
+        }
+
+        @Test
+        @DisplayName("Test NaN and signed zero follow Double.compare")
+        void testNaNAndSignedZero() {
+            double[] source = {Double.NaN, 0.0, -0.0, 1.5, Double.NEGATIVE_INFINITY, -0.0, Double.NaN, 0.0, -3.0};
+            double[] expected = source.clone();
+            Arrays.sort(expected);
+
+            double[] arr = source.clone();
+            sorter.sort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.binaryInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.sentinelInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.adaptiveInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        // Performance Validation Tests
+
+        @ParameterizedTest
+        @ValueSource(ints = {10, 50, 100})
+        @DisplayName("Test random arrays with every variant")
+        void testRandomArrays(int size) {
+            Random rand = new Random(42);
+            double[] source = new double[size];
+            for (int i = 0; i < size; i++) {
+                source[i] = rand.nextDouble() * 2000 - 1000;
+            }
+            double[] expected = source.clone();
+            Arrays.sort(expected);
+
+            double[] arr = source.clone();
+            sorter.sort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.binaryInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.sentinelInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.adaptiveInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+
+        @Test
+        @DisplayName("Test range overloads leave the outside untouched")
+        void testRangeOverloads() {
+            double[] source = doubles(9, 8, 7, 3, 1, 2, 6, 5, 4, 0);
+            double[] expected = doubles(9, 8, 7, 1, 2, 3, 5, 6, 4, 0);
+
+            double[] arr = source.clone();
+            sorter.sort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.binaryInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.sentinelInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.adaptiveInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(source.clone(), 2, 11));
+        }
+
+        // Metrics Tests
+
+        @Test
+        @DisplayName("Test metrics collection for best case")
+        void testMetricsBestCase() {
+            double[] arr = doubles(1, 2, 3, 4, 5);
+            sorter.adaptiveInsertionSort(arr);
+
+            SortMetrics metrics = sorter.getMetrics();
+            assertTrue(metrics.getComparisons() > 0);
+            assertEquals(0, metrics.getShifts());
+        }
+
+        @Test
+        @DisplayName("Test metrics collection for worst case")
+        void testMetricsWorstCase() {
+            double[] arr = doubles(5, 4, 3, 2, 1);
+            sorter.sort(arr);
+
+            SortMetrics metrics = sorter.getMetrics();
+            assertTrue(metrics.getComparisons() > 0);
+            assertEquals(10, metrics.getShifts());
+        }
+
+        @Test
+        @DisplayName("Test metrics-off fast path")
+        void testMetricsOff() {
+            InsertionSort fast = new InsertionSort(false);
+            double[] arr = doubles(9, 4, 7, 1, 3);
+            fast.sort(arr);
+            assertArrayEquals(doubles(1, 3, 4, 7, 9), arr);
+
+            arr = doubles(9, 4, 7, 1, 3);
+            FastInsertionSort.sentinelInsertionSort(arr);
+            assertArrayEquals(doubles(1, 3, 4, 7, 9), arr);
+            assertEquals(0, fast.getMetrics().getComparisons());
+        }
+    }
+
+    @Nested
+    @DisplayName("float[] overloads")
+    class FloatArrays {
+
+        // Edge Cases
+
+        @Test
+        @DisplayName("Test null array handling")
+        void testNullArray() {
+            assertDoesNotThrow(() -> sorter.sort((float[]) null));
+            assertDoesNotThrow(() -> sorter.binaryInsertionSort((float[]) null));
+            assertDoesNotThrow(() -> sorter.sentinelInsertionSort((float[]) null));
+            assertDoesNotThrow(() -> sorter.adaptiveInsertionSort((float[]) null));
+        }
+
+        @Test
+        @DisplayName("Test empty array")
+        void testEmptyArray() {
+            float[] arr = {};
+            sorter.sort(arr);
+            assertEquals(0, arr.length);
+        }
+
+        @Test
+        @DisplayName("Test single element")
+        void testSingleElement() {
+            float[] arr = floats(42);
+            sorter.sort(arr);
+            assertArrayEquals(floats(42), arr);
+        }
+
+        @Test
+        @DisplayName("Test already sorted array")
+        void testSortedArray() {
+            float[] arr = floats(1, 2, 3, 4, 5);
+            sorter.sort(arr);
+            assertArrayEquals(floats(1, 2, 3, 4, 5), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test reverse sorted array")
+        void testReverseSorted() {
+            float[] arr = floats(5, 4, 3, 2, 1);
+            sorter.sort(arr);
+            assertArrayEquals(floats(1, 2, 3, 4, 5), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test array with duplicates")
+        void testDuplicates() {
+            float[] arr = floats(3, 1, 4, 1, 5, 9, 2, 6, 5, 3);
+            sorter.sort(arr);
+            assertArrayEquals(floats(1, 1, 2, 3, 3, 4, 5, 5, 6, 9), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test all identical elements")
+        void testAllIdentical() {
+            float[] arr = floats(7, 7, 7, 7, 7);
+            sorter.sort(arr);
+            assertArrayEquals(floats(7, 7, 7, 7, 7), arr);
+        }
+
+        @Test
+        @DisplayName("Test nearly sorted array")
+        void testNearlySorted() {
+            float[] arr = floats(1, 2, 3, 5, 4, 6, 7, 8);
+            sorter.sort(arr);
+            assertArrayEquals(floats(1, 2, 3, 4, 5, 6, 7, 8), arr);
+        }
+
+        @Test
+        @DisplayName("Test negative numbers")
+        void testNegativeNumbers() {
+            float[] arr = floats(-5, 3, -2, 8, -10, 0);
+            sorter.sort(arr);
+            assertArrayEquals(floats(-10, -5, -2, 0, 3, 8), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        // Optimization Tests
+
+        @Test
+        @DisplayName("Test binary insertion sort")
+        void testBinaryInsertionSort() {
+            float[] arr = floats(8, 3, 1, 7, 0, 10, 2);
+            sorter.binaryInsertionSort(arr);
+            assertArrayEquals(floats(0, 1, 2, 3, 7, 8, 10), arr);
+        }
+
+        @Test
+        @DisplayName("Test sentinel insertion sort")
+        void testSentinelInsertionSort() {
+            float[] arr = floats(8, 3, 1, 7, 0, 10, 2);
+            sorter.sentinelInsertionSort(arr);
+            assertArrayEquals(floats(0, 1, 2, 3, 7, 8, 10), arr);
+        }
+
+        @Test
+        @DisplayName("Test adaptive insertion sort")
+        void testAdaptiveInsertionSort() {
+            float[] arr = floats(1, 2, 3, 4, 0, 5, 6, 7);
+            sorter.adaptiveInsertionSort(arr);
+            assertArrayEquals(floats(0, 1, 2, 3, 4, 5, 6, 7), arr);
+        }
+
+        @Test
+        @DisplayName("Test NaN and signed zero follow Float.compare")
+        void testNaNAndSignedZero() {
+            float[] source = {Float.NaN, 0.0f, -0.0f, 1.5f, Float.NEGATIVE_INFINITY, -0.0f, Float.NaN, 0.0f, -3.0f};
+            float[] expected = source.clone();
+            Arrays.sort(expected);
+
+            float[] arr = source.clone();
+            sorter.sort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.binaryInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.sentinelInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.adaptiveInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        // Performance Validation Tests
+
+        @ParameterizedTest
+        @ValueSource(ints = {10, 50, 100})
+        @DisplayName("Test random arrays with every variant")
+        void testRandomArrays(int size) {
+            Random rand = new Random(42);
+            float[] source = new float[size];
+            for (int i = 0; i < size; i++) {
+                source[i] = rand.nextFloat() * 2000 - 1000;
+            }
+            float[] expected = source.clone();
+            Arrays.sort(expected);
+
+            float[] arr = source.clone();
+            sorter.sort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.binaryInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.sentinelInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.adaptiveInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+
+        @Test
+        @DisplayName("Test range overloads leave the outside untouched")
+        void testRangeOverloads() {
+            float[] source = floats(9, 8, 7, 3, 1, 2, 6, 5, 4, 0);
+            float[] expected = floats(9, 8, 7, 1, 2, 3, 5, 6, 4, 0);
+
+            float[] arr = source.clone();
+            sorter.sort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.binaryInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.sentinelInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.adaptiveInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(source.clone(), 2, 11));
+        }
+
+        // Metrics Tests
+
+        @Test
+        @DisplayName("Test metrics collection for best case")
+        void testMetricsBestCase() {
+            float[] arr = floats(1, 2, 3, 4, 5);
+            sorter.adaptiveInsertionSort(arr);
+
+            SortMetrics metrics = sorter.getMetrics();
+            assertTrue(metrics.getComparisons() > 0);
+            assertEquals(0, metrics.getShifts());
+        }
+
+        @Test
+        @DisplayName("Test metrics collection for worst case")
+        void testMetricsWorstCase() {
+            float[] arr = floats(5, 4, 3, 2, 1);
+            sorter.sort(arr);
+
+            SortMetrics metrics = sorter.getMetrics();
+            assertTrue(metrics.getComparisons() > 0);
+            assertEquals(10, metrics.getShifts());
+        }
+
+        @Test
+        @DisplayName("Test metrics-off fast path")
+        void testMetricsOff() {
+            InsertionSort fast = new InsertionSort(false);
+            float[] arr = floats(9, 4, 7, 1, 3);
+            fast.sort(arr);
+            assertArrayEquals(floats(1, 3, 4, 7, 9), arr);
+
+            arr = floats(9, 4, 7, 1, 3);
+            FastInsertionSort.sentinelInsertionSort(arr);
+            assertArrayEquals(floats(1, 3, 4, 7, 9), arr);
+            assertEquals(0, fast.getMetrics().getComparisons());
+        }
+    }
+
+    @Nested
+    @DisplayName("short[] overloads")
+    class ShortArrays {
+
+        // Edge Cases
+
+        @Test
+        @DisplayName("Test null array handling")
+        void testNullArray() {
+            assertDoesNotThrow(() -> sorter.sort((short[]) null));
+            assertDoesNotThrow(() -> sorter.binaryInsertionSort((short[]) null));
+            assertDoesNotThrow(() -> sorter.sentinelInsertionSort((short[]) null));
+            assertDoesNotThrow(() -> sorter.adaptiveInsertionSort((short[]) null));
+        }
+
+        @Test
+        @DisplayName("Test empty array")
+        void testEmptyArray() {
+            short[] arr = {};
+            sorter.sort(arr);
+            assertEquals(0, arr.length);
+        }
+
+        @Test
+        @DisplayName("Test single element")
+        void testSingleElement() {
+            short[] arr = shorts(42);
+            sorter.sort(arr);
+            assertArrayEquals(shorts(42), arr);
+        }
+
+        @Test
+        @DisplayName("Test already sorted array")
+        void testSortedArray() {
+            short[] arr = shorts(1, 2, 3, 4, 5);
+            sorter.sort(arr);
+            assertArrayEquals(shorts(1, 2, 3, 4, 5), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test reverse sorted array")
+        void testReverseSorted() {
+            short[] arr = shorts(5, 4, 3, 2, 1);
+            sorter.sort(arr);
+            assertArrayEquals(shorts(1, 2, 3, 4, 5), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test array with duplicates")
+        void testDuplicates() {
+            short[] arr = shorts(3, 1, 4, 1, 5, 9, 2, 6, 5, 3);
+            sorter.sort(arr);
+            assertArrayEquals(shorts(1, 1, 2, 3, 3, 4, 5, 5, 6, 9), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test all identical elements")
+        void testAllIdentical() {
+            short[] arr = shorts(7, 7, 7, 7, 7);
+            sorter.sort(arr);
+            assertArrayEquals(shorts(7, 7, 7, 7, 7), arr);
+        }
+
+        @Test
+        @DisplayName("Test nearly sorted array")
+        void testNearlySorted() {
+            short[] arr = shorts(1, 2, 3, 5, 4, 6, 7, 8);
+            sorter.sort(arr);
+            assertArrayEquals(shorts(1, 2, 3, 4, 5, 6, 7, 8), arr);
+        }
+
+        @Test
+        @DisplayName("Test negative numbers")
+        void testNegativeNumbers() {
+            short[] arr = shorts(-5, 3, -2, 8, -10, 0);
+            sorter.sort(arr);
+            assertArrayEquals(shorts(-10, -5, -2, 0, 3, 8), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        // Optimization Tests
+
+        @Test
+        @DisplayName("Test binary insertion sort")
+        void testBinaryInsertionSort() {
+            short[] arr = shorts(8, 3, 1, 7, 0, 10, 2);
+            sorter.binaryInsertionSort(arr);
+            assertArrayEquals(shorts(0, 1, 2, 3, 7, 8, 10), arr);
+        }
+
+        @Test
+        @DisplayName("Test sentinel insertion sort")
+        void testSentinelInsertionSort() {
+            short[] arr = shorts(8, 3, 1, 7, 0, 10, 2);
+            sorter.sentinelInsertionSort(arr);
+            assertArrayEquals(shorts(0, 1, 2, 3, 7, 8, 10), arr);
+        }
+
+        @Test
+        @DisplayName("Test adaptive insertion sort")
+        void testAdaptiveInsertionSort() {
+            short[] arr = shorts(1, 2, 3, 4, 0, 5, 6, 7);
+            sorter.adaptiveInsertionSort(arr);
+            assertArrayEquals(shorts(0, 1, 2, 3, 4, 5, 6, 7), arr);
+        }
+
+        // Performance Validation Tests
+
+        @ParameterizedTest
+        @ValueSource(ints = {10, 50, 100})
+        @DisplayName("Test random arrays with every variant")
+        void testRandomArrays(int size) {
+            Random rand = new Random(42);
+            short[] source = new short[size];
+            for (int i = 0; i < size; i++) {
+                source[i] = (short) rand.nextInt();
+            }
+            short[] expected = source.clone();
+            Arrays.sort(expected);
+
+            short[] arr = source.clone();
+            sorter.sort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.binaryInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.sentinelInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.adaptiveInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+
+        @Test
+        @DisplayName("Test range overloads leave the outside untouched")
+        void testRangeOverloads() {
+            short[] source = shorts(9, 8, 7, 3, 1, 2, 6, 5, 4, 0);
+            short[] expected = shorts(9, 8, 7, 1, 2, 3, 5, 6, 4, 0);
+
+            short[] arr = source.clone();
+            sorter.sort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.binaryInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.sentinelInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.adaptiveInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(source.clone(), 2, 11));
+        }
+
+        // Metrics Tests
+
+        @Test
+        @DisplayName("Test metrics collection for best case")
+        void testMetricsBestCase() {
+            short[] arr = shorts(1, 2, 3, 4, 5);
+            sorter.adaptiveInsertionSort(arr);
+
+            SortMetrics metrics = sorter.getMetrics();
+            assertTrue(metrics.getComparisons() > 0);
+            assertEquals(0, metrics.getShifts());
+        }
+
+        @Test
+        @DisplayName("Test metrics collection for worst case")
+        void testMetricsWorstCase() {
+            short[] arr = shorts(5, 4, 3, 2, 1);
+            sorter.sort(arr);
+
+            SortMetrics metrics = sorter.getMetrics();
+            assertTrue(metrics.getComparisons() > 0);
+            assertEquals(10, metrics.getShifts());
+        }
+
+        @Test
+        @DisplayName("Test metrics-off fast path")
+        void testMetricsOff() {
+            InsertionSort fast = new InsertionSort(false);
+            short[] arr = shorts(9, 4, 7, 1, 3);
+            fast.sort(arr);
+            assertArrayEquals(shorts(1, 3, 4, 7, 9), arr);
+
+            arr = shorts(9, 4, 7, 1, 3);
+            FastInsertionSort.sentinelInsertionSort(arr);
+            assertArrayEquals(shorts(1, 3, 4, 7, 9), arr);
+            assertEquals(0, fast.getMetrics().getComparisons());
+        }
+    }
+
+    @Nested
+    @DisplayName("char[] overloads")
+    class CharArrays {
+
+        // Edge Cases
+
+        @Test
+        @DisplayName("Test null array handling")
+        void testNullArray() {
+            assertDoesNotThrow(() -> sorter.sort((char[]) null));
+            assertDoesNotThrow(() -> sorter.binaryInsertionSort((char[]) null));
+            assertDoesNotThrow(() -> sorter.sentinelInsertionSort((char[]) null));
+            assertDoesNotThrow(() -> sorter.adaptiveInsertionSort((char[]) null));
+        }
+
+        @Test
+        @DisplayName("Test empty array")
+        void testEmptyArray() {
+            char[] arr = {};
+            sorter.sort(arr);
+            assertEquals(0, arr.length);
+        }
+
+        @Test
+        @DisplayName("Test single element")
+        void testSingleElement() {
+            char[] arr = chars(42);
+            sorter.sort(arr);
+            assertArrayEquals(chars(42), arr);
+        }
+
+        @Test
+        @DisplayName("Test already sorted array")
+        void testSortedArray() {
+            char[] arr = chars(1, 2, 3, 4, 5);
+            sorter.sort(arr);
+            assertArrayEquals(chars(1, 2, 3, 4, 5), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test reverse sorted array")
+        void testReverseSorted() {
+            char[] arr = chars(5, 4, 3, 2, 1);
+            sorter.sort(arr);
+            assertArrayEquals(chars(1, 2, 3, 4, 5), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test array with duplicates")
+        void testDuplicates() {
+            char[] arr = chars(3, 1, 4, 1, 5, 9, 2, 6, 5, 3);
+            sorter.sort(arr);
+            assertArrayEquals(chars(1, 1, 2, 3, 3, 4, 5, 5, 6, 9), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test all identical elements")
+        void testAllIdentical() {
+            char[] arr = chars(7, 7, 7, 7, 7);
+            sorter.sort(arr);
+            assertArrayEquals(chars(7, 7, 7, 7, 7), arr);
+        }
+
+        @Test
+        @DisplayName("Test nearly sorted array")
+        void testNearlySorted() {
+            char[] arr = chars(1, 2, 3, 5, 4, 6, 7, 8);
+            sorter.sort(arr);
+            assertArrayEquals(chars(1, 2, 3, 4, 5, 6, 7, 8), arr);
+        }
+
+        // Optimization Tests
+
+        @Test
+        @DisplayName("Test binary insertion sort")
+        void testBinaryInsertionSort() {
+            char[] arr = chars(8, 3, 1, 7, 0, 10, 2);
+            sorter.binaryInsertionSort(arr);
+            assertArrayEquals(chars(0, 1, 2, 3, 7, 8, 10), arr);
+        }
+
+        @Test
+        @DisplayName("Test sentinel insertion sort")
+        void testSentinelInsertionSort() {
+            char[] arr = chars(8, 3, 1, 7, 0, 10, 2);
+            sorter.sentinelInsertionSort(arr);
+            assertArrayEquals(chars(0, 1, 2, 3, 7, 8, 10), arr);
+        }
+
+        @Test
+        @DisplayName("Test adaptive insertion sort")
+        void testAdaptiveInsertionSort() {
+            char[] arr = chars(1, 2, 3, 4, 0, 5, 6, 7);
+            sorter.adaptiveInsertionSort(arr);
+            assertArrayEquals(chars(0, 1, 2, 3, 4, 5, 6, 7), arr);
+        }
+
+        // Performance Validation Tests
+
+        @ParameterizedTest
+        @ValueSource(ints = {10, 50, 100})
+        @DisplayName("Test random arrays with every variant")
+        void testRandomArrays(int size) {
+            Random rand = new Random(42);
+            char[] source = new char[size];
+            for (int i = 0; i < size; i++) {
+                source[i] = (char) rand.nextInt(1000);
+            }
+            char[] expected = source.clone();
+            Arrays.sort(expected);
+
+            char[] arr = source.clone();
+            sorter.sort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.binaryInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.sentinelInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.adaptiveInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+
+        @Test
+        @DisplayName("Test range overloads leave the outside untouched")
+        void testRangeOverloads() {
+            char[] source = chars(9, 8, 7, 3, 1, 2, 6, 5, 4, 0);
+            char[] expected = chars(9, 8, 7, 1, 2, 3, 5, 6, 4, 0);
+
+            char[] arr = source.clone();
+            sorter.sort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.binaryInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.sentinelInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.adaptiveInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(source.clone(), 2, 11));
+        }
+
+        // Metrics Tests
+
+        @Test
+        @DisplayName("Test metrics collection for best case")
+        void testMetricsBestCase() {
+            char[] arr = chars(1, 2, 3, 4, 5);
+            sorter.adaptiveInsertionSort(arr);
+
+            SortMetrics metrics = sorter.getMetrics();
+            assertTrue(metrics.getComparisons() > 0);
+            assertEquals(0, metrics.getShifts());
+        }
+
+        @Test
+        @DisplayName("Test metrics collection for worst case")
+        void testMetricsWorstCase() {
+            char[] arr = chars(5, 4, 3, 2, 1);
+            sorter.sort(arr);
+
+            SortMetrics metrics = sorter.getMetrics();
+            assertTrue(metrics.getComparisons() > 0);
+            assertEquals(10, metrics.getShifts());
+        }
+
+        @Test
+        @DisplayName("Test metrics-off fast path")
+        void testMetricsOff() {
+            InsertionSort fast = new InsertionSort(false);
+            char[] arr = chars(9, 4, 7, 1, 3);
+            fast.sort(arr);
+            assertArrayEquals(chars(1, 3, 4, 7, 9), arr);
+
+            arr = chars(9, 4, 7, 1, 3);
+            FastInsertionSort.sentinelInsertionSort(arr);
+            assertArrayEquals(chars(1, 3, 4, 7, 9), arr);
+            assertEquals(0, fast.getMetrics().getComparisons());
+        }
+    }
+
+    @Nested
+    @DisplayName("byte[] overloads")
+    class ByteArrays {
+
+        // Edge Cases
+
+        @Test
+        @DisplayName("Test null array handling")
+        void testNullArray() {
+            assertDoesNotThrow(() -> sorter.sort((byte[]) null));
+            assertDoesNotThrow(() -> sorter.binaryInsertionSort((byte[]) null));
+            assertDoesNotThrow(() -> sorter.sentinelInsertionSort((byte[]) null));
+            assertDoesNotThrow(() -> sorter.adaptiveInsertionSort((byte[]) null));
+        }
+
+        @Test
+        @DisplayName("Test empty array")
+        void testEmptyArray() {
+            byte[] arr = {};
+            sorter.sort(arr);
+            assertEquals(0, arr.length);
+        }
+
+        @Test
+        @DisplayName("Test single element")
+        void testSingleElement() {
+            byte[] arr = bytes(42);
+            sorter.sort(arr);
+            assertArrayEquals(bytes(42), arr);
+        }
+
+        @Test
+        @DisplayName("Test already sorted array")
+        void testSortedArray() {
+            byte[] arr = bytes(1, 2, 3, 4, 5);
+            sorter.sort(arr);
+            assertArrayEquals(bytes(1, 2, 3, 4, 5), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test reverse sorted array")
+        void testReverseSorted() {
+            byte[] arr = bytes(5, 4, 3, 2, 1);
+            sorter.sort(arr);
+            assertArrayEquals(bytes(1, 2, 3, 4, 5), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test array with duplicates")
+        void testDuplicates() {
+            byte[] arr = bytes(3, 1, 4, 1, 5, 9, 2, 6, 5, 3);
+            sorter.sort(arr);
+            assertArrayEquals(bytes(1, 1, 2, 3, 3, 4, 5, 5, 6, 9), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        @Test
+        @DisplayName("Test all identical elements")
+        void testAllIdentical() {
+            byte[] arr = bytes(7, 7, 7, 7, 7);
+            sorter.sort(arr);
+            assertArrayEquals(bytes(7, 7, 7, 7, 7), arr);
+        }
+
+        @Test
+        @DisplayName("Test nearly sorted array")
+        void testNearlySorted() {
+            byte[] arr = bytes(1, 2, 3, 5, 4, 6, 7, 8);
+            sorter.sort(arr);
+            assertArrayEquals(bytes(1, 2, 3, 4, 5, 6, 7, 8), arr);
+        }
+
+        @Test
+        @DisplayName("Test negative numbers")
+        void testNegativeNumbers() {
+            byte[] arr = bytes(-5, 3, -2, 8, -10, 0);
+            sorter.sort(arr);
+            assertArrayEquals(bytes(-10, -5, -2, 0, 3, 8), arr);
+            assertTrue(InsertionSort.isSorted(arr));
+        }
+
+        // Optimization Tests
+
+        @Test
+        @DisplayName("Test binary insertion sort")
+        void testBinaryInsertionSort() {
+            byte[] arr = bytes(8, 3, 1, 7, 0, 10, 2);
+            sorter.binaryInsertionSort(arr);
+            assertArrayEquals(bytes(0, 1, 2, 3, 7, 8, 10), arr);
+        }
+
+        @Test
+        @DisplayName("Test sentinel insertion sort")
+        void testSentinelInsertionSort() {
+            byte[] arr = bytes(8, 3, 1, 7, 0, 10, 2);
+            sorter.sentinelInsertionSort(arr);
+            assertArrayEquals(bytes(0, 1, 2, 3, 7, 8, 10), arr);
+        }
+
+        @Test
+        @DisplayName("Test adaptive insertion sort")
+        void testAdaptiveInsertionSort() {
+            byte[] arr = bytes(1, 2, 3, 4, 0, 5, 6, 7);
+            sorter.adaptiveInsertionSort(arr);
+            assertArrayEquals(bytes(0, 1, 2, 3, 4, 5, 6, 7), arr);
+        }
+
+        // Performance Validation Tests
+
+        @ParameterizedTest
+        @ValueSource(ints = {10, 50, 100})
+        @DisplayName("Test random arrays with every variant")
+        void testRandomArrays(int size) {
+            Random rand = new Random(42);
+            byte[] source = new byte[size];
+            for (int i = 0; i < size; i++) {
+                source[i] = (byte) rand.nextInt();
+            }
+            byte[] expected = source.clone();
+            Arrays.sort(expected);
+
+            byte[] arr = source.clone();
+            sorter.sort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.binaryInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.sentinelInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.adaptiveInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+
+        @Test
+        @DisplayName("Test range overloads leave the outside untouched")
+        void testRangeOverloads() {
+            byte[] source = bytes(9, 8, 7, 3, 1, 2, 6, 5, 4, 0);
+            byte[] expected = bytes(9, 8, 7, 1, 2, 3, 5, 6, 4, 0);
+
+            byte[] arr = source.clone();
+            sorter.sort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.binaryInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.sentinelInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            arr = source.clone();
+            sorter.adaptiveInsertionSort(arr, 3, 8);
+            assertArrayEquals(expected, arr);
+
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(source.clone(), 2, 11));
+        }
+
+        // Metrics Tests
+
+        @Test
+        @DisplayName("Test metrics collection for best case")
+        void testMetricsBestCase() {
+            byte[] arr = bytes(1, 2, 3, 4, 5);
+            sorter.adaptiveInsertionSort(arr);
+
+            SortMetrics metrics = sorter.getMetrics();
+            assertTrue(metrics.getComparisons() > 0);
+            assertEquals(0, metrics.getShifts());
+        }
+
+        @Test
+        @DisplayName("Test metrics collection for worst case")
+        void testMetricsWorstCase() {
+            byte[] arr = bytes(5, 4, 3, 2, 1);
+            sorter.sort(arr);
+
+            SortMetrics metrics = sorter.getMetrics();
+            assertTrue(metrics.getComparisons() > 0);
+            assertEquals(10, metrics.getShifts());
+        }
+
+        @Test
+        @DisplayName("Test metrics-off fast path")
+        void testMetricsOff() {
+            InsertionSort fast = new InsertionSort(false);
+            byte[] arr = bytes(9, 4, 7, 1, 3);
+            fast.sort(arr);
+            assertArrayEquals(bytes(1, 3, 4, 7, 9), arr);
+
+            arr = bytes(9, 4, 7, 1, 3);
+            FastInsertionSort.sentinelInsertionSort(arr);
+            assertArrayEquals(bytes(1, 3, 4, 7, 9), arr);
+            assertEquals(0, fast.getMetrics().getComparisons());
+        }
+    }
+
+    private static long[] longs(int... values) {
+        long[] arr = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            arr[i] = (long) values[i];
+        }
+        return arr;
+    }
+
+    private static double[] doubles(int... values) {
+        double[] arr = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            arr[i] = (double) values[i];
+        }
+        return arr;
+    }
+
+    private static float[] floats(int... values) {
+        float[] arr = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            arr[i] = (float) values[i];
+        }
+        return arr;
+    }
+
+    private static short[] shorts(int... values) {
+        short[] arr = new short[values.length];
+        for (int i = 0; i < values.length; i++) {
+            arr[i] = (short) values[i];
+        }
+        return arr;
+    }
+
+    private static char[] chars(int... values) {
+        char[] arr = new char[values.length];
+        for (int i = 0; i < values.length; i++) {
+            arr[i] = (char) values[i];
+        }
+        return arr;
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] arr = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            arr[i] = (byte) values[i];
+        }
+        return arr;
+    }
+}
@@ -0,0 +1,129 @@
+package algorithms;
+
+import data.Distribution;
+import data.InputGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ShellSort and GapSequence
+ */
+class ShellSortTest {
+
+    // Gap Sequence Tests
+
+    @Test
+    @DisplayName("Test gap sequences start with their published prefixes")
+    void testSequencePrefixes() {
+        assertArrayEquals(new int[]{701, 301, 132, 57, 23, 10, 4, 1}, GapSequence.CIURA.gaps(702));
+        assertArrayEquals(new int[]{103, 46, 20, 9, 4, 1}, GapSequence.TOKUDA.gaps(104));
+        assertArrayEquals(new int[]{281, 77, 23, 8, 1}, GapSequence.SEDGEWICK.gaps(282));
+        assertArrayEquals(new int[]{16, 12, 9, 8, 6, 4, 3, 2, 1}, GapSequence.PRATT.gaps(17));
+    }
+
+    @ParameterizedTest
+    @EnumSource(GapSequence.class)
+    @DisplayName("Test gaps are strictly decreasing, below n and end with 1")
+    void testGapsBelowN(GapSequence sequence) {
+        assertEquals(0, sequence.gaps(1).length);
+        for (int n : new int[]{2, 100, 1_000_000, Integer.MAX_VALUE}) {
+            int[] gaps = sequence.gaps(n);
+            assertEquals(1, gaps[gaps.length - 1]);
+            assertTrue(gaps[0] < n);
+            for (int i = 1; i < gaps.length; i++) {
+                assertTrue(gaps[i] < gaps[i - 1], sequence + " at " + i);
+            }
+        }
+    }
+
+    // Correctness Tests
+
+    @ParameterizedTest
+    @EnumSource(GapSequence.class)
+    @DisplayName("Test every distribution, with and without metrics")
+    void testDistributions(GapSequence sequence) {
+        InputGenerator generator = new InputGenerator(24L);
+        for (Distribution distribution : Distribution.values()) {
+            for (int n : new int[]{0, 1, 2, 17, 1000}) {
+                int[] source = generator.generate(distribution, n);
+                int[] expected = source.clone();
+                Arrays.sort(expected);
+
+                int[] counted = source.clone();
+                new ShellSort(sequence, true).sort(counted);
+                assertArrayEquals(expected, counted, sequence + " " + distribution + " n=" + n);
+
+                int[] fast = source.clone();
+                new ShellSort(sequence, false).sort(fast);
+                assertArrayEquals(expected, fast, sequence + " " + distribution + " n=" + n);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test range sort leaves elements outside the range untouched")
+    void testRange() {
+        int[] arr = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        new ShellSort().sort(arr, 2, 8);
+        assertArrayEquals(new int[]{9, 8, 2, 3, 4, 5, 6, 7, 1, 0}, arr);
+
+        assertThrows(IllegalArgumentException.class, () -> new ShellSort().sort(arr, 5, 4));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> new ShellSort().sort(arr, 0, 11));
+        assertThrows(IllegalArgumentException.class, () -> new ShellSort(null, true));
+
+        assertDoesNotThrow(() -> new ShellSort().sort(null));
+        assertDoesNotThrow(() -> new ShellSort().sort(null, 0, 0));
+    }
+
+    // Metrics Tests
+
+    @Test
+    @DisplayName("Test inputs with no passes leave the pass metrics empty")
+    void testNoPasses() {
+        ShellSort sorter = new ShellSort();
+        sorter.sort(new int[]{42});
+        assertTrue(sorter.getPassMetrics().isEmpty());
+        assertEquals(0, sorter.getPassGaps().length);
+    }
+
+    @Test
+    @DisplayName("Test per-pass metrics add up to the totals")
+    void testPassMetrics() {
+        int[] arr = new InputGenerator(7L).generate(Distribution.REVERSE, 5000);
+        ShellSort sorter = new ShellSort(GapSequence.TOKUDA, true);
+        sorter.sort(arr);
+
+        List<SortMetrics> passes = sorter.getPassMetrics();
+        assertArrayEquals(GapSequence.TOKUDA.gaps(5000), sorter.getPassGaps());
+        assertEquals(passes.size(), sorter.getPassGaps().length);
+
+        SortMetrics sum = SortMetrics.merge(passes.toArray(new SortMetrics[0]));
+        assertEquals(sorter.getMetrics().getComparisons(), sum.getComparisons());
+        assertEquals(sorter.getMetrics().getShifts(), sum.getShifts());
+        assertEquals(sorter.getMetrics().getArrayAccesses(), sum.getArrayAccesses());
+    }
+
+    @Test
+    @DisplayName("Test reverse input needs far fewer shifts than insertion sort")
+    void testSubQuadraticShifts() {
+        int n = 10_000;
+        int[] arr = new InputGenerator(7L).generate(Distribution.REVERSE, n);
+        ShellSort sorter = new ShellSort();
+        sorter.sort(arr);
+
+        long insertionShifts = (long) n * (n - 1) / 2;
+        assertTrue(sorter.getMetrics().getShifts() < insertionShifts / 100,
+                "shifts: " + sorter.getMetrics().getShifts());
+
+        // Sorted input: one comparison per element per pass, no shifts
+        sorter.sort(arr);
+        assertEquals(0, sorter.getMetrics().getShifts());
+    }
+}
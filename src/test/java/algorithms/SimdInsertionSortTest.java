@@ -0,0 +1,122 @@
+package algorithms;
+
+import data.Distribution;
+import data.InputGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SimdInsertionSort
+ * Runs against the scalar fallback by default and against the Vector API
+ * engine under -Pvector (which sets vector.expected=true).
+ */
+class SimdInsertionSortTest {
+
+    // Engine Selection Tests
+
+    @Test
+    @DisplayName("Test the engine matches the build profile")
+    void testEngineSelection() {
+        boolean expected = Boolean.getBoolean("vector.expected");
+        assertEquals(expected, SimdInsertionSort.isVectorized(), SimdInsertionSort.getEngineName());
+        if (!expected) {
+            assertEquals("scalar", SimdInsertionSort.getEngineName());
+        }
+    }
+
+    @Test
+    @DisplayName("Test a missing engine class falls back to the scalar kernels")
+    void testMissingEngineFallsBack() {
+        assertSame(SimdInsertionSort.SCALAR, SimdInsertionSort.load("algorithms.NoSuchEngine"));
+        assertSame(SimdInsertionSort.SCALAR, SimdInsertionSort.load("java.lang.Object"));
+    }
+
+    // Correctness Tests
+
+    @Test
+    @DisplayName("Test null and trivial arrays")
+    void testTrivial() {
+        SimdInsertionSort.binaryInsertionSort(null);
+        SimdInsertionSort.sentinelInsertionSort(null);
+
+        int[] empty = {};
+        SimdInsertionSort.binaryInsertionSort(empty);
+        SimdInsertionSort.sentinelInsertionSort(empty);
+        assertEquals(0, empty.length);
+
+        int[] single = {7};
+        SimdInsertionSort.binaryInsertionSort(single);
+        SimdInsertionSort.sentinelInsertionSort(single);
+        assertArrayEquals(new int[]{7}, single);
+    }
+
+    @Test
+    @DisplayName("Test every length around the vector width with duplicates and extreme values")
+    void testSmallLengths() {
+        Random rand = new Random(3);
+        for (int n = 2; n <= 80; n++) {
+            for (int trial = 0; trial < 20; trial++) {
+                int[] arr = new int[n];
+                for (int i = 0; i < n; i++) {
+                    switch (rand.nextInt(5)) {
+                        case 0:
+                            arr[i] = Integer.MIN_VALUE;
+                            break;
+                        case 1:
+                            arr[i] = Integer.MAX_VALUE;
+                            break;
+                        default:
+                            arr[i] = rand.nextInt(16) - 8;
+                    }
+                }
+                assertSortsLikeArraysSort(arr);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test all input distributions")
+    void testDistributions() {
+        InputGenerator generator = new InputGenerator(42L);
+        for (Distribution distribution : Distribution.values()) {
+            for (int size : new int[]{17, 100, 1000}) {
+                assertSortsLikeArraysSort(generator.generate(distribution, size));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test the minimum at the end and repeated minimums for the sentinel scan")
+    void testSentinelMinimumPositions() {
+        int[] minLast = new int[37];
+        for (int i = 0; i < minLast.length; i++) {
+            minLast[i] = minLast.length - i;
+        }
+        minLast[minLast.length - 1] = -1;
+        assertSortsLikeArraysSort(minLast);
+
+        int[] repeated = new int[64];
+        Arrays.fill(repeated, 5);
+        repeated[20] = 1;
+        repeated[50] = 1;
+        assertSortsLikeArraysSort(repeated);
+    }
+
+    private static void assertSortsLikeArraysSort(int[] input) {
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+
+        int[] binary = input.clone();
+        SimdInsertionSort.binaryInsertionSort(binary);
+        assertArrayEquals(expected, binary, "binary, n=" + input.length);
+
+        int[] sentinel = input.clone();
+        SimdInsertionSort.sentinelInsertionSort(sentinel);
+        assertArrayEquals(expected, sentinel, "sentinel, n=" + input.length);
+    }
+}
@@ -0,0 +1,108 @@
+package algorithms;
+
+import data.Distribution;
+import data.InputGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for PresortednessProfile, SortSelector and InsertionSort.autoSort
+ */
+class SortSelectorTest {
+
+    private static SortSelector.Choice choose(int[] arr) {
+        return SortSelector.choose(PresortednessProfile.of(arr));
+    }
+
+    @Test
+    @DisplayName("Test profile estimates on sorted, reverse and random input")
+    void testProfile() {
+        InputGenerator generator = new InputGenerator(1);
+
+        PresortednessProfile sorted = PresortednessProfile.of(generator.generate(Distribution.SORTED, 10_000));
+        assertEquals(0, sorted.getEstimatedInversions());
+        assertEquals(1, sorted.getEstimatedRuns());
+        assertEquals(0.0, sorted.getDuplicateRatio());
+
+        PresortednessProfile reverse = PresortednessProfile.of(generator.generate(Distribution.REVERSE, 10_000));
+        long maxInversions = 10_000L * 9_999 / 2;
+        assertTrue(reverse.getEstimatedInversions() > maxInversions * 9 / 10);
+        assertTrue(reverse.getEstimatedRuns() > 9_000);
+
+        PresortednessProfile random = PresortednessProfile.of(generator.generate(Distribution.RANDOM, 10_000));
+        assertEquals(maxInversions / 2.0, random.getEstimatedInversions(), maxInversions * 0.05);
+
+        PresortednessProfile fewUnique = PresortednessProfile.of(generator.generate(Distribution.FEW_UNIQUE, 10_000));
+        assertTrue(fewUnique.getDuplicateRatio() > 0.5);
+        assertTrue(fewUnique.getComparisons() <= 10_000);
+    }
+
+    @Test
+    @DisplayName("Test selector choices per input shape")
+    void testChoices() {
+        InputGenerator generator = new InputGenerator(2);
+        assertEquals(SortSelector.Choice.STANDARD, choose(generator.generate(Distribution.RANDOM, 10)));
+        assertEquals(SortSelector.Choice.BINARY, choose(generator.generate(Distribution.RANDOM, 50)));
+        assertEquals(SortSelector.Choice.ADAPTIVE, choose(generator.generate(Distribution.SORTED, 10_000)));
+        assertEquals(SortSelector.Choice.ADAPTIVE, choose(generator.generate(Distribution.K_SORTED, 10_000)));
+        assertEquals(SortSelector.Choice.HYBRID, choose(generator.generate(Distribution.REVERSE, 10_000)));
+        assertEquals(SortSelector.Choice.HYBRID, choose(generator.generate(Distribution.RANDOM, 10_000)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Distribution.class)
+    @DisplayName("Test autoSort sorts every distribution with and without metrics")
+    void testAutoSort(Distribution distribution) {
+        InputGenerator generator = new InputGenerator(3);
+        for (int size : new int[]{0, 1, 10, 50, 1000}) {
+            int[] expected = generator.generate(distribution, size);
+            Arrays.sort(expected);
+
+            int[] arr = generator.generate(distribution, size);
+            new InsertionSort().autoSort(arr);
+            assertArrayEquals(expected, arr);
+
+            arr = generator.generate(distribution, size);
+            new InsertionSort(false).autoSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+    }
+
+    @Test
+    @DisplayName("Test autoSort records the decision and its cost in SortMetrics")
+    void testSelectionMetrics() {
+        InsertionSort sorter = new InsertionSort();
+        sorter.autoSort(new InputGenerator(4).generate(Distribution.REVERSE, 1000));
+
+        SortMetrics metrics = sorter.getMetrics();
+        assertEquals("HYBRID", metrics.getSelectedVariant());
+        assertTrue(metrics.getSelectionComparisons() > 0);
+        assertTrue(metrics.getSelectionTimeNanos() <= metrics.getExecutionTimeNanos());
+        assertTrue(metrics.toString().contains("selected=HYBRID"));
+
+        sorter.sort(new int[]{2, 1});
+        assertNull(sorter.getMetrics().getSelectedVariant());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SortSelector.Choice.class)
+    @DisplayName("Test every choice sorts inputs larger than TINY_THRESHOLD and the sorting networks")
+    void testChoicesAboveTinyThreshold(SortSelector.Choice choice) {
+        InputGenerator generator = new InputGenerator(5);
+        InsertionSort sorter = new InsertionSort(false);
+        for (int size : new int[]{SortSelector.TINY_THRESHOLD + 1, SortingNetworks.MAX_SIZE + 1, 200}) {
+            int[] arr = generator.generate(Distribution.RANDOM, size);
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            sorter.sortUninstrumented(choice, arr);
+            assertArrayEquals(expected, arr, choice + " n=" + size);
+        }
+    }
+}
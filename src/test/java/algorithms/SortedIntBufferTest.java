@@ -0,0 +1,141 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SortedIntBuffer (dense and gapped layouts)
+ */
+class SortedIntBufferTest {
+
+    private static void assertMatches(List<Integer> expected, SortedIntBuffer buffer) {
+        assertEquals(expected.size(), buffer.size());
+        int[] actual = buffer.toArray();
+        for (int i = 0; i < actual.length; i++) {
+            assertEquals(expected.get(i).intValue(), actual[i], "index " + i);
+            assertEquals(expected.get(i).intValue(), buffer.select(i), "select " + i);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(SortedIntBuffer.Layout.class)
+    @DisplayName("Test inserts keep the buffer sorted")
+    void testInsert(SortedIntBuffer.Layout layout) {
+        SortedIntBuffer buffer = new SortedIntBuffer(layout);
+        List<Integer> reference = new ArrayList<>();
+        Random rand = new Random(1);
+
+        for (int i = 0; i < 2000; i++) {
+            int value = rand.nextInt(500) - 250;
+            buffer.insert(value);
+            reference.add(value);
+        }
+        Collections.sort(reference);
+        assertMatches(reference, buffer);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SortedIntBuffer.Layout.class)
+    @DisplayName("Test rank counts strictly smaller values")
+    void testRank(SortedIntBuffer.Layout layout) {
+        SortedIntBuffer buffer = new SortedIntBuffer(layout);
+        for (int value : new int[]{5, 1, 5, 9, 3, 5, Integer.MIN_VALUE, Integer.MAX_VALUE}) {
+            buffer.insert(value);
+        }
+
+        assertEquals(0, buffer.rank(Integer.MIN_VALUE));
+        assertEquals(1, buffer.rank(1));
+        assertEquals(3, buffer.rank(5));
+        assertEquals(6, buffer.rank(6));
+        assertEquals(7, buffer.rank(Integer.MAX_VALUE));
+        assertEquals(5, buffer.percentile(50));
+        assertEquals(Integer.MAX_VALUE, buffer.percentile(100));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SortedIntBuffer.Layout.class)
+    @DisplayName("Test interleaved inserts and removals")
+    void testRemoveAt(SortedIntBuffer.Layout layout) {
+        SortedIntBuffer buffer = new SortedIntBuffer(layout);
+        List<Integer> reference = new ArrayList<>();
+        Random rand = new Random(2);
+
+        for (int i = 0; i < 5000; i++) {
+            if (!reference.isEmpty() && rand.nextInt(3) == 0) {
+                int index = rand.nextInt(reference.size());
+                assertEquals(reference.remove(index).intValue(), buffer.removeAt(index));
+            } else {
+                int value = rand.nextInt(100);
+                buffer.insert(value);
+                int pos = Collections.binarySearch(reference, value);
+                reference.add(pos < 0 ? -pos - 1 : pos, value);
+            }
+            if (i % 500 == 0) {
+                long smaller = reference.stream().filter(v -> v < 50).count();
+                assertEquals(smaller, buffer.rank(50));
+            }
+        }
+        assertMatches(reference, buffer);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SortedIntBuffer.Layout.class)
+    @DisplayName("Test batch inserts")
+    void testInsertAll(SortedIntBuffer.Layout layout) {
+        SortedIntBuffer buffer = new SortedIntBuffer(layout);
+        List<Integer> reference = new ArrayList<>();
+        Random rand = new Random(3);
+
+        for (int batchSize : new int[]{10, 1000, 3, 50, 4000}) {
+            int[] batch = new int[batchSize];
+            for (int i = 0; i < batchSize; i++) {
+                batch[i] = rand.nextInt();
+                reference.add(batch[i]);
+            }
+            buffer.insertAll(batch);
+        }
+        Collections.sort(reference);
+        assertMatches(reference, buffer);
+    }
+
+    @Test
+    @DisplayName("Test bounds and empty buffer")
+    void testBounds() {
+        SortedIntBuffer buffer = new SortedIntBuffer(SortedIntBuffer.Layout.GAPPED);
+        assertTrue(buffer.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.select(0));
+        assertThrows(IllegalStateException.class, () -> buffer.percentile(50));
+
+        buffer.insert(4);
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.removeAt(1));
+        assertEquals(4, buffer.removeAt(0));
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test gapped layout shifts far less than dense on random input")
+    void testGappedShiftsFewer() {
+        SortedIntBuffer dense = new SortedIntBuffer(SortedIntBuffer.Layout.DENSE);
+        SortedIntBuffer gapped = new SortedIntBuffer(SortedIntBuffer.Layout.GAPPED);
+        Random rand = new Random(4);
+
+        int n = 20000;
+        for (int i = 0; i < n; i++) {
+            int value = rand.nextInt();
+            dense.insert(value);
+            gapped.insert(value);
+        }
+
+        assertArrayEquals(dense.toArray(), gapped.toArray());
+        assertTrue(gapped.getMetrics().getShifts() * 20 < dense.getMetrics().getShifts());
+    }
+}
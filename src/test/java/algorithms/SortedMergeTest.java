@@ -0,0 +1,114 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SortedMerge
+ */
+class SortedMergeTest {
+
+    // Correctness Tests
+
+    @Test
+    @DisplayName("Test merge matches a full sort across delta/base ratios")
+    void testRatios() {
+        Random rand = new Random(23);
+        SortedMerge merger = new SortedMerge();
+        for (int n : new int[]{0, 1, 10, 1000}) {
+            for (int d : new int[]{1, 2, 17, 500, 3000}) {
+                int[] base = rand.ints(n, 0, 200).sorted().toArray();
+                int[] delta = rand.ints(d, -10, 210).toArray();
+                int[] expected = concatSorted(base, delta);
+
+                int[] result = merger.merge(base, delta);
+                assertArrayEquals(expected, result, "n=" + n + ", d=" + d);
+                assertTrue(InsertionSort.isSorted(delta));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test merge is in place when the base has spare capacity")
+    void testInPlace() {
+        int[] base = new int[10];
+        int[] values = {1, 3, 5, 7, 9};
+        System.arraycopy(values, 0, base, 0, values.length);
+        base[8] = -42;
+        base[9] = -43;
+
+        int[] result = new SortedMerge(false).merge(base, 5, new int[]{8, 0, 5});
+        assertSame(base, result);
+        assertArrayEquals(new int[]{0, 1, 3, 5, 5, 7, 8, 9, -42, -43}, base);
+    }
+
+    @Test
+    @DisplayName("Test delta elements before, after and between every base element")
+    void testExtremePositions() {
+        SortedMerge merger = new SortedMerge();
+        int[] base = {10, 20, 30, 40};
+
+        assertArrayEquals(new int[]{1, 2, 10, 20, 30, 40}, merger.merge(base, new int[]{2, 1}));
+        assertArrayEquals(new int[]{10, 20, 30, 40, 50, 60}, merger.merge(base, new int[]{60, 50}));
+        assertArrayEquals(new int[]{5, 10, 15, 20, 25, 30, 35, 40, 45},
+                merger.merge(base, new int[]{45, 5, 35, 15, 25}));
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, 10, 20, 30, 40, Integer.MAX_VALUE},
+                merger.merge(base, new int[]{Integer.MAX_VALUE, Integer.MIN_VALUE}));
+    }
+
+    // Metrics and Argument Tests
+
+    @Test
+    @DisplayName("Test appending after the base needs one comparison per delta element")
+    void testGallopCost() {
+        int[] base = new int[100_000];
+        for (int i = 0; i < base.length; i++) {
+            base[i] = i;
+        }
+        SortedMerge merger = new SortedMerge();
+        merger.merge(base, new int[]{200_000, 200_001, 200_002});
+
+        assertEquals(0, merger.getMetrics().getShifts());
+        assertTrue(merger.getMetrics().getComparisons() <= 3 + 3);
+
+        merger.merge(base, new int[]{-1});
+        assertEquals(base.length, merger.getMetrics().getShifts());
+        assertTrue(merger.getMetrics().getComparisons() <= 2 * 17 + 2);
+    }
+
+    @Test
+    @DisplayName("Test a single-element delta does not carry over the previous delta sort")
+    void testSingleElementAfterLargerDelta() {
+        SortedMerge merger = new SortedMerge();
+        merger.merge(new int[]{1, 2, 3}, new int[]{9, 4, 8, 5, 7, 6});
+        assertTrue(merger.getMetrics().getShifts() > 0);
+
+        merger.merge(new int[]{1, 2, 3}, new int[]{10});
+        assertEquals(1, merger.getMetrics().getComparisons());
+        assertEquals(0, merger.getMetrics().getShifts());
+    }
+
+    @Test
+    @DisplayName("Test null and out-of-range arguments")
+    void testArguments() {
+        SortedMerge merger = new SortedMerge();
+        int[] base = {1, 2};
+        assertSame(base, merger.merge(base, null));
+        assertSame(base, merger.merge(base, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> merger.merge(null, new int[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> merger.merge(base, 3, new int[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> merger.merge(base, -1, new int[]{1}));
+    }
+
+    private static int[] concatSorted(int[] a, int[] b) {
+        int[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        Arrays.sort(result);
+        return result;
+    }
+}
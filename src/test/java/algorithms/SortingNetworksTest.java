@@ -0,0 +1,95 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SortingNetworks
+ */
+class SortingNetworksTest {
+
+    @Test
+    @DisplayName("Test every network sorts all 0-1 inputs (0-1 principle)")
+    void testZeroOnePrinciple() {
+        for (int n = 2; n <= SortingNetworks.MAX_SIZE; n++) {
+            int[] arr = new int[n];
+            for (int bits = 0; bits < (1 << n); bits++) {
+                for (int i = 0; i < n; i++) {
+                    arr[i] = (bits >>> i) & 1;
+                }
+                SortingNetworks.sort(arr);
+
+                int zeros = n - Integer.bitCount(bits);
+                for (int i = 0; i < n; i++) {
+                    assertEquals(i < zeros ? 0 : 1, arr[i], "n=" + n + ", input=" + bits);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test random inputs with duplicates and extreme values")
+    void testRandom() {
+        Random rand = new Random(1);
+        for (int n = 0; n <= SortingNetworks.MAX_SIZE; n++) {
+            for (int trial = 0; trial < 200; trial++) {
+                int[] arr = new int[n];
+                for (int i = 0; i < n; i++) {
+                    switch (rand.nextInt(4)) {
+                        case 0:
+                            arr[i] = Integer.MIN_VALUE;
+                            break;
+                        case 1:
+                            arr[i] = Integer.MAX_VALUE;
+                            break;
+                        default:
+                            arr[i] = rand.nextInt(10) - 5;
+                    }
+                }
+                int[] expected = arr.clone();
+                Arrays.sort(expected);
+                SortingNetworks.sort(arr);
+                assertArrayEquals(expected, arr);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test range sort leaves elements outside the range untouched")
+    void testRange() {
+        int[] arr = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        SortingNetworks.sort(arr, 2, 8);
+        assertArrayEquals(new int[]{9, 8, 2, 3, 4, 5, 6, 7, 1, 0}, arr);
+
+        assertThrows(IllegalArgumentException.class, () -> SortingNetworks.sort(new int[17]));
+        assertEquals(60, SortingNetworks.comparators(16));
+        assertEquals(25, SortingNetworks.comparators(9));
+    }
+
+    @Test
+    @DisplayName("Test metrics-off InsertionSort dispatches small inputs to the networks")
+    void testInsertionSortDispatch() {
+        InsertionSort sorter = new InsertionSort(false);
+        Random rand = new Random(2);
+        for (int n = 0; n <= 20; n++) {
+            int[] source = rand.ints(n, -100, 100).toArray();
+            int[] expected = source.clone();
+            Arrays.sort(expected);
+
+            int[][] inputs = {source.clone(), source.clone(), source.clone(), source.clone(), source.clone()};
+            sorter.sort(inputs[0]);
+            sorter.binaryInsertionSort(inputs[1]);
+            sorter.sentinelInsertionSort(inputs[2]);
+            sorter.adaptiveInsertionSort(inputs[3]);
+            sorter.autoSort(inputs[4]);
+            for (int[] input : inputs) {
+                assertArrayEquals(expected, input, "n=" + n);
+            }
+        }
+    }
+}
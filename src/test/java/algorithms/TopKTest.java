@@ -0,0 +1,91 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for TopK
+ */
+class TopKTest {
+
+    // Correctness Tests
+
+    @Test
+    @DisplayName("Test smallest and largest k match a full sort")
+    void testAgainstFullSort() {
+        Random rand = new Random(22);
+        for (int k : new int[]{1, 5, 100}) {
+            int[] values = rand.ints(5000, -1000, 1000).toArray();
+            int[] sorted = values.clone();
+            Arrays.sort(sorted);
+
+            TopK smallest = TopK.smallest(k);
+            TopK largest = TopK.largest(k);
+            smallest.addAll(values);
+            largest.addAll(values);
+
+            assertArrayEquals(Arrays.copyOf(sorted, k), smallest.toArray());
+            int[] expectedLargest = new int[k];
+            for (int i = 0; i < k; i++) {
+                expectedLargest[i] = sorted[sorted.length - 1 - i];
+            }
+            assertArrayEquals(expectedLargest, largest.toArray());
+            assertEquals(sorted[k - 1], smallest.threshold());
+            assertEquals(5000, smallest.getSeen());
+        }
+    }
+
+    @Test
+    @DisplayName("Test extreme values and fewer values than k")
+    void testExtremesAndPartialWindow() {
+        TopK largest = TopK.largest(4);
+        largest.addAll(new int[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE});
+        assertEquals(3, largest.size());
+        assertArrayEquals(new int[]{Integer.MAX_VALUE, 0, Integer.MIN_VALUE}, largest.toArray());
+        assertThrows(IllegalStateException.class, largest::threshold);
+
+        TopK none = TopK.smallest(0);
+        none.add(1);
+        assertEquals(0, none.toArray().length);
+        assertThrows(IllegalArgumentException.class, () -> TopK.smallest(-1));
+    }
+
+    @Test
+    @DisplayName("Test full window rejects with one comparison")
+    void testRejectionCost() {
+        TopK top = TopK.smallest(10);
+        for (int i = 0; i < 10; i++) {
+            top.add(i);
+        }
+        long before = top.getMetrics().getComparisons();
+        for (int i = 0; i < 1000; i++) {
+            top.add(100 + i);
+        }
+        assertEquals(1000, top.getMetrics().getComparisons() - before);
+        assertEquals(0, top.getMetrics().getShifts());
+    }
+
+    // Stream Tests
+
+    @Test
+    @DisplayName("Test parallel IntStream collect with merge")
+    void testParallelStream() {
+        int[] values = new Random(3).ints(100_000).toArray();
+        TopK top = IntStream.of(values).parallel()
+                .collect(() -> TopK.largest(50), TopK::add, TopK::addAll);
+
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        assertEquals(sorted[sorted.length - 1], top.toArray()[0]);
+        assertEquals(sorted[sorted.length - 50], top.threshold());
+        assertEquals(values.length, top.getSeen());
+
+        assertThrows(IllegalArgumentException.class, () -> top.addAll(TopK.smallest(50)));
+    }
+}
@@ -0,0 +1,106 @@
+package data;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for InputGenerator and DatasetCache
+ */
+class InputGeneratorTest {
+
+    @ParameterizedTest
+    @EnumSource(Distribution.class)
+    @DisplayName("Test same seed gives the same data regardless of call order")
+    void testReproducible(Distribution distribution) {
+        InputGenerator first = new InputGenerator(7);
+        InputGenerator second = new InputGenerator(7);
+
+        second.generate(Distribution.RANDOM, 500); // unrelated call in between
+        assertArrayEquals(first.generate(distribution, 1000), second.generate(distribution, 1000));
+
+        int[] buffer = new int[1000];
+        second.fill(distribution, buffer);
+        assertArrayEquals(first.generate(distribution, 1000), buffer);
+
+        assertEquals(0, first.generate(distribution, 0).length);
+        assertEquals(1, first.generate(distribution, 1).length);
+    }
+
+    @Test
+    @DisplayName("Test different seeds give different random data")
+    void testSeeds() {
+        assertFalse(Arrays.equals(new InputGenerator(1).generate(Distribution.RANDOM, 100),
+                new InputGenerator(2).generate(Distribution.RANDOM, 100)));
+    }
+
+    @Test
+    @DisplayName("Test shape of structured distributions")
+    void testShapes() {
+        InputGenerator generator = new InputGenerator(3);
+
+        generator.setRunLength(4);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 0, 1, 2, 3, 0, 1}, generator.generate(Distribution.SAWTOOTH, 10));
+        assertArrayEquals(new int[]{0, 1, 2, 2, 1, 0}, generator.generate(Distribution.ORGAN_PIPE, 6));
+        assertArrayEquals(new int[]{4, 5, 2, 3, 0, 1}, generator.generate(Distribution.ADVERSARIAL, 6));
+        assertArrayEquals(new int[]{3, 4, 1, 2, 0}, generator.generate(Distribution.ADVERSARIAL, 5));
+        assertArrayEquals(new int[]{0}, generator.generate(Distribution.ADVERSARIAL, 1));
+
+        generator.setTailFraction(0.25);
+        int[] tail = generator.generate(Distribution.SORTED_RANDOM_TAIL, 100);
+        for (int i = 1; i < 75; i++) {
+            assertTrue(tail[i - 1] < tail[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test k-sorted elements stay within k of their sorted position")
+    void testKSorted() {
+        InputGenerator generator = new InputGenerator(4);
+        generator.setMaxDisplacement(5);
+        int[] arr = generator.generate(Distribution.K_SORTED, 2000);
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        for (int i = 0; i < arr.length; i++) {
+            int lo = Math.max(0, i - 5);
+            int hi = Math.min(arr.length, i + 6);
+            int value = arr[i];
+            assertTrue(Arrays.stream(sorted, lo, hi).anyMatch(v -> v == value), "index " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Test Zipf keys are skewed towards small keys")
+    void testZipf() {
+        int[] arr = new InputGenerator(5).generate(Distribution.ZIPF, 10_000);
+        long ones = Arrays.stream(arr).filter(v -> v == 1).count();
+        long twos = Arrays.stream(arr).filter(v -> v == 2).count();
+        assertTrue(Arrays.stream(arr).allMatch(v -> v >= 1 && v <= 1000));
+        assertTrue(ones > twos && twos > 0);
+        assertTrue(ones > arr.length / 20);
+    }
+
+    @Test
+    @DisplayName("Test dataset cache reuses and copies datasets")
+    void testCache() {
+        DatasetCache cache = new DatasetCache(9);
+        int[] first = cache.get(Distribution.RANDOM, 100);
+        assertSame(first, cache.get(Distribution.RANDOM, 100, 0));
+        assertFalse(Arrays.equals(first, cache.get(Distribution.RANDOM, 100, 1)));
+        assertArrayEquals(new InputGenerator(9).generate(Distribution.RANDOM, 100), first);
+
+        int[] work = new int[128];
+        cache.copyInto(Distribution.RANDOM, 100, 0, work);
+        assertArrayEquals(first, Arrays.copyOf(work, 100));
+        assertEquals(2, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+}
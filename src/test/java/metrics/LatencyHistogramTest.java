@@ -0,0 +1,97 @@
+package metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for LatencyHistogram
+ */
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Test bucket index round trip stays within relative precision")
+    void testBucketPrecision() {
+        Random rand = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            long value = rand.nextLong() >>> (1 + rand.nextInt(63));
+            long high = LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(value));
+            assertTrue(high >= value, "value " + value);
+            assertTrue(high - value <= value / 128, "value " + value);
+        }
+        for (long value = 0; value < 256; value++) {
+            assertEquals(value, LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(value)));
+        }
+    }
+
+    @Test
+    @DisplayName("Test percentiles match exact nearest-rank values within 1%")
+    void testPercentiles() {
+        Random rand = new Random(2);
+        long[] values = new long[10_000];
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000_000 + (long) (rand.nextGaussian() * 50_000 + rand.nextInt(200_000));
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double p : new double[]{50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+            long reported = histogram.percentile(p);
+            assertTrue(reported >= exact && reported - exact <= exact / 128, "p" + p);
+        }
+        assertEquals(values[values.length - 1], histogram.percentile(100));
+        assertEquals(values[values.length - 1], histogram.getMax());
+        assertEquals(values[0], histogram.getMin());
+        assertEquals(values.length, histogram.getCount());
+    }
+
+    @Test
+    @DisplayName("Test mean, standard deviation and confidence interval")
+    void testStatistics() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value : new long[]{2, 4, 4, 4, 5, 5, 7, 9}) {
+            histogram.record(value);
+        }
+        assertEquals(5.0, histogram.getMean(), 1e-9);
+        assertEquals(Math.sqrt(32.0 / 7), histogram.getStdDev(), 1e-9);
+        assertEquals(2.365 * Math.sqrt(32.0 / 7) / Math.sqrt(8), histogram.getConfidenceHalfWidth(), 1e-9);
+
+        LatencyHistogram other = new LatencyHistogram();
+        other.record(100);
+        histogram.add(other);
+        assertEquals(9, histogram.getCount());
+        assertEquals(100, histogram.getMax());
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.percentile(99));
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    }
+
+    @Test
+    @DisplayName("Test standard deviation of large values with a tight spread, recorded and merged")
+    void testStatisticsWithLargeOffset() {
+        long offset = 1_000_000_000L;
+        long[] deviations = {2, 4, 4, 4, 5, 5, 7, 9};
+        LatencyHistogram recorded = new LatencyHistogram();
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        for (int i = 0; i < deviations.length; i++) {
+            recorded.record(offset + deviations[i]);
+            (i < 3 ? first : second).record(offset + deviations[i]);
+        }
+        first.add(second);
+        first.add(new LatencyHistogram());
+
+        for (LatencyHistogram histogram : new LatencyHistogram[]{recorded, first}) {
+            assertEquals(offset + 5.0, histogram.getMean(), 1e-3);
+            assertEquals(Math.sqrt(32.0 / 7), histogram.getStdDev(), 1e-6);
+        }
+    }
+}
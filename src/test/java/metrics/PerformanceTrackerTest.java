@@ -0,0 +1,66 @@
+package metrics;
+
+import algorithms.SortMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for PerformanceTracker exports
+ */
+class PerformanceTrackerTest {
+
+    @TempDir
+    Path dir;
+
+    private static LatencyHistogram latencies(long... nanos) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value : nanos) {
+            histogram.record(value);
+        }
+        return histogram;
+    }
+
+    @Test
+    @DisplayName("Test comparison CSV has speedups and a winner per group")
+    void testComparisonCsv() throws IOException {
+        PerformanceTracker tracker = new PerformanceTracker();
+        tracker.addResult("binary", "RANDOM", 100, new SortMetrics(), latencies(2_000_000, 2_000_000, 2_000_000));
+        tracker.addResult("baseline", "RANDOM", 100, new SortMetrics(), latencies(1_000_000, 1_000_000));
+        tracker.addResult("binary", "SORTED", 100, new SortMetrics(), latencies(250_000));
+        tracker.addResult("baseline", "SORTED", 100, new SortMetrics(), latencies(1_000_000));
+
+        Path file = dir.resolve("summary.csv");
+        tracker.exportComparisonCSV(file.toString(), "baseline");
+        List<String> lines = Files.readAllLines(file);
+
+        assertEquals("DataType,InputSize,binaryP50Ms,binarySpeedup,baselineP50Ms,baselineSpeedup,Winner",
+                lines.get(0));
+        assertEquals("RANDOM,100,2.0000,0.500,1.0000,1.000,baseline", lines.get(1));
+        assertEquals("SORTED,100,0.2500,4.000,1.0000,1.000,binary", lines.get(2));
+    }
+
+    @Test
+    @DisplayName("Test aggregated results are averaged per run")
+    void testAggregatedResult() throws IOException {
+        SortMetrics totals = new SortMetrics();
+        totals.addComparisons(30);
+        totals.addShifts(9);
+
+        PerformanceTracker tracker = new PerformanceTracker();
+        tracker.addAggregatedResult("adaptive", "RANDOM", 10, totals, latencies(1, 2, 3));
+
+        Path file = dir.resolve("results.csv");
+        tracker.exportToCSV(file.toString());
+        List<String> lines = Files.readAllLines(file);
+        assertTrue(lines.get(0).startsWith("Variant,DataType,InputSize,Comparisons,Swaps,Shifts"));
+        assertTrue(lines.get(1).startsWith("adaptive,RANDOM,10,10,0,3,0,3,"));
+    }
+}
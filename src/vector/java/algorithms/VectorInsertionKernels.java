@@ -0,0 +1,133 @@
+package algorithms;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementation of {@link IntInsertionKernels}
+ *
+ * Compiled only by the vector profile; {@link SimdInsertionSort} loads it
+ * reflectively and falls back to the scalar kernels when it is absent.
+ *
+ * POSITION SEARCH (sorted prefix arr[from, i), key = arr[i]):
+ * - Scalar binary search shrinks the candidate range [lo, hi] to at most LANES
+ * - One vector load of the prefix covering the range, compared lane-wise with
+ *   key; the number of lanes <= key (popcount of the mask) is the offset of
+ *   the insertion point. Elements before lo are all <= key, so the window may
+ *   start earlier to stay inside the prefix without a masked load.
+ * The position is the upper bound, so equal keys keep their order.
+ */
+final class VectorInsertionKernels implements IntInsertionKernels {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    VectorInsertionKernels() {
+    }
+
+    @Override
+    public void binaryInsertionSortRange(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = arr[i];
+            if (arr[i - 1] <= key) {
+                continue;
+            }
+
+            int pos = i - from < LANES ? scalarUpperBound(arr, from, i - 1, key) : vectorUpperBound(arr, from, i, key);
+            System.arraycopy(arr, pos, arr, pos + 1, i - pos);
+            arr[pos] = key;
+        }
+    }
+
+    @Override
+    public void sentinelInsertionSortRange(int[] arr, int from, int to) {
+        int minIndex = minIndex(arr, from, to);
+        if (minIndex != from) {
+            int temp = arr[from];
+            arr[from] = arr[minIndex];
+            arr[minIndex] = temp;
+        }
+
+        for (int i = from + 2; i < to; i++) {
+            int key = arr[i];
+            int j = i - 1;
+
+            while (arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+
+            arr[j + 1] = key;
+        }
+    }
+
+    @Override
+    public String describe() {
+        return "Vector API (" + SPECIES.vectorBitSize() + "-bit, " + LANES + " lanes)";
+    }
+
+    /**
+     * First index in [lo, i) whose element is > key; requires i - from >= LANES
+     * and arr[i - 1] > key
+     */
+    private static int vectorUpperBound(int[] arr, int from, int i, int key) {
+        int lo = from;
+        int hi = i - 1;
+        while (hi - lo > LANES) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        int start = Math.min(lo, i - LANES);
+        VectorMask<Integer> le = IntVector.fromArray(SPECIES, arr, start).compare(VectorOperators.LE, key);
+        return start + le.trueCount();
+    }
+
+    private static int scalarUpperBound(int[] arr, int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Index of the first minimum of arr[from, to): lane-wise min reduction,
+     * then a lane-wise equality search for its first occurrence
+     */
+    private static int minIndex(int[] arr, int from, int to) {
+        int bound = from + SPECIES.loopBound(to - from);
+
+        IntVector mins = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        for (int k = from; k < bound; k += LANES) {
+            mins = mins.min(IntVector.fromArray(SPECIES, arr, k));
+        }
+        int min = mins.reduceLanes(VectorOperators.MIN);
+        for (int k = bound; k < to; k++) {
+            min = Math.min(min, arr[k]);
+        }
+
+        for (int k = from; k < bound; k += LANES) {
+            VectorMask<Integer> eq = IntVector.fromArray(SPECIES, arr, k).eq(min);
+            if (eq.anyTrue()) {
+                return k + eq.firstTrue();
+            }
+        }
+        for (int k = bound; k < to; k++) {
+            if (arr[k] == min) {
+                return k;
+            }
+        }
+        return from;
+    }
+}